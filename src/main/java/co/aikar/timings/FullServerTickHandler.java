@@ -98,7 +98,11 @@ public void stopTiming() {
             this.minuteData.reset();
         }
         if (TimingHistory.timedTicks % Timings.getHistoryInterval() == 0) {
-            TimingsManager.HISTORY.add(new TimingHistory());
+            final TimingHistory history = new TimingHistory();
+            TimingsManager.HISTORY.add(history);
+            if (TimingsManager.localExport) {
+                TimingsStore.store(history);
+            }
             TimingsManager.resetTimings();
         }
     }
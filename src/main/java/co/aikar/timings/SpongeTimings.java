@@ -25,6 +25,7 @@
 package co.aikar.timings;
 
 import net.minecraft.block.Block;
+import net.minecraft.network.Packet;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.tileentity.TileEntity;
 import org.spongepowered.api.block.tileentity.TileEntityType;
@@ -33,6 +34,9 @@
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.scheduler.Task;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public final class SpongeTimings {
 
     public static final Timing playerListTimer = SpongeTimingsFactory.ofSafe("Player List");
@@ -68,6 +72,8 @@ public final class SpongeTimings {
 
     public static final Timing TRACKING_PHASE_UNWINDING = SpongeTimingsFactory.ofSafe("## unwindPhase");
 
+    private static final Map<Class<?>, Timing> packetTimings = new ConcurrentHashMap<>();
+
     private SpongeTimings() {
     }
 
@@ -118,6 +124,34 @@ public static Timing getTileEntityTiming(TileEntity entity) {
         return SpongeTimingsFactory.ofSafe("Minecraft", "## tickTileEntity - " + entityType);
     }
 
+    /**
+     * Get a named timer for the specified packet type to track the time spent
+     * processing inbound packets of that type. Timers are cached per class.
+     *
+     * @param packet
+     * @return
+     */
+    public static Timing getPacketTiming(Packet<?> packet) {
+        return packetTimings.computeIfAbsent(packet.getClass(), packetClass -> {
+            // Keep the outer class of nested packets, such as CPacketPlayer$Position
+            String packetType = packetClass.getName().substring(packetClass.getName().lastIndexOf('.') + 1);
+            return SpongeTimingsFactory.ofSafe("Minecraft", "## processPacket - " + packetType);
+        });
+    }
+
+    /**
+     * Records time which was measured off the server thread, such as the tick
+     * of a world ticked in parallel, in the given timer.
+     *
+     * @param timing
+     * @param nanos
+     */
+    public static void recordTime(Timing timing, long nanos) {
+        if (timing instanceof TimingHandler && ((TimingHandler) timing).enabled) {
+            ((TimingHandler) timing).addDiff(nanos);
+        }
+    }
+
     public static Timing getModTimings(PluginContainer plugin, String context) {
         return SpongeTimingsFactory.ofSafe(plugin.getName(), context, TimingsManager.MOD_EVENT_HANDLER);
     }
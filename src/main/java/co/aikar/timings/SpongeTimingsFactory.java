@@ -58,9 +58,14 @@ public void init() {
         setTimingsEnabled(this.moduleEnabled && config.isEnabled());
         setHistoryInterval(config.getHistoryInterval());
         setHistoryLength(config.getHistoryLength());
+        TimingsManager.samplingInterval = config.getSamplingInterval();
+        TimingsManager.localExport = "local".equalsIgnoreCase(config.getExportMode());
+        TimingsManager.localHistoryDays = config.getLocalHistoryDays();
+        setSamplingEnabled(config.isSampling());
 
         SpongeImpl.getLogger().debug("Sponge Timings: " + this.timingsEnabled +
                                     " - Verbose: " + this.verboseEnabled +
+                                    " - Sampling: " + TimingsManager.samplingRequested +
                                     " - Interval: " + timeSummary(this.historyInterval / 20) +
                                     " - Length: " + timeSummary(this.historyLength / 20));
     }
@@ -178,6 +183,42 @@ public static long getCost() {
         return TimingsExport.getCost();
     }
 
+    /**
+     * Lists the most recent timings history snapshots stored on disk.
+     *
+     * @param sender The command source to report to
+     * @param count The maximum amount of snapshots
+     */
+    public static void listStoredHistory(CommandSource sender, int count) {
+        TimingsStore.list(sender, count);
+    }
+
+    /**
+     * Compares two timings history snapshots stored on disk.
+     *
+     * @param sender The command source to report to
+     * @param from The index of the first snapshot, starting at 1 for the newest
+     * @param to The index of the second snapshot
+     */
+    public static void diffStoredHistory(CommandSource sender, int from, int to) {
+        TimingsStore.diff(sender, from, to);
+    }
+
+    public static boolean isSamplingEnabled() {
+        return TimingsManager.samplingRequested;
+    }
+
+    /**
+     * Sets whether nested timings are sampled instead of timed exactly,
+     * the mode changes with the next reset of the timings.
+     *
+     * @param enabled Whether sampling is enabled
+     */
+    public static void setSamplingEnabled(boolean enabled) {
+        TimingsManager.samplingRequested = enabled;
+        TimingsManager.reset();
+    }
+
     public static TimingHandler ofSafe(String name) {
         return ofSafe(null, name, null);
     }
@@ -28,9 +28,13 @@
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.ParallelWorldTicker;
+
+import java.util.concurrent.atomic.AtomicLong;
 
 class TimingHandler implements Timing {
 
+    private static final int MAX_SAMPLE_DEPTH = 64;
     private static int idPool = 1;
     final int id = idPool++;
 
@@ -49,6 +53,11 @@ class TimingHandler implements Timing {
     boolean enabled;
     private TimingHandler parent;
 
+    // Sampling mode, the time is collected by the sampler thread
+    final AtomicLong sampledTime = new AtomicLong();
+    private int sampledCalls;
+    private boolean sampled;
+
     TimingHandler(TimingIdentifier id) {
         if (id.name.startsWith("##")) {
             this.verbose = true;
@@ -106,25 +115,42 @@ public void stopTimingIfSync() {
 
     @Override
     public TimingHandler startTiming() {
-        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
+        // Timings aren't thread-safe, worlds ticked in parallel are only timed as a whole
+        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()
+                || ParallelWorldTicker.isWorldTickThread()) {
             return this;
         }
 
         if (++this.timingDepth == 1) {
-            this.start = System.nanoTime();
             this.parent = TimingsManager.CURRENT;
             TimingsManager.CURRENT = this;
+            // Only coarse top level sections are timed exactly while sampling
+            this.sampled = TimingsManager.sampling && this.parent != null && this.parent != TimingsManager.FULL_SERVER_TICK && !isSpecial();
+            if (this.sampled) {
+                this.sampledCalls++;
+                markTimed();
+                return this;
+            }
+            this.start = System.nanoTime();
         }
         return this;
     }
 
     @Override
     public void stopTiming() {
-        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()) {
+        if (!this.enabled || SpongeImpl.getGame().getPlatform().getExecutionType().isClient()
+                || ParallelWorldTicker.isWorldTickThread()) {
             return;
         }
 
-        if (--this.timingDepth == 0 && this.start != 0) {
+        if (--this.timingDepth != 0) {
+            return;
+        }
+        if (this.sampled) {
+            if (TimingsManager.CURRENT == this) {
+                TimingsManager.CURRENT = this.parent;
+            }
+        } else if (this.start != 0) {
             if (!SpongeImpl.getServer().isCallingFromMinecraftThread()) {
                 SpongeImpl.getLogger().fatal("stopTiming called async for " + this.name);
                 new Throwable().printStackTrace();
@@ -162,6 +188,53 @@ void addDiff(long diff) {
         }
     }
 
+    private void markTimed() {
+        if (!this.added) {
+            this.added = true;
+            this.timed = true;
+            TimingsManager.HANDLERS.add(this);
+        }
+        if (this.groupHandler != null) {
+            this.groupHandler.markTimed();
+        }
+    }
+
+    /**
+     * Moves the calls and sampled time of the current tick into the timing
+     * data. The sampled time is included in all parents up to the first
+     * exactly timed one, as these already measured it.
+     */
+    void processSamples() {
+        if (this.sampledCalls != 0) {
+            this.record.curTickCount += this.sampledCalls;
+            if (this.parent != null) {
+                this.parent.children.get(this.id).curTickCount += this.sampledCalls;
+            }
+            if (this.groupHandler != null) {
+                this.groupHandler.record.curTickCount += this.sampledCalls;
+                this.groupHandler.children.get(this.id).curTickCount += this.sampledCalls;
+            }
+            this.sampledCalls = 0;
+        }
+        final long time = this.sampledTime.getAndSet(0);
+        if (time == 0) {
+            return;
+        }
+        TimingHandler handler = this;
+        // The depth is limited in case a handler got started by its own child
+        for (int depth = 0; handler != null && handler.sampled && depth < MAX_SAMPLE_DEPTH; depth++) {
+            handler.record.curTickTotal += time;
+            if (handler.parent != null) {
+                handler.parent.children.get(handler.id).curTickTotal += time;
+            }
+            if (handler.groupHandler != null) {
+                handler.groupHandler.record.curTickTotal += time;
+                handler.groupHandler.children.get(handler.id).curTickTotal += time;
+            }
+            handler = handler.parent;
+        }
+    }
+
     /**
      * Reset this timer, setting all values to zero.
      *
@@ -175,6 +248,8 @@ void reset(boolean full) {
         this.start = 0;
         this.timingDepth = 0;
         this.added = false;
+        this.sampledTime.set(0);
+        this.sampledCalls = 0;
         this.children.clear();
         checkEnabled();
     }
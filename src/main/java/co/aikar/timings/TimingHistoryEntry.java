@@ -29,10 +29,12 @@
 
 class TimingHistoryEntry {
 
+    final String name;
     final TimingData data;
     final TimingData[] children;
 
     TimingHistoryEntry(TimingHandler handler) {
+        this.name = handler.name;
         this.data = handler.record.clone();
         this.children = new TimingData[handler.children.size()];
         int i = 0;
@@ -49,6 +49,7 @@
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.SpongeEntityType;
+import org.spongepowered.common.scheduler.TaskMetrics;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -109,6 +110,7 @@ static void reportTimings(CommandSource sender) {
         RuntimeMXBean runtimeBean = ManagementFactory.getRuntimeMXBean();
         builder.add("system", JSONUtil.objectBuilder()
                 .add("timingcost", getCost())
+                .add("samplinginterval", TimingsManager.sampling ? TimingsManager.samplingInterval : 0)
                 .add("name", System.getProperty("os.name"))
                 .add("version", System.getProperty("os.version"))
                 .add("jvmversion", System.getProperty("java.version"))
@@ -121,6 +123,13 @@ static void reportTimings(CommandSource sender) {
                     return JSONUtil.singleObjectPair(input.getName(), JSONUtil.arrayOf(input.getCollectionCount(), input.getCollectionTime()));
                 })));
 
+        final TaskMetrics asyncTaskMetrics = SpongeImpl.getScheduler().getAsyncTaskMetrics();
+        builder.add("scheduler", JSONUtil.objectBuilder()
+                .add("asyncexecutor", SpongeImpl.getScheduler().getAsyncExecutorType())
+                .add("asyncqueued", asyncTaskMetrics.getQueuedCount())
+                .add("asyncactive", asyncTaskMetrics.getActiveCount())
+                .add("asyncrejected", asyncTaskMetrics.getRejectedCount()));
+
         Set<BlockType> blockTypeSet = Sets.newHashSet();
         Set<EntityType> entityTypeSet = Sets.newHashSet();
 
@@ -261,6 +270,11 @@ public void run() {
 
         this.out.add("data", JSONUtil.mapArray(this.history, TimingHistory::export));
 
+        if (TimingsManager.localExport) {
+            TimingsStore.writeReport(this.sender, this.out);
+            return;
+        }
+
         String response = null;
         try {
             String hostname = "localhost";
@@ -56,7 +56,13 @@ public final class TimingsManager {
     static final ArrayDeque<TimingHistory.MinuteReport> MINUTE_REPORTS = new ArrayDeque<>();
 
     static EvictingQueue<TimingHistory> HISTORY = EvictingQueue.create(12);
-    static TimingHandler CURRENT;
+    // Volatile so the sampler thread sees the handler that is currently running
+    static volatile TimingHandler CURRENT;
+    static boolean sampling = false;
+    static boolean samplingRequested = false;
+    static int samplingInterval = 1000;
+    static boolean localExport = false;
+    static int localHistoryDays = 14;
     static long timingStart = 0;
     static long historyStart = 0;
     static boolean needsFullReset = false;
@@ -80,6 +86,11 @@ static void tick() {
         if (Timings.isTimingsEnabled()) {
             boolean violated = FULL_SERVER_TICK.isViolated();
 
+            if (sampling) {
+                for (TimingHandler handler : HANDLERS) {
+                    handler.processSamples();
+                }
+            }
             for (TimingHandler handler : HANDLERS) {
                 if (handler.isSpecial()) {
                     // We manually call this
@@ -97,6 +108,7 @@ static void tick() {
     static void stopServer() {
         Timings.setTimingsEnabled(false);
         recheckEnabled();
+        TimingsSampler.stop();
     }
 
     static void recheckEnabled() {
@@ -121,6 +133,13 @@ static void resetTimings() {
                 SpongeImpl.getLogger().info("Timings reset");
             }
             HISTORY.clear();
+            // The timing mode can only change here, while no handler is running
+            sampling = samplingRequested && Timings.isTimingsEnabled();
+            if (sampling) {
+                TimingsSampler.start(samplingInterval);
+            } else {
+                TimingsSampler.stop();
+            }
             needsFullReset = false;
             needsRecheckEnabled = false;
             timingStart = System.currentTimeMillis();
@@ -0,0 +1,90 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package co.aikar.timings;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.annotation.Nullable;
+
+/**
+ * Samples the timing handler which is currently running on the main thread
+ * at a fixed rate. The time between two samples is assigned to the sampled
+ * handler and later included in the timing data by
+ * {@link TimingHandler#processSamples()}.
+ */
+final class TimingsSampler implements Runnable {
+
+    @Nullable private static TimingsSampler instance;
+
+    private final long intervalNanos;
+    private volatile boolean running = true;
+
+    private TimingsSampler(long intervalNanos) {
+        this.intervalNanos = intervalNanos;
+    }
+
+    /**
+     * Starts the sampler thread, restarting it if the interval changed.
+     *
+     * @param intervalMicros The sample interval in microseconds
+     */
+    static synchronized void start(int intervalMicros) {
+        final long intervalNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(100, intervalMicros));
+        if (instance != null) {
+            if (instance.intervalNanos == intervalNanos) {
+                return;
+            }
+            instance.running = false;
+        }
+        instance = new TimingsSampler(intervalNanos);
+        final Thread thread = new Thread(instance, "Sponge - Timings Sampler");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+    }
+
+    static synchronized void stop() {
+        if (instance != null) {
+            instance.running = false;
+            instance = null;
+        }
+    }
+
+    @Override
+    public void run() {
+        long last = System.nanoTime();
+        while (this.running) {
+            LockSupport.parkNanos(this.intervalNanos);
+            final long now = System.nanoTime();
+            final TimingHandler current = TimingsManager.CURRENT;
+            if (current != null) {
+                current.sampledTime.addAndGet(now - last);
+            }
+            last = now;
+        }
+    }
+
+}
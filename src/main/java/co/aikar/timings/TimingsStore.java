@@ -0,0 +1,297 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package co.aikar.timings;
+
+import co.aikar.util.JSONUtil;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the timing history on disk instead of uploading it.
+ *
+ * <p>Every history interval a snapshot of the {@link TimingHistory} is
+ * appended as a JSON line to a gzip compressed file of the current day.
+ * Files older than the configured amount of days are deleted. All disk
+ * access happens on a single background thread, the history itself is
+ * already a copy of the timing data, so nothing is copied on the main
+ * thread.</p>
+ */
+final class TimingsStore {
+
+    private static final String HISTORY_SUFFIX = ".jsonl.gz";
+    private static final DateTimeFormatter REPORT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss");
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge - Timings Store Thread")
+            .setDaemon(true)
+            .build());
+
+    private TimingsStore() {
+    }
+
+    private static Path getDirectory() {
+        return SpongeImpl.getGameDir().resolve("timings");
+    }
+
+    /**
+     * Appends a history snapshot to the store of the current day.
+     *
+     * @param history The history
+     */
+    static void store(TimingHistory history) {
+        EXECUTOR.execute(() -> {
+            final JsonObject snapshot = JSONUtil.objectBuilder()
+                    .add("s", history.startTime)
+                    .add("e", history.endTime)
+                    .add("tk", history.totalTicks)
+                    .add("tm", history.totalTime)
+                    .add("tps", getAverageTps(history))
+                    .add("h", JSONUtil.mapArray(history.entries, (entry) -> entry.data.count == 0 ? null
+                            : JSONUtil.arrayOf(entry.name, entry.data.count, entry.data.totalTime)))
+                    .build();
+            final Path directory = getDirectory();
+            // Every write appends a new gzip member, concatenated members are read as one stream
+            try {
+                Files.createDirectories(directory);
+                try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(
+                        directory.resolve(LocalDate.now() + HISTORY_SUFFIX), StandardOpenOption.CREATE, StandardOpenOption.APPEND)),
+                        StandardCharsets.UTF_8)) {
+                    writer.write(JSONUtil.toString(snapshot));
+                    writer.write('\n');
+                }
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Could not store timings history", e);
+                return;
+            }
+            deleteExpired(directory);
+        });
+    }
+
+    private static double getAverageTps(TimingHistory history) {
+        if (history.minuteReports.length == 0) {
+            return 0;
+        }
+        double tps = 0;
+        for (TimingHistory.MinuteReport report : history.minuteReports) {
+            tps += report.tps;
+        }
+        return Math.round(tps / history.minuteReports.length * 100D) / 100D;
+    }
+
+    private static void deleteExpired(Path directory) {
+        final LocalDate oldest = LocalDate.now().minusDays(Math.max(1, TimingsManager.localHistoryDays));
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + HISTORY_SUFFIX)) {
+            for (Path file : stream) {
+                final String name = file.getFileName().toString();
+                try {
+                    if (LocalDate.parse(name.substring(0, name.length() - HISTORY_SUFFIX.length())).isBefore(oldest)) {
+                        Files.delete(file);
+                    }
+                } catch (DateTimeParseException ignored) {
+                    // Not a history file
+                }
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Could not delete expired timings history", e);
+        }
+    }
+
+    /**
+     * Writes a full timings report to a file instead of uploading it.
+     *
+     * @param sender The command source which requested the report
+     * @param report The report
+     */
+    static void writeReport(CommandSource sender, JsonObject report) {
+        final Path file = getDirectory().resolve("report-" + LocalDateTime.now().format(REPORT_FORMAT) + ".json.gz");
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+                out.write(JSONUtil.toString(report).getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            sender.sendMessage(Text.of(TextColors.RED, "Error writing timings, check your logs for more information"));
+            SpongeImpl.getLogger().error("Could not write timings report", e);
+            return;
+        }
+        sender.sendMessage(Text.of(TextColors.GREEN, "Timings Report written to ", file.toAbsolutePath().toString()));
+    }
+
+    /**
+     * Reads all stored snapshots, newest first.
+     */
+    private static List<JsonObject> readSnapshots() throws IOException {
+        final List<JsonObject> snapshots = Lists.newArrayList();
+        final Path directory = getDirectory();
+        if (!Files.isDirectory(directory)) {
+            return snapshots;
+        }
+        final List<Path> files = Lists.newArrayList();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + HISTORY_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        Collections.sort(files);
+        final JsonParser parser = new JsonParser();
+        for (Path file : files) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)),
+                    StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isEmpty()) {
+                        snapshots.add(parser.parse(line).getAsJsonObject());
+                    }
+                }
+            }
+        }
+        Collections.reverse(snapshots);
+        return snapshots;
+    }
+
+    private static String formatTime(JsonObject snapshot, String key) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(snapshot.get(key).getAsLong()), ZoneId.systemDefault())
+                .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    /**
+     * Lists the most recent stored snapshots.
+     *
+     * @param sender The command source
+     * @param count The maximum amount of snapshots to list
+     */
+    static void list(CommandSource sender, int count) {
+        EXECUTOR.execute(() -> {
+            final List<JsonObject> snapshots;
+            try {
+                snapshots = readSnapshots();
+            } catch (IOException e) {
+                sender.sendMessage(Text.of(TextColors.RED, "Error reading timings history, check your logs for more information"));
+                SpongeImpl.getLogger().error("Could not read timings history", e);
+                return;
+            }
+            if (snapshots.isEmpty()) {
+                sender.sendMessage(Text.of(TextColors.RED, "No timings history stored"));
+                return;
+            }
+            for (int i = 0; i < Math.min(count, snapshots.size()); i++) {
+                final JsonObject snapshot = snapshots.get(i);
+                sender.sendMessage(Text.of(TextColors.GOLD, i + 1, TextColors.RESET, ": ", formatTime(snapshot, "s"), " - ",
+                        formatTime(snapshot, "e"), " TPS: ", TextColors.LIGHT_PURPLE, snapshot.get("tps").getAsDouble()));
+            }
+        });
+    }
+
+    /**
+     * Compares the average time per tick of every handler between two stored
+     * snapshots and reports the largest changes.
+     *
+     * @param sender The command source
+     * @param from The index of the first snapshot, starting at 1 for the newest
+     * @param to The index of the second snapshot
+     */
+    static void diff(CommandSource sender, int from, int to) {
+        EXECUTOR.execute(() -> {
+            final List<JsonObject> snapshots;
+            try {
+                snapshots = readSnapshots();
+            } catch (IOException e) {
+                sender.sendMessage(Text.of(TextColors.RED, "Error reading timings history, check your logs for more information"));
+                SpongeImpl.getLogger().error("Could not read timings history", e);
+                return;
+            }
+            if (from < 1 || to < 1 || from > snapshots.size() || to > snapshots.size()) {
+                sender.sendMessage(Text.of(TextColors.RED, "There are only " + snapshots.size() + " stored snapshots"));
+                return;
+            }
+            final JsonObject first = snapshots.get(from - 1);
+            final JsonObject second = snapshots.get(to - 1);
+            final Map<String, Double> firstTimes = getTimePerTick(first);
+            final Map<String, Double> secondTimes = getTimePerTick(second);
+            final Map<String, Double> changes = Maps.newHashMap();
+            for (Map.Entry<String, Double> entry : secondTimes.entrySet()) {
+                changes.put(entry.getKey(), entry.getValue() - firstTimes.getOrDefault(entry.getKey(), 0D));
+            }
+            for (Map.Entry<String, Double> entry : firstTimes.entrySet()) {
+                changes.putIfAbsent(entry.getKey(), -entry.getValue());
+            }
+            final List<Map.Entry<String, Double>> sorted = Lists.newArrayList(changes.entrySet());
+            sorted.sort((a, b) -> Double.compare(Math.abs(b.getValue()), Math.abs(a.getValue())));
+
+            sender.sendMessage(Text.of(TextColors.GREEN, "Timings from ", formatTime(first, "s"), " to ", formatTime(second, "s"),
+                    ", TPS: ", first.get("tps").getAsDouble(), " -> ", second.get("tps").getAsDouble()));
+            for (Map.Entry<String, Double> entry : sorted.subList(0, Math.min(10, sorted.size()))) {
+                final double change = entry.getValue();
+                sender.sendMessage(Text.of(entry.getKey(), ": ", change > 0 ? TextColors.RED : TextColors.GREEN,
+                        String.format("%+.3f", change), "ms/tick", TextColors.RESET,
+                        " (", String.format("%.3f", secondTimes.getOrDefault(entry.getKey(), 0D)), "ms/tick)"));
+            }
+        });
+    }
+
+    private static Map<String, Double> getTimePerTick(JsonObject snapshot) {
+        final Map<String, Double> times = Maps.newHashMap();
+        final long ticks = Math.max(1, snapshot.get("tk").getAsLong());
+        final JsonArray handlers = snapshot.getAsJsonArray("h");
+        for (JsonElement element : handlers) {
+            final JsonArray handler = element.getAsJsonArray();
+            // Handlers of different groups may share a name
+            times.merge(handler.get(0).getAsString(), handler.get(2).getAsLong() / 1.0e6d / ticks, Double::sum);
+        }
+        return times;
+    }
+
+}
@@ -56,6 +56,7 @@ public class WorldTimingsHandler {
     public final Timing tracker2;
     public final Timing doTick;
     public final Timing tickEntities;
+    public final Timing parallelTick;
 
     // Chunk Load
     public final Timing syncChunkLoadTimer;
@@ -112,6 +113,7 @@ public WorldTimingsHandler(World world) {
         this.tracker2 = SpongeTimingsFactory.ofSafe(name + "tracker stage 2");
         this.doTick = SpongeTimingsFactory.ofSafe(name + "doTick");
         this.tickEntities = SpongeTimingsFactory.ofSafe(name + "tickEntities");
+        this.parallelTick = SpongeTimingsFactory.ofSafe(name + "parallelTick");
 
         this.causeTrackerBlockTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - BlockCaptures");
         this.causeTrackerBlockBreakTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - BlockBreakCaptures");
@@ -178,6 +178,14 @@ public static void registerPortalAgentType(@Nullable Teleporter teleporter) {
         // Overwritten in SpongeForge
     }
 
+    public static void onPreWorldTick(WorldServer world) {
+        // Overwritten in SpongeForge
+    }
+
+    public static void onPostWorldTick(WorldServer world) {
+        // Overwritten in SpongeForge
+    }
+
     // World provider
 
     public static boolean canDoLightning(WorldProvider provider, net.minecraft.world.chunk.Chunk chunk) {
@@ -29,9 +29,12 @@
 import net.minecraft.server.MinecraftServer;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.game.state.GameStartedServerEvent;
+import org.spongepowered.api.event.game.state.GameStoppedServerEvent;
 import org.spongepowered.api.event.service.ChangeServiceProviderEvent;
 import org.spongepowered.api.event.world.SaveWorldEvent;
 import org.spongepowered.common.interfaces.server.management.IMixinPlayerProfileCache;
+import org.spongepowered.common.service.user.ProfileCatalogue;
 import org.spongepowered.common.util.SpongeUsernameCache;
 
 import java.util.Iterator;
@@ -73,6 +76,7 @@ public void onWorldSave(SaveWorldEvent event) {
         if (Sponge.getServer().getDefaultWorld().isPresent()) {
             if (event.getTargetWorld().getUniqueId().equals(Sponge.getServer().getDefaultWorld().get().getUniqueId())) {
                 SpongeUsernameCache.save();
+                ProfileCatalogue.save();
                 final MinecraftServer server = SpongeImpl.getServer();
                 ((IMixinPlayerProfileCache) server.getPlayerProfileCache()).setCanSave(true);
                 server.getPlayerProfileCache().save();
@@ -81,6 +85,16 @@ public void onWorldSave(SaveWorldEvent event) {
         }
     }
 
+    @Listener
+    public void onServerStarted(GameStartedServerEvent event) {
+        ProfileCatalogue.load();
+    }
+
+    @Listener
+    public void onServerStopped(GameStoppedServerEvent event) {
+        ProfileCatalogue.unload();
+    }
+
     SpongeInternalListeners() {}
 
     private static final class Holder {
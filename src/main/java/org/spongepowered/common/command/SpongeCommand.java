@@ -29,6 +29,7 @@
 import static org.spongepowered.api.command.args.GenericArguments.dimension;
 import static org.spongepowered.api.command.args.GenericArguments.firstParsing;
 import static org.spongepowered.api.command.args.GenericArguments.flags;
+import static org.spongepowered.api.command.args.GenericArguments.integer;
 import static org.spongepowered.api.command.args.GenericArguments.literal;
 import static org.spongepowered.api.command.args.GenericArguments.optional;
 import static org.spongepowered.api.command.args.GenericArguments.optionalWeak;
@@ -42,6 +43,7 @@
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
@@ -86,7 +88,9 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.ParallelWorldTicker;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.pregen.SpongeChunkPreGenerateBenchmark;
 
 import java.io.File;
 import java.text.DecimalFormat;
@@ -95,6 +99,7 @@
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 @NonnullByDefault
@@ -125,6 +130,7 @@ public static CommandSpec getCommand() {
         nonFlagChildren.register(getPluginsCommand(), "plugins");
         nonFlagChildren.register(getTimingsCommand(), "timings");
         nonFlagChildren.register(getWhichCommand(), "which");
+        nonFlagChildren.register(getPreGenerateBenchmarkCommand(), "pregenBenchmark");
         flagChildren.register(getChunksCommand(), "chunks");
         flagChildren.register(getConfigCommand(), "config");
         flagChildren.register(getReloadCommand(), "reload"); // TODO: Should these two be subcommands of config, and what is now config be set?
@@ -142,6 +148,7 @@ INDENT, title("version"), LONG_INDENT, "Prints current Sponge version\n",
                         INDENT, title("audit"), LONG_INDENT, "Audit mixin classes for implementation\n",
                         INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
                         INDENT, title("which"), LONG_INDENT, "List plugins that own a specific command\n",
+                        INDENT, title("pregenBenchmark"), LONG_INDENT, "Measures the terrain generation speed of chunk pre-generation\n",
                         INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds"))
                 .arguments(firstParsing(nonFlagChildren, flags()
                         .flag("-global", "g")
@@ -582,6 +589,28 @@ private static CommandCallable getTimingsCommand() {
                             return CommandResult.success();
                         })
                         .build(), "verboff")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            if (!Timings.isTimingsEnabled()) {
+                                src.sendMessage(Text.of("Please enable timings by typing /sponge timings on"));
+                                return CommandResult.empty();
+                            }
+                            SpongeTimingsFactory.setSamplingEnabled(true);
+                            src.sendMessage(Text.of("Enabled Sampling Timings & Reset"));
+                            return CommandResult.success();
+                        })
+                        .build(), "sampleon")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            if (!Timings.isTimingsEnabled()) {
+                                src.sendMessage(Text.of("Please enable timings by typing /sponge timings on"));
+                                return CommandResult.empty();
+                            }
+                            SpongeTimingsFactory.setSamplingEnabled(false);
+                            src.sendMessage(Text.of("Disabled Sampling Timings & Reset"));
+                            return CommandResult.success();
+                        })
+                        .build(), "sampleoff")
                 .child(CommandSpec.builder()
                         .executor((src, args) -> {
                             if (!Timings.isTimingsEnabled()) {
@@ -592,6 +621,20 @@ private static CommandCallable getTimingsCommand() {
                             return CommandResult.success();
                         })
                         .build(), "cost")
+                .child(CommandSpec.builder()
+                        .arguments(optional(integer(Text.of("count"))))
+                        .executor((src, args) -> {
+                            SpongeTimingsFactory.listStoredHistory(src, args.<Integer>getOne("count").orElse(10));
+                            return CommandResult.success();
+                        })
+                        .build(), "history")
+                .child(CommandSpec.builder()
+                        .arguments(integer(Text.of("from")), integer(Text.of("to")))
+                        .executor((src, args) -> {
+                            SpongeTimingsFactory.diffStoredHistory(src, args.<Integer>getOne("from").get(), args.<Integer>getOne("to").get());
+                            return CommandResult.success();
+                        })
+                        .build(), "diff")
                 .build();
     }
 
@@ -623,6 +666,54 @@ private static CommandSpec getWhichCommand() {
                 .build();
     }
 
+    private static CommandSpec getPreGenerateBenchmarkCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.pregenbenchmark")
+                .description(Text.of("Measures the terrain generation speed of chunk pre-generation around the spawn of a world, "
+                        + "without changing the world."))
+                .arguments(world(Text.of("world")), integer(Text.of("radius")), optional(integer(Text.of("threads"))))
+                .executor((src, args) -> {
+                    final WorldProperties properties = args.<WorldProperties>getOne("world").get();
+                    final Optional<World> optWorld = Sponge.getServer().getWorld(properties.getUniqueId());
+                    if (!optWorld.isPresent()) {
+                        throw new CommandException(Text.of("World ", properties.getWorldName(), " is not loaded, cannot work with it"));
+                    }
+                    final int radius = args.<Integer>getOne("radius").get();
+                    if (radius < 0) {
+                        throw new CommandException(Text.of("The radius must not be negative"));
+                    }
+                    final int configThreads = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getChunkPreGenerationThreads();
+                    final int threads = args.<Integer>getOne("threads")
+                            .orElse(configThreads > 0 ? configThreads : Runtime.getRuntime().availableProcessors());
+                    if (threads <= 0) {
+                        throw new CommandException(Text.of("The amount of threads must be greater than zero"));
+                    }
+                    final WorldServer worldServer = (WorldServer) optWorld.get();
+                    final BlockPos spawn = worldServer.getSpawnPoint();
+                    final CompletableFuture<SpongeChunkPreGenerateBenchmark> benchmark = SpongeChunkPreGenerateBenchmark.start(worldServer,
+                            spawn.getX() >> 4, spawn.getZ() >> 4, radius, threads);
+                    if (benchmark == null) {
+                        throw new CommandException(Text.of("The generator of world ", properties.getWorldName(),
+                                " can't generate terrain off the main thread"));
+                    }
+                    src.sendMessage(Text.of("Generating the terrain of ", (radius * 2 + 1) * (radius * 2 + 1), " chunks on ", threads,
+                            " threads..."));
+                    benchmark.whenComplete((result, throwable) -> Sponge.getScheduler().createTaskBuilder().execute(() -> {
+                        if (throwable != null) {
+                            SpongeImpl.getLogger().error("Failed to benchmark chunk pre-generation", throwable);
+                            src.sendMessage(Text.of(TextColors.RED, "The benchmark failed, see the console for details"));
+                        } else {
+                            src.sendMessage(Text.of("Generated the terrain of ", result.getChunkCount(), " chunks in ", TextColors.LIGHT_PURPLE,
+                                    THREE_DECIMAL_DIGITS_FORMATTER.format(result.getDuration().toMillis() / 1000.0), "s", TextColors.RESET,
+                                    ", ", TextColors.LIGHT_PURPLE, THREE_DECIMAL_DIGITS_FORMATTER.format(result.getChunksPerSecond()),
+                                    TextColors.RESET, " chunks/s"));
+                        }
+                    }).submit(SpongeImpl.getPlugin()));
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
     private static CommandSpec getTpsCommand() {
         return CommandSpec.builder()
                 .permission("sponge.command.tps")
@@ -652,14 +743,22 @@ private static CommandSpec getTpsCommand() {
     }
 
     private static void printWorldTickTime(CommandSource src, World world) {
-        final long[] worldTickTimes = ((IMixinMinecraftServer) SpongeImpl.getServer()).
-                getWorldTickTimes(((IMixinWorldServer) world).getDimensionId());
+        final int dimensionId = ((IMixinWorldServer) world).getDimensionId();
+        // Worlds ticked in parallel skip the world loop that records the tick times of the server
+        long[] worldTickTimes = ParallelWorldTicker.isEnabled() ? ParallelWorldTicker.getTickTimes(dimensionId) : null;
+        if (worldTickTimes == null) {
+            worldTickTimes = ((IMixinMinecraftServer) SpongeImpl.getServer()).getWorldTickTimes(dimensionId);
+        }
         final double worldMeanTickTime = mean(worldTickTimes) * 1.0e-6d;
         final double worldTps = Math.min(1000.0 / worldMeanTickTime, 20);
         src.sendMessage(Text.of("World [", TextColors.DARK_GREEN, world.getName(), TextColors.RESET, "] (DIM",
                 ((IMixinWorldServer) world).getDimensionId(), ") TPS: ", TextColors.LIGHT_PURPLE,
                 THREE_DECIMAL_DIGITS_FORMATTER.format(worldTps), TextColors.RESET,  ", Mean: ", TextColors.RED,
                 THREE_DECIMAL_DIGITS_FORMATTER.format(worldMeanTickTime), "ms"));
+        if (SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useAsyncLighting()) {
+            src.sendMessage(Text.of("  Pending light updates: ", TextColors.GOLD,
+                    ((IMixinWorldServer) world).getLightingExecutor().getBacklog()));
+        }
     }
 
     private static Long mean(long[] values) {
@@ -30,6 +30,7 @@
 import net.minecraft.util.math.Vec3d;
 import org.spongepowered.api.command.CommandMapping;
 import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.service.context.Context;
 import org.spongepowered.api.world.Locatable;
 import org.spongepowered.api.service.permission.MemorySubjectData;
 import org.spongepowered.api.service.permission.PermissionService;
@@ -48,6 +49,7 @@
 import org.spongepowered.common.util.VecHelper;
 
 import java.util.Optional;
+import java.util.Set;
 
 public class WrapperCommandSource extends SpongeSubject implements CommandSource {
 
@@ -91,6 +93,20 @@ public MemorySubjectData getSubjectData() {
         return this.data;
     }
 
+    // Wrappers are created per command invocation and nothing inherits from
+    // their data, so their values are resolved directly instead of going
+    // through the cache, which is keyed by the global data version
+
+    @Override
+    public Tristate getPermissionValue(Set<Context> contexts, String permission) {
+        return resolvePermissionValue(contexts, permission);
+    }
+
+    @Override
+    public Optional<String> getOption(Set<Context> contexts, String key) {
+        return resolveOption(contexts, key);
+    }
+
     @Override
     public String getName() {
         return this.sender.getName();
@@ -63,6 +63,17 @@ public class GlobalWorldCategory extends WorldCategory {
             + "\nNote: If you are using SpongeForge, make sure to enter any mod fake player's UUID to this list.")
     private List<UUID> invalidLookupUuids = new ArrayList<>();
 
+    @Setting(value = "chunk-data-stream-threads", comment =
+            "The amount of threads used to read and decompress region files in parallel when plugins"
+            + "\nscan all generated chunks of a world or look up many chunks at once. (Default: 0)"
+            + "\nNote: If set to 0 or less, generated chunks are read one at a time on the calling thread.")
+    private int chunkDataStreamThreads = 0;
+
+    @Setting(value = "chunk-data-stream-readahead", comment =
+            "The maximum amount of chunks which are read ahead of the consumer of a parallel chunk data stream. (Default: 64)"
+            + "\nFinally, if set to 0 or less, the default readahead will be used.")
+    private int chunkDataStreamReadahead = 64;
+
     public GlobalWorldCategory() {
         this.invalidLookupUuids.add(UUID.fromString("00000000-0000-0000-0000-000000000000"));
         this.invalidLookupUuids.add(UUID.fromString("0d0c4ca0-4ff1-11e4-916c-0800200c9a66")); // ComputerCraft FakePlayer
@@ -95,6 +106,17 @@ public int getGameProfileQueryTaskInterval() {
         return this.gameProfileQueryTaskInterval;
     }
 
+    public int getChunkDataStreamThreads() {
+        return this.chunkDataStreamThreads;
+    }
+
+    public int getChunkDataStreamReadahead() {
+        if (this.chunkDataStreamReadahead <= 0) {
+            this.chunkDataStreamReadahead = 64;
+        }
+        return this.chunkDataStreamReadahead;
+    }
+
     public List<UUID> getInvalidLookupUuids() {
         return this.invalidLookupUuids;
     }
@@ -53,6 +53,50 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "async-lighting", comment = "Runs lighting updates async.")
     private boolean asyncLighting = true;
 
+    @Setting(value = "async-lighting-threads", comment = "The amount of threads used for async lighting in each world.\n"
+            + "Updates are partitioned by region so updates of distant chunks can run in parallel.")
+    private int asyncLightingThreads = 1;
+
+    @Setting(value = "parallel-volume-worker-threshold", comment = "The minimum amount of blocks an immutable volume must contain for its\n"
+            + "workers to reduce or iterate it in parallel on the common fork-join pool. Visitors and\n"
+            + "reducers passed by plugins must be thread-safe when this is enabled. Reductions are only\n"
+            + "split when their identity is immutable, since every part starts from the same instance,\n"
+            + "and otherwise run sequentially. Set to 0 to disable.")
+    private int parallelVolumeWorkerThreshold = 0;
+
+    @Setting(value = "off-heap-block-buffer-threshold", comment = "The minimum amount of blocks a block buffer or archetype volume created by\n"
+            + "a plugin must contain to be stored outside of the java heap, which keeps very large\n"
+            + "volumes from inflating garbage collection pauses. Set to 0 to disable.")
+    private int offHeapBlockBufferThreshold = 0;
+
+    @Setting(value = "off-heap-block-buffer-storage", comment = "Where off-heap block buffers are stored. 'direct' uses native memory,\n"
+            + "which counts against -XX:MaxDirectMemorySize, creating buffers fails with an OutOfMemoryError\n"
+            + "once that limit is reached. 'mapped' uses a memory-mapped temporary file which the operating\n"
+            + "system pages in as needed. Any other value keeps the buffers on the java heap.")
+    private String offHeapBlockBufferStorage = "direct";
+
+    @Setting(value = "parallel-world-ticking", comment = "Ticks worlds in parallel instead of one after another. Entities moving between\n"
+            + "worlds are transferred after all worlds finished ticking. EXPERIMENTAL: plugins and mods\n"
+            + "which listen to events thrown while a world ticks must be thread-safe when this is enabled.")
+    private boolean parallelWorldTicking = false;
+
+    @Setting(value = "parallel-world-ticking-threads", comment = "The amount of threads used to tick worlds in parallel.\n"
+            + "Set to 0 to use one thread per available processor.")
+    private int parallelWorldTickingThreads = 0;
+
+    @Setting(value = "chunk-pregeneration-threads", comment = "The amount of threads used by chunk pre-generation to generate the terrain\n"
+            + "of vanilla worlds, chunks are still populated on the main thread. EXPERIMENTAL: world\n"
+            + "generator modifiers must be thread-safe when this is enabled. Set to 0 to disable.")
+    private int chunkPreGenerationThreads = 0;
+
+    @Setting(value = "offline-user-reader-threads", comment = "The amount of threads used to read the player data of offline users\n"
+            + "requested in bulk by plugins.")
+    private int offlineUserReaderThreads = 2;
+
+    @Setting(value = "offline-user-data-cache-size", comment = "The maximum amount of offline users whose decoded player data is kept\n"
+            + "in memory, so repeated lookups don't read their player data file again.")
+    private int offlineUserDataCacheSize = 256;
+
     public StructureSaveCategory getStructureSaveCategory() {
         return this.structureSaveCategory;
     }
@@ -72,4 +116,40 @@ public boolean useCacheTameableOwners() {
     public boolean useAsyncLighting() {
         return this.asyncLighting;
     }
+
+    public int getAsyncLightingThreads() {
+        return this.asyncLightingThreads;
+    }
+
+    public int getParallelVolumeWorkerThreshold() {
+        return this.parallelVolumeWorkerThreshold;
+    }
+
+    public int getOffHeapBlockBufferThreshold() {
+        return this.offHeapBlockBufferThreshold;
+    }
+
+    public String getOffHeapBlockBufferStorage() {
+        return this.offHeapBlockBufferStorage;
+    }
+
+    public boolean useParallelWorldTicking() {
+        return this.parallelWorldTicking;
+    }
+
+    public int getParallelWorldTickingThreads() {
+        return this.parallelWorldTickingThreads;
+    }
+
+    public int getChunkPreGenerationThreads() {
+        return this.chunkPreGenerationThreads;
+    }
+
+    public int getOfflineUserReaderThreads() {
+        return this.offlineUserReaderThreads;
+    }
+
+    public int getOfflineUserDataCacheSize() {
+        return this.offlineUserDataCacheSize;
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class SchedulerCategory extends ConfigCategory {
+
+    @Setting(value = "async-executor", comment = "The executor used to run asynchronous plugin tasks. One of:\n"
+                                                 + "'cached' - An unbounded cached thread pool, creating threads as needed.\n"
+                                                 + "'fork-join' - A work-stealing pool limited to 'async-max-threads' threads.\n"
+                                                 + "'virtual-threads' - A virtual thread per task, requires a Java runtime\n"
+                                                 + "supporting virtual threads, falls back to 'fork-join' otherwise.")
+    private String asyncExecutor = "cached";
+
+    @Setting(value = "async-max-threads", comment = "The maximum amount of threads of the 'fork-join' executor.\n"
+                                                    + "A value of 0 uses the amount of available processors.")
+    private int asyncMaxThreads = 0;
+
+    @Setting(value = "async-plugin-concurrency-limit", comment = "The maximum amount of asynchronous tasks of a single plugin\n"
+                                                                 + "which may run at the same time, further tasks are queued.\n"
+                                                                 + "A value of 0 disables the limit.")
+    private int asyncPluginConcurrencyLimit = 0;
+
+    public String getAsyncExecutor() {
+        return this.asyncExecutor;
+    }
+
+    public int getAsyncMaxThreads() {
+        return this.asyncMaxThreads;
+    }
+
+    public int getAsyncPluginConcurrencyLimit() {
+        return this.asyncPluginConcurrencyLimit;
+    }
+
+}
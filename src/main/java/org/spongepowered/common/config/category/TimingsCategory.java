@@ -51,6 +51,22 @@ public class TimingsCategory extends ConfigCategory {
     @Setting("history-length")
     private int historyLength = 3600;
 
+    @Setting(value = "sampling", comment = "If enabled, nested timings are sampled instead of being timed exactly.\n"
+            + "Only the top level sections of a tick are timed exactly, which makes timings cheap enough to leave enabled.")
+    private boolean sampling = false;
+
+    @Setting(value = "sampling-interval", comment = "The interval between two samples in microseconds.")
+    private int samplingInterval = 1000;
+
+    @Setting(value = "export-mode", comment = "Where timings are exported to. One of:\n"
+            + "'upload' - Reports are uploaded to the timings viewer.\n"
+            + "'local' - Reports are written to the 'timings' directory, every history interval a snapshot\n"
+            + "is also stored there. Stored snapshots can be compared with /sponge timings diff.")
+    private String exportMode = "upload";
+
+    @Setting(value = "local-history-days", comment = "The amount of days stored timings snapshots are kept.")
+    private int localHistoryDays = 14;
+
     public boolean isVerbose() {
         return this.verbose;
     }
@@ -83,4 +99,28 @@ public void setHistoryLength(int historyLength) {
         this.historyLength = historyLength;
     }
 
+    public boolean isSampling() {
+        return this.sampling;
+    }
+
+    public void setSampling(boolean sampling) {
+        this.sampling = sampling;
+    }
+
+    public int getSamplingInterval() {
+        return this.samplingInterval;
+    }
+
+    public void setSamplingInterval(int samplingInterval) {
+        this.samplingInterval = samplingInterval;
+    }
+
+    public String getExportMode() {
+        return this.exportMode;
+    }
+
+    public int getLocalHistoryDays() {
+        return this.localHistoryDays;
+    }
+
 }
\ No newline at end of file
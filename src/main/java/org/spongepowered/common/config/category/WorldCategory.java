@@ -89,6 +89,12 @@ public class WorldCategory extends ConfigCategory {
                                                      + "\nNote: This gets reset if the chunk becomes active again.")
     private int chunkUnloadDelay = 15;
 
+    @Setting(value = "async-chunk-unload-serialization", comment = "If enabled, chunks unloaded in a tick are serialized in a batch on the file IO thread"
+                                                                   + "\ninstead of the server thread. A chunk that is requested again before it was"
+                                                                   + "\nserialized is serialized immediately. Note: Mods which save extra chunk data"
+                                                                   + "\nwhen a chunk is saved must be thread-safe when this is enabled. (Default: false)")
+    private boolean asyncChunkUnloadSerialization = false;
+
     @Setting(value = "item-merge-radius", comment = "The defined merge radius for Item entities such that when two items are"
                                                     + "\nwithin the defined radius of each other, they will attempt to merge. Usually,"
                                                     + "\nthe default radius is set to 0.5 in Vanilla, however, for performance reasons"
@@ -205,6 +211,10 @@ public int getMaxChunkUnloads() {
         return this.maxChunkUnloads;
     }
 
+    public boolean useAsyncChunkUnloadSerialization() {
+        return this.asyncChunkUnloadSerialization;
+    }
+
     public double getItemMergeRadius() {
         return this.itemMergeRadius;
     }
@@ -38,6 +38,7 @@
 import org.spongepowered.common.config.category.GlobalWorldCategory;
 import org.spongepowered.common.config.category.ModuleCategory;
 import org.spongepowered.common.config.category.OptimizationCategory;
+import org.spongepowered.common.config.category.SchedulerCategory;
 import org.spongepowered.common.config.category.SqlCategory;
 import org.spongepowered.common.util.IpSet;
 
@@ -80,6 +81,9 @@ public class GlobalConfig extends ConfigBase {
     @Setting(value = "cause-tracker")
     protected CauseTrackerCategory causeTracker = new CauseTrackerCategory();
 
+    @Setting(value = "scheduler", comment = "Configuration options related to the plugin task scheduler")
+    private SchedulerCategory scheduler = new SchedulerCategory();
+
     public GlobalConfig() {
         super();
     }
@@ -143,4 +147,8 @@ public CauseTrackerCategory getCauseTracker() {
         return causeTracker;
     }
 
+    public SchedulerCategory getScheduler() {
+        return this.scheduler;
+    }
+
 }
@@ -55,6 +55,17 @@
 
     boolean supports(DataHolder dataHolder);
 
+    /**
+     * Gets whether {@link #supports(DataHolder)} is decided by the class of
+     * the {@link DataHolder} alone, regardless of its state. The result of
+     * such a check may be cached for each holder class.
+     *
+     * @return True if support only depends on the class of the holder
+     */
+    default boolean isHolderSupportClassBound() {
+        return false;
+    }
+
     boolean supports(EntityType entityType);
 
     /**
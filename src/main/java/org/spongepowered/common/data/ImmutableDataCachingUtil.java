@@ -24,21 +24,27 @@
  */
 package org.spongepowered.common.data;
 
-import static org.spongepowered.common.util.ReflectionUtil.createUnsafeInstance;
+import static org.spongepowered.common.util.ReflectionUtil.deconstructArray;
+import static org.spongepowered.common.util.ReflectionUtil.findConstructor;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import org.spongepowered.api.CatalogType;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.common.SpongeImpl;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public final class ImmutableDataCachingUtil {
 
@@ -48,19 +54,22 @@ private ImmutableDataCachingUtil() {}
     public static final int MANIPULATOR_CACHE_LIMIT = 100000;
     public static final int VALUE_CACHE_LIMIT = 100000;
 
-    private static final Cache<String, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
+    private static final MethodType GENERIC_CONSTRUCTOR = MethodType.methodType(Object.class, Object[].class);
+
+    private static final LoadingCache<CacheKey, ImmutableDataManipulator<?, ?>> manipulatorCache = Caffeine.newBuilder()
         .maximumSize(MANIPULATOR_CACHE_LIMIT)
-        .concurrencyLevel(4)
-        .build();
+        .build(key -> (ImmutableDataManipulator<?, ?>) construct(key, "ImmutableDataManipulator"));
 
-    private static final Cache<String, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
-        .concurrencyLevel(4)
+    private static final LoadingCache<CacheKey, ImmutableValue<?>> valueCache = Caffeine.newBuilder()
         .maximumSize(VALUE_CACHE_LIMIT)
-        .build();
+        .build(key -> (ImmutableValue<?>) construct(key, "ImmutableValue"));
+
+    // Constructors resolved for a class and the runtime types of its arguments
+    private static final ConcurrentMap<CacheKey, ResolvedConstructor> constructors = new ConcurrentHashMap<>();
 
     /**
-     * Retrieves a basic manipulator from {@link Cache}. If the {@link Cache}
-     * does not have the desired {@link ImmutableDataManipulator} with relative
+     * Retrieves a basic manipulator from the cache. If the cache does not
+     * have the desired {@link ImmutableDataManipulator} with relative
      * values, a new one is created and submitted to the cache for future
      * retrieval.
      *
@@ -75,56 +84,144 @@ private ImmutableDataCachingUtil() {}
      */
     @SuppressWarnings("unchecked")
     public static <T extends ImmutableDataManipulator<?, ?>> T getManipulator(final Class<T> immutableClass, final Object... args) {
-        final String key = getKey(immutableClass, args);
-        // We can't really use the generic typing here because it's complicated...
-        try {
-            // Let's get the key
-            return (T) ImmutableDataCachingUtil.manipulatorCache.get(key, (Callable<ImmutableDataManipulator<?, ?>>) () -> {
-                    try {
-                        return createUnsafeInstance(immutableClass, args);
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                        SpongeImpl.getLogger().error("Could not construct an ImmutableDataManipulator: " + immutableClass.getCanonicalName() + " with the args: "
-                                                     + Arrays.toString(args), e);
-                    }
-                    throw new UnsupportedOperationException("Could not construct the ImmutableDataManipulator: " + immutableClass.getName() + " with the args: "
-                                                            + Arrays.toString(args));
-            });
-        } catch (Throwable e) {
-            throw new UnsupportedOperationException("Could not construct the ImmutableDataManipulator: " + immutableClass.getName(), e);
-        }
+        return (T) ImmutableDataCachingUtil.manipulatorCache.get(new CacheKey(immutableClass, args));
     }
 
     @SuppressWarnings("unchecked")
     public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T getValue(final Class<V> valueClass,
             final Key<? extends BaseValue<E>> usedKey, final E defaultArg, final E arg, final Object... extraArgs) {
-        final String key = getKey(valueClass, usedKey.getQuery().asString('.'), arg.getClass(), arg);
+        final Object[] args = extraArgs == null || extraArgs.length == 0
+                ? new Object[] {usedKey, defaultArg, arg}
+                : new Object[] {usedKey, defaultArg, arg, extraArgs};
+        return (T) ImmutableDataCachingUtil.valueCache.get(new CacheKey(valueClass, args));
+    }
+
+    private static Object construct(final CacheKey key, final String kind) {
+        Object[] args = key.args;
+        if (args == null) {
+            args = new Object[] {null};
+        }
+        final ResolvedConstructor constructor;
+        try {
+            constructor = getConstructor(key.type, args);
+        } catch (IllegalArgumentException | UnsupportedOperationException e) {
+            throw constructionFailed(key, kind, args, e);
+        }
+        if (constructor.flatten) {
+            args = deconstructArray(args).toArray();
+        }
         try {
-            return (T) ImmutableDataCachingUtil.valueCache.get(key, (Callable<ImmutableValue<?>>) () -> {
-                    try {
-                        if (extraArgs == null || extraArgs.length == 0) {
-                            return createUnsafeInstance(valueClass, usedKey, defaultArg, arg);
-                        } else {
-                            return createUnsafeInstance(valueClass, usedKey, defaultArg, arg, extraArgs);
-                        }
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                        SpongeImpl.getLogger().error("Could not construct an ImmutableValue: " + valueClass.getCanonicalName(), e);
-                    }
-                    throw new UnsupportedOperationException("Could not construct the ImmutableValue: " + valueClass.getName());
-            });
-        } catch (ExecutionException e) {
-            throw new UnsupportedOperationException("Could not construct the ImmutableValue: " + valueClass.getName(), e);
+            return constructor.handle.invokeExact(args);
+        } catch (WrongMethodTypeException | ClassCastException e) {
+            throw constructionFailed(key, kind, args, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UnsupportedOperationException("Could not construct the " + kind + ": " + key.type.getName(), t);
+        }
+    }
+
+    private static UnsupportedOperationException constructionFailed(final CacheKey key, final String kind, final Object[] args, final Exception e) {
+        SpongeImpl.getLogger().error("Could not construct an " + kind + ": " + key.type.getCanonicalName() + " with the args: "
+                                     + Arrays.toString(args), e);
+        return new UnsupportedOperationException("Could not construct the " + kind + ": " + key.type.getName() + " with the args: "
+                                                 + Arrays.toString(args), e);
+    }
+
+    private static ResolvedConstructor getConstructor(final Class<?> type, final Object[] args) {
+        final List<Class<?>> argTypes = new ArrayList<>(args.length);
+        collectArgTypes(args, argTypes);
+        return constructors.computeIfAbsent(new CacheKey(type, argTypes.toArray()), key -> {
+            // findConstructor flattens array arguments when no constructor takes them as they are
+            final Constructor<?> constructor = findConstructor(type, args);
+            final boolean flatten = !accepts(constructor, args);
+            try {
+                constructor.setAccessible(true);
+                final MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                        .asSpreader(Object[].class, constructor.getParameterCount())
+                        .asType(GENERIC_CONSTRUCTOR);
+                return new ResolvedConstructor(handle, flatten);
+            } catch (IllegalAccessException e) {
+                throw new UnsupportedOperationException("Could not access the constructor of " + type.getName(), e);
+            }
+        });
+    }
+
+    private static boolean accepts(final Constructor<?> constructor, final Object[] args) {
+        if (constructor.getParameterCount() != args.length) {
+            return false;
+        }
+        final Class<?>[] paramTypes = MethodType.methodType(void.class, constructor.getParameterTypes()).wrap().parameterArray();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] == null ? constructor.getParameterTypes()[i].isPrimitive() : !paramTypes[i].isInstance(args[i])) {
+                return false;
+            }
         }
+        return true;
     }
 
-    private static String getKey(final Class<?> immutableClass, final Object... args) {
-        final StringBuilder builder = new StringBuilder(immutableClass.getCanonicalName() + ":");
-        for (Object object : args) {
-            if (object instanceof CatalogType) {
-                builder.append("{").append(((CatalogType) object).getId()).append("}");
+    /**
+     * Collects the runtime types of the arguments, including those nested in
+     * array arguments since they decide which constructor gets picked once
+     * the arguments are flattened.
+     */
+    private static void collectArgTypes(final Object[] args, final List<Class<?>> argTypes) {
+        for (Object arg : args) {
+            if (arg == null) {
+                argTypes.add(null);
+            } else if (arg instanceof Object[]) {
+                argTypes.add(arg.getClass());
+                collectArgTypes((Object[]) arg, argTypes);
+                argTypes.add(Void.class);
             } else {
-                builder.append("{").append(object.toString()).append("}");
+                argTypes.add(arg.getClass());
+            }
+        }
+    }
+
+    private static final class ResolvedConstructor {
+
+        final MethodHandle handle;
+        // Whether the arguments have to be flattened before being spread over the constructor
+        final boolean flatten;
+
+        ResolvedConstructor(final MethodHandle handle, final boolean flatten) {
+            this.handle = handle;
+            this.flatten = flatten;
+        }
+    }
+
+    /**
+     * A cache key made of a class and the arguments used to construct an
+     * instance of it, compared structurally.
+     */
+    private static final class CacheKey {
+
+        final Class<?> type;
+        final Object[] args;
+        private final int hash;
+
+        CacheKey(final Class<?> type, final Object[] args) {
+            this.type = type;
+            this.args = args;
+            this.hash = 31 * type.hashCode() + Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
             }
+            final CacheKey other = (CacheKey) obj;
+            return this.hash == other.hash && this.type == other.type && Arrays.deepEquals(this.args, other.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
         }
-        return builder.toString();
     }
 }
@@ -139,6 +139,17 @@
      */
     boolean supports(ValueContainer<?> container);
 
+    /**
+     * Gets whether {@link #supports(ValueContainer)} is decided by the class
+     * of the {@link ValueContainer} alone, regardless of its state. The
+     * result of such a check may be cached for each container class.
+     *
+     * @return True if support only depends on the class of the container
+     */
+    default boolean isContainerSupportClassBound() {
+        return false;
+    }
+
     /**
      * Offers the provided {@link BaseValue} containing a value of the
      * appropriate value type of this {@link ValueProcessor} to offer
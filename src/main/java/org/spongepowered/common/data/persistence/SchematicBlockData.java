@@ -0,0 +1,213 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.schematic.BlockPalette;
+import org.spongepowered.api.world.schematic.Schematic;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
+import org.spongepowered.common.util.gen.BlockIdBuffer;
+import org.spongepowered.common.world.schematic.SpongeArchetypeVolume;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Encodes and decodes the varint {@code BlockData} of a schematic, in
+ * {@code (y * length + z) * width + x} order.
+ */
+final class SchematicBlockData {
+
+    /**
+     * Looks up the palette id of a block, relative to the minimum of the
+     * volume being encoded.
+     */
+    @FunctionalInterface
+    interface IdLookup {
+
+        int getId(int x, int y, int z);
+    }
+
+    static IdLookup lookup(Schematic schematic, BlockPalette palette) {
+        final int xMin = schematic.getBlockMin().getX();
+        final int yMin = schematic.getBlockMin().getY();
+        final int zMin = schematic.getBlockMin().getZ();
+        if (schematic instanceof SpongeArchetypeVolume) {
+            MutableBlockVolume backing = ((SpongeArchetypeVolume) schematic).getBacking();
+            if (backing instanceof ArrayMutableBlockBuffer && ((ArrayMutableBlockBuffer) backing).getPalette() == palette) {
+                // The ids are already stored against this palette, skip resolving the states
+                ArrayMutableBlockBuffer buffer = (ArrayMutableBlockBuffer) backing;
+                return (x, y, z) -> buffer.getBlockId(xMin + x, yMin + y, zMin + z);
+            }
+        }
+        return (x, y, z) -> palette.getOrAssign(schematic.getBlock(xMin + x, yMin + y, zMin + z));
+    }
+
+    /**
+     * Computes the number of bytes {@link #encode} will write. This also
+     * assigns every block of the volume in the palette, so the palette is
+     * complete before the block data is written.
+     */
+    static long encodedLength(IdLookup ids, int width, int height, int length) {
+        long bytes = 0;
+        for (int y = 0; y < height; y++) {
+            for (int z = 0; z < length; z++) {
+                for (int x = 0; x < width; x++) {
+                    bytes += varIntLength(ids.getId(x, y, z));
+                }
+            }
+        }
+        return bytes;
+    }
+
+    static void encode(IdLookup ids, int width, int height, int length, OutputStream out) throws IOException {
+        for (int y = 0; y < height; y++) {
+            for (int z = 0; z < length; z++) {
+                for (int x = 0; x < width; x++) {
+                    int id = ids.getId(x, y, z);
+
+                    while ((id & -128) != 0) {
+                        out.write(id & 127 | 128);
+                        id >>>= 7;
+                    }
+                    out.write(id);
+                }
+            }
+        }
+    }
+
+    private static int varIntLength(int id) {
+        if ((id & -128) == 0) {
+            return 1;
+        } else if ((id & -16384) == 0) {
+            return 2;
+        } else if ((id & -2097152) == 0) {
+            return 3;
+        } else if ((id & -268435456) == 0) {
+            return 4;
+        }
+        return 5;
+    }
+
+    /**
+     * Checks that block data of the given length can hold exactly one varint
+     * per block of the given dimensions.
+     */
+    static void checkLength(long dataLength, int width, int height, int length) {
+        if (width < 0 || height < 0 || length < 0) {
+            throw new InvalidDataException(String.format("Schematic has negative dimensions (%d, %d, %d)", width, height, length));
+        }
+        final long volume = (long) width * height * length;
+        if (dataLength < volume || dataLength > volume * 5) {
+            throw new InvalidDataException(String.format("Schematic block data of %d bytes does not match its dimensions (%d, %d, %d)",
+                    dataLength, width, height, length));
+        }
+    }
+
+    static BlockIdBuffer decode(byte[] blockData, int width, int height, int length, int highestId) {
+        checkLength(blockData.length, width, height, length);
+        Decoder decoder = new Decoder(width, height, length, highestId);
+        decoder.decode(blockData, 0, blockData.length);
+        return decoder.finish();
+    }
+
+    /**
+     * Decodes block data straight into a {@link BlockIdBuffer}. The data may
+     * be fed in arbitrary chunks, a varint split between two chunks is
+     * carried over.
+     */
+    static final class Decoder {
+
+        private final BlockIdBuffer ids;
+        private final int maxId;
+        private final int width;
+        private final int height;
+        private final int length;
+        private final long volume;
+
+        private long decoded;
+        private int x;
+        private int y;
+        private int z;
+        private int value;
+        private int shift;
+
+        Decoder(int width, int height, int length, int highestId) {
+            this.ids = new BlockIdBuffer(new Vector3i(width, height, length), highestId);
+            this.maxId = this.ids.getMaxId();
+            this.width = width;
+            this.height = height;
+            this.length = length;
+            this.volume = (long) width * height * length;
+        }
+
+        void decode(byte[] buf, int off, int len) {
+            for (int i = off, end = off + len; i < end; i++) {
+                byte b = buf[i];
+                this.value |= (b & 127) << this.shift;
+                if ((b & 128) == 128) {
+                    this.shift += 7;
+                    if (this.shift > 28) {
+                        throw new InvalidDataException("VarInt too big (probably corrupted data)");
+                    }
+                    continue;
+                }
+                if (this.decoded >= this.volume) {
+                    throw new InvalidDataException("Schematic block data is longer than its dimensions");
+                }
+                if (this.value < 0 || this.value > this.maxId) {
+                    throw new InvalidDataException(String.format("Schematic block id %d is outside of its palette (max: %d)", this.value, this.maxId));
+                }
+                this.ids.set(this.x, this.y, this.z, this.value);
+                this.decoded++;
+                this.value = 0;
+                this.shift = 0;
+                if (++this.x == this.width) {
+                    this.x = 0;
+                    if (++this.z == this.length) {
+                        this.z = 0;
+                        this.y++;
+                    }
+                }
+            }
+        }
+
+        BlockIdBuffer finish() {
+            if (this.shift != 0) {
+                throw new InvalidDataException("Schematic block data ends in an incomplete VarInt");
+            }
+            if (this.decoded < this.volume) {
+                throw new InvalidDataException("Schematic block data is shorter than its dimensions");
+            }
+            return this.ids;
+        }
+    }
+
+    private SchematicBlockData() {
+    }
+
+}
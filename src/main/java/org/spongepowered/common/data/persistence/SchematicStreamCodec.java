@@ -0,0 +1,343 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagByte;
+import net.minecraft.nbt.NBTTagByteArray;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagDouble;
+import net.minecraft.nbt.NBTTagFloat;
+import net.minecraft.nbt.NBTTagInt;
+import net.minecraft.nbt.NBTTagIntArray;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagLong;
+import net.minecraft.nbt.NBTTagShort;
+import net.minecraft.nbt.NBTTagString;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.world.schematic.BlockPalette;
+import org.spongepowered.api.world.schematic.Schematic;
+import org.spongepowered.common.data.util.DataQueries;
+import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.util.gen.BlockIdBuffer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Reads and writes Sponge schematics as NBT streams without building the
+ * whole schematic as a {@link DataView} first.
+ *
+ * <p>The block data, which makes up nearly all of a schematic, is decoded
+ * from the stream straight into the packed ids of the resulting block
+ * buffer, and encoded from the volume straight into the stream. Only the
+ * small tags (palette, metadata, tile entities) are held in memory. The
+ * output is the same NBT that {@link SchematicTranslator} produces through
+ * {@code DataFormats.NBT}, with the tags ordered so that a reader knows the
+ * dimensions and palette before it reaches the block data.</p>
+ */
+public final class SchematicStreamCodec {
+
+    private static final String BLOCK_DATA = DataQueries.Schematic.BLOCK_DATA.asString('.');
+    private static final String TILEENTITY_DATA = DataQueries.Schematic.TILEENTITY_DATA.asString('.');
+    private static final int MAX_DEPTH = 512;
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    /**
+     * Reads a schematic from a file, which may be gzip compressed.
+     *
+     * @param path The file
+     * @return The schematic
+     * @throws IOException If the file could not be read
+     * @throws InvalidDataException If the file is not a valid schematic
+     */
+    public static Schematic read(Path path) throws IOException, InvalidDataException {
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(path), CHUNK_SIZE)) {
+            input.mark(2);
+            int magic = input.read() | input.read() << 8;
+            input.reset();
+            return read(magic == GZIP_MAGIC ? new BufferedInputStream(new GZIPInputStream(input, CHUNK_SIZE), CHUNK_SIZE) : input);
+        }
+    }
+
+    /**
+     * Writes a schematic to a gzip compressed file.
+     *
+     * @param schematic The schematic
+     * @param path The file
+     * @throws IOException If the file could not be written
+     */
+    public static void write(Schematic schematic, Path path) throws IOException {
+        try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(path), CHUNK_SIZE)) {
+            write(schematic, output);
+        }
+    }
+
+    /**
+     * Reads a schematic from an uncompressed NBT stream, as read by
+     * {@code DataFormats.NBT}. The stream is not closed.
+     *
+     * @param input The stream
+     * @return The schematic
+     * @throws IOException If the stream could not be read
+     * @throws InvalidDataException If the stream is not a valid schematic
+     */
+    public static Schematic read(InputStream input) throws IOException, InvalidDataException {
+        DataInputStream dis = new DataInputStream(input instanceof BufferedInputStream ? input : new BufferedInputStream(input, CHUNK_SIZE));
+        if (dis.readByte() != NbtDataUtil.TAG_COMPOUND) {
+            throw new InvalidDataException("Schematic root tag is not a compound");
+        }
+        dis.readUTF();
+
+        NBTTagCompound header = new NBTTagCompound();
+        BlockIdBuffer ids = null;
+        byte type;
+        while ((type = dis.readByte()) != NbtDataUtil.TAG_END) {
+            String name = dis.readUTF();
+            if (type == NbtDataUtil.TAG_BYTE_ARRAY && BLOCK_DATA.equals(name) && hasSize(header)) {
+                // The dimensions are known, decode straight from the stream
+                ids = readBlockData(dis, NbtTranslator.getInstance().translateFrom(header));
+            } else {
+                header.setTag(name, readTag(dis, type, 0));
+            }
+        }
+
+        DataContainer view = NbtTranslator.getInstance().translateFrom(header);
+        if (ids == null) {
+            // The block data came before the dimensions, it was buffered
+            return SchematicTranslator.get().translate(view);
+        }
+        return SchematicTranslator.get().translate(view, ids);
+    }
+
+    /**
+     * Writes a schematic as an uncompressed NBT stream, as written by
+     * {@code DataFormats.NBT}. The stream is flushed but not closed.
+     *
+     * @param schematic The schematic
+     * @param output The stream
+     * @throws IOException If the stream could not be written
+     */
+    public static void write(Schematic schematic, OutputStream output) throws IOException {
+        final int width = schematic.getBlockSize().getX();
+        final int height = schematic.getBlockSize().getY();
+        final int length = schematic.getBlockSize().getZ();
+        SchematicTranslator.checkSize(width, height, length);
+
+        BlockPalette palette = schematic.getPalette();
+        SchematicBlockData.IdLookup ids = SchematicBlockData.lookup(schematic, palette);
+        // Completes the palette as well, so it can be written first
+        long blockDataLength = SchematicBlockData.encodedLength(ids, width, height, length);
+        if (blockDataLength > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Schematic block data is too large to be written (" + blockDataLength + " bytes)");
+        }
+
+        DataContainer headerView = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        SchematicTranslator.addHeaderTo(schematic, palette, headerView);
+        NBTTagCompound header = NbtTranslator.getInstance().translateData(headerView);
+
+        DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(output, CHUNK_SIZE));
+        dos.writeByte(NbtDataUtil.TAG_COMPOUND);
+        dos.writeUTF("");
+        for (String key : header.getKeySet()) {
+            if (!TILEENTITY_DATA.equals(key)) {
+                writeNamedTag(dos, key, header.getTag(key));
+            }
+        }
+        dos.writeByte(NbtDataUtil.TAG_BYTE_ARRAY);
+        dos.writeUTF(BLOCK_DATA);
+        dos.writeInt((int) blockDataLength);
+        SchematicBlockData.encode(ids, width, height, length, dos);
+        if (header.hasKey(TILEENTITY_DATA)) {
+            writeNamedTag(dos, TILEENTITY_DATA, header.getTag(TILEENTITY_DATA));
+        }
+        dos.writeByte(NbtDataUtil.TAG_END);
+        dos.flush();
+    }
+
+    private static boolean hasSize(NBTTagCompound header) {
+        return header.hasKey(DataQueries.Schematic.WIDTH.asString('.'))
+                && header.hasKey(DataQueries.Schematic.HEIGHT.asString('.'))
+                && header.hasKey(DataQueries.Schematic.LENGTH.asString('.'));
+    }
+
+    private static BlockIdBuffer readBlockData(DataInputStream dis, DataView header) throws IOException {
+        Vector3i size = SchematicTranslator.readSize(header);
+        int remaining = dis.readInt();
+        if (remaining < 0) {
+            throw new InvalidDataException("Schematic block data has a negative length");
+        }
+        SchematicBlockData.checkLength(remaining, size.getX(), size.getY(), size.getZ());
+        SchematicBlockData.Decoder decoder =
+                new SchematicBlockData.Decoder(size.getX(), size.getY(), size.getZ(), SchematicTranslator.readHighestId(header));
+        byte[] chunk = new byte[Math.min(remaining, CHUNK_SIZE)];
+        while (remaining > 0) {
+            int read = dis.read(chunk, 0, Math.min(remaining, chunk.length));
+            if (read < 0) {
+                throw new InvalidDataException("Schematic block data ends early");
+            }
+            decoder.decode(chunk, 0, read);
+            remaining -= read;
+        }
+        return decoder.finish();
+    }
+
+    private static NBTBase readTag(DataInputStream dis, byte type, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new InvalidDataException("Schematic NBT is nested too deeply");
+        }
+        switch (type) {
+            case NbtDataUtil.TAG_BYTE:
+                return new NBTTagByte(dis.readByte());
+            case NbtDataUtil.TAG_SHORT:
+                return new NBTTagShort(dis.readShort());
+            case NbtDataUtil.TAG_INT:
+                return new NBTTagInt(dis.readInt());
+            case NbtDataUtil.TAG_LONG:
+                return new NBTTagLong(dis.readLong());
+            case NbtDataUtil.TAG_FLOAT:
+                return new NBTTagFloat(dis.readFloat());
+            case NbtDataUtil.TAG_DOUBLE:
+                return new NBTTagDouble(dis.readDouble());
+            case NbtDataUtil.TAG_BYTE_ARRAY: {
+                byte[] bytes = new byte[dis.readInt()];
+                dis.readFully(bytes);
+                return new NBTTagByteArray(bytes);
+            }
+            case NbtDataUtil.TAG_STRING:
+                return new NBTTagString(dis.readUTF());
+            case NbtDataUtil.TAG_LIST: {
+                byte elementType = dis.readByte();
+                int count = dis.readInt();
+                NBTTagList list = new NBTTagList();
+                for (int i = 0; i < count; i++) {
+                    list.appendTag(readTag(dis, elementType, depth + 1));
+                }
+                return list;
+            }
+            case NbtDataUtil.TAG_COMPOUND: {
+                NBTTagCompound compound = new NBTTagCompound();
+                byte childType;
+                while ((childType = dis.readByte()) != NbtDataUtil.TAG_END) {
+                    String name = dis.readUTF();
+                    compound.setTag(name, readTag(dis, childType, depth + 1));
+                }
+                return compound;
+            }
+            case NbtDataUtil.TAG_INT_ARRAY: {
+                int[] ints = new int[dis.readInt()];
+                for (int i = 0; i < ints.length; i++) {
+                    ints[i] = dis.readInt();
+                }
+                return new NBTTagIntArray(ints);
+            }
+            default:
+                throw new InvalidDataException("Unknown NBT tag type " + type);
+        }
+    }
+
+    private static void writeNamedTag(DataOutputStream dos, String name, NBTBase tag) throws IOException {
+        dos.writeByte(tag.getId());
+        dos.writeUTF(name);
+        writeTag(dos, tag);
+    }
+
+    private static void writeTag(DataOutputStream dos, NBTBase tag) throws IOException {
+        switch (tag.getId()) {
+            case NbtDataUtil.TAG_BYTE:
+                dos.writeByte(((NBTTagByte) tag).getByte());
+                break;
+            case NbtDataUtil.TAG_SHORT:
+                dos.writeShort(((NBTTagShort) tag).getShort());
+                break;
+            case NbtDataUtil.TAG_INT:
+                dos.writeInt(((NBTTagInt) tag).getInt());
+                break;
+            case NbtDataUtil.TAG_LONG:
+                dos.writeLong(((NBTTagLong) tag).getLong());
+                break;
+            case NbtDataUtil.TAG_FLOAT:
+                dos.writeFloat(((NBTTagFloat) tag).getFloat());
+                break;
+            case NbtDataUtil.TAG_DOUBLE:
+                dos.writeDouble(((NBTTagDouble) tag).getDouble());
+                break;
+            case NbtDataUtil.TAG_BYTE_ARRAY: {
+                byte[] bytes = ((NBTTagByteArray) tag).getByteArray();
+                dos.writeInt(bytes.length);
+                dos.write(bytes);
+                break;
+            }
+            case NbtDataUtil.TAG_STRING:
+                dos.writeUTF(((NBTTagString) tag).getString());
+                break;
+            case NbtDataUtil.TAG_LIST: {
+                NBTTagList list = (NBTTagList) tag;
+                dos.writeByte(list.hasNoTags() ? NbtDataUtil.TAG_END : list.getTagType());
+                dos.writeInt(list.tagCount());
+                for (int i = 0; i < list.tagCount(); i++) {
+                    writeTag(dos, list.get(i));
+                }
+                break;
+            }
+            case NbtDataUtil.TAG_COMPOUND: {
+                NBTTagCompound compound = (NBTTagCompound) tag;
+                for (String key : compound.getKeySet()) {
+                    writeNamedTag(dos, key, compound.getTag(key));
+                }
+                dos.writeByte(NbtDataUtil.TAG_END);
+                break;
+            }
+            case NbtDataUtil.TAG_INT_ARRAY: {
+                int[] ints = ((NBTTagIntArray) tag).getIntArray();
+                dos.writeInt(ints.length);
+                for (int i : ints) {
+                    dos.writeInt(i);
+                }
+                break;
+            }
+            default:
+                throw new IOException("Unknown NBT tag type " + tag.getId());
+        }
+    }
+
+    private SchematicStreamCodec() {
+    }
+
+}
@@ -44,16 +44,16 @@
 import org.spongepowered.api.world.schematic.BlockPalette;
 import org.spongepowered.api.world.schematic.BlockPaletteTypes;
 import org.spongepowered.api.world.schematic.Schematic;
-import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.block.SpongeTileEntityArchetypeBuilder;
 import org.spongepowered.common.data.util.DataQueries;
 import org.spongepowered.common.registry.type.block.TileEntityTypeRegistryModule;
-import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
+import org.spongepowered.common.util.gen.BlockIdBuffer;
 import org.spongepowered.common.world.schematic.BimapPalette;
 import org.spongepowered.common.world.schematic.GlobalPalette;
 import org.spongepowered.common.world.schematic.SpongeSchematic;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -91,6 +91,23 @@ public TypeToken<Schematic> getToken() {
 
     @Override
     public Schematic translate(DataView view) throws InvalidDataException {
+        Vector3i size = readSize(view);
+        byte[] blockdata = (byte[]) view.get(DataQueries.Schematic.BLOCK_DATA)
+                .orElseThrow(() -> new InvalidDataException("Schematic has no block data"));
+        BlockIdBuffer ids = SchematicBlockData.decode(blockdata, size.getX(), size.getY(), size.getZ(), readHighestId(view));
+        return translate(view, ids);
+    }
+
+    /**
+     * Creates the schematic described by the given view, with its blocks
+     * already decoded into the given ids.
+     *
+     * @param view The schematic data, the block data is ignored
+     * @param ids The decoded block ids
+     * @return The schematic
+     * @throws InvalidDataException If the data is invalid
+     */
+    Schematic translate(DataView view, BlockIdBuffer ids) throws InvalidDataException {
         int version = view.getInt(DataQueries.Schematic.VERSION).get();
         // TODO version conversions
         if (version != VERSION) {
@@ -98,15 +115,6 @@ public Schematic translate(DataView view) throws InvalidDataException {
         }
         DataView metadata = view.getView(DataQueries.Schematic.METADATA).orElse(null);
 
-        // TODO error handling for these optionals
-        int width = view.getShort(DataQueries.Schematic.WIDTH).get();
-        int height = view.getShort(DataQueries.Schematic.HEIGHT).get();
-        int length = view.getShort(DataQueries.Schematic.LENGTH).get();
-        if (width > MAX_SIZE || height > MAX_SIZE || length > MAX_SIZE) {
-            throw new InvalidDataException(String.format("Schematic is larger than maximum allowable size (found: (%d, %d, %d) max: (%d, %<d, %<d)",
-                    width, height, length, MAX_SIZE));
-        }
-
         int[] offset = (int[]) view.get(DataQueries.Schematic.OFFSET).orElse(null);
         if (offset == null) {
             offset = new int[3];
@@ -131,38 +139,8 @@ public Schematic translate(DataView view) throws InvalidDataException {
             palette = GlobalPalette.instance;
         }
 
-        MutableBlockVolume buffer =
-                new ArrayMutableBlockBuffer(palette, new Vector3i(-offset[0], -offset[1], -offset[2]), new Vector3i(width, height, length));
-
-        byte[] blockdata = (byte[]) view.get(DataQueries.Schematic.BLOCK_DATA).get();
-        int index = 0;
-        int i = 0;
-        int value = 0;
-        int varint_length = 0;
-        while (i < blockdata.length) {
-            value = 0;
-            varint_length = 0;
-
-            while (true) {
-                value |= (blockdata[i] & 127) << (varint_length++ * 7);
-                if (varint_length > 5) {
-                    throw new RuntimeException("VarInt too big (probably corrupted data)");
-                }
-                if ((blockdata[i] & 128) != 128) {
-                    i++;
-                    break;
-                }
-                i++;
-            }
-            // index = (y * length + z) * width + x
-            int y = index / (width * length);
-            int z = (index % (width * length)) / width;
-            int x = (index % (width * length)) % width;
-            BlockState state = palette.get(value).get();
-            buffer.setBlock(x - offset[0], y - offset[1], z - offset[2], state, SpongeImpl.getImplementationCause());
+        MutableBlockVolume buffer = ids.toBlockBuffer(palette, new Vector3i(-offset[0], -offset[1], -offset[2]));
 
-            index++;
-        }
         Map<Vector3i, TileEntityArchetype> tiles = Maps.newHashMap();
         List<DataView> tiledata = view.getViewList(DataQueries.Schematic.TILEENTITY_DATA).orElse(null);
         if (tiledata != null) {
@@ -186,6 +164,45 @@ public Schematic translate(DataView view) throws InvalidDataException {
         return schematic;
     }
 
+    /**
+     * Reads and validates the width, height and length of a schematic.
+     */
+    static Vector3i readSize(DataView view) throws InvalidDataException {
+        // TODO error handling for these optionals
+        int width = view.getShort(DataQueries.Schematic.WIDTH).get();
+        int height = view.getShort(DataQueries.Schematic.HEIGHT).get();
+        int length = view.getShort(DataQueries.Schematic.LENGTH).get();
+        if (width > MAX_SIZE || height > MAX_SIZE || length > MAX_SIZE) {
+            throw new InvalidDataException(String.format("Schematic is larger than maximum allowable size (found: (%d, %d, %d) max: (%d, %<d, %<d)",
+                    width, height, length, MAX_SIZE));
+        }
+        if ((long) width * height * length > Integer.MAX_VALUE) {
+            throw new InvalidDataException(String.format("Schematic has too many blocks (found: (%d, %d, %d))", width, height, length));
+        }
+        return new Vector3i(width, height, length);
+    }
+
+    /**
+     * Gets the highest block id the block data of a schematic may contain,
+     * so the ids can be stored in as few bits as possible. Without a local
+     * palette this is the highest id of the global palette.
+     */
+    static int readHighestId(DataView view) {
+        Optional<Integer> paletteMax = view.getInt(DataQueries.Schematic.PALETTE_MAX);
+        if (paletteMax.isPresent()) {
+            return paletteMax.get();
+        }
+        Optional<DataView> paletteData = view.getView(DataQueries.Schematic.PALETTE);
+        if (paletteData.isPresent()) {
+            int highest = 0;
+            for (DataQuery key : paletteData.get().getKeys(false)) {
+                highest = Math.max(highest, paletteData.get().getInt(key).orElse(0));
+            }
+            return highest;
+        }
+        return GlobalPalette.instance.getHighestId();
+    }
+
     @Override
     public DataContainer translate(Schematic schematic) throws InvalidDataException {
         DataContainer data = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
@@ -195,19 +212,44 @@ public DataContainer translate(Schematic schematic) throws InvalidDataException
 
     @Override
     public DataView addTo(Schematic schematic, DataView data) {
-        final int xMin = schematic.getBlockMin().getX();
-        final int yMin = schematic.getBlockMin().getY();
-        final int zMin = schematic.getBlockMin().getZ();
         final int width = schematic.getBlockSize().getX();
         final int height = schematic.getBlockSize().getY();
         final int length = schematic.getBlockSize().getZ();
+        checkSize(width, height, length);
+
+        BlockPalette palette = schematic.getPalette();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(width * height * length);
+        try {
+            SchematicBlockData.encode(SchematicBlockData.lookup(schematic, palette), width, height, length, buffer);
+        } catch (IOException e) {
+            // ByteArrayOutputStream never throws
+            throw new IllegalStateException(e);
+        }
+        data.set(DataQueries.Schematic.BLOCK_DATA, buffer.toByteArray());
+
+        addHeaderTo(schematic, palette, data);
+        return data;
+    }
+
+    static void checkSize(int width, int height, int length) {
         if (width > MAX_SIZE || height > MAX_SIZE || length > MAX_SIZE) {
             throw new IllegalArgumentException(String.format(
                 "Schematic is larger than maximum allowable size (found: (%d, %d, %d) max: (%d, %<d, %<d)", width, height, length, MAX_SIZE));
         }
-        data.set(DataQueries.Schematic.WIDTH, width);
-        data.set(DataQueries.Schematic.HEIGHT, height);
-        data.set(DataQueries.Schematic.LENGTH, length);
+    }
+
+    /**
+     * Adds everything but the block data of the given schematic to the view.
+     * Every block of the schematic must have been assigned in the palette
+     * already.
+     */
+    static void addHeaderTo(Schematic schematic, BlockPalette palette, DataView data) {
+        final int xMin = schematic.getBlockMin().getX();
+        final int yMin = schematic.getBlockMin().getY();
+        final int zMin = schematic.getBlockMin().getZ();
+        data.set(DataQueries.Schematic.WIDTH, schematic.getBlockSize().getX());
+        data.set(DataQueries.Schematic.HEIGHT, schematic.getBlockSize().getY());
+        data.set(DataQueries.Schematic.LENGTH, schematic.getBlockSize().getZ());
 
         data.set(DataQueries.Schematic.VERSION, VERSION);
         for (DataQuery metaKey : schematic.getMetadata().getKeys(false)) {
@@ -217,29 +259,6 @@ public DataView addTo(Schematic schematic, DataView data) {
         int[] offset = new int[] {-xMin, -yMin, -zMin};
         data.set(DataQueries.Schematic.OFFSET, offset);
 
-        BlockPalette palette = schematic.getPalette();
-        ByteArrayOutputStream buffer = new ByteArrayOutputStream(width * height * length);
-
-        for (int y = 0; y < height; y++) {
-            int y0 = yMin + y;
-            for (int z = 0; z < length; z++) {
-                int z0 = zMin + z;
-                for (int x = 0; x < width; x++) {
-                    int x0 = xMin + x;
-                    BlockState state = schematic.getBlock(x0, y0, z0);
-                    int id = palette.getOrAssign(state);
-
-                    while ((id & -128) != 0) {
-                        buffer.write(id & 127 | 128);
-                        id >>>= 7;
-                    }
-                    buffer.write(id);
-                }
-            }
-        }
-
-        data.set(DataQueries.Schematic.BLOCK_DATA, buffer.toByteArray());
-
         if (palette.getType() == BlockPaletteTypes.LOCAL) {
             DataQuery paletteQuery = DataQueries.Schematic.PALETTE;
             for (BlockState state : palette.getEntries()) {
@@ -261,8 +280,6 @@ public DataView addTo(Schematic schematic, DataView data) {
             tileEntities.add(tiledata);
         }
         data.set(DataQueries.Schematic.TILEENTITY_DATA, tileEntities);
-
-        return data;
     }
 
 }
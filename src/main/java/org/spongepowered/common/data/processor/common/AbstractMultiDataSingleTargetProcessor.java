@@ -35,6 +35,7 @@
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.util.DataUtil;
 
 import java.util.IdentityHashMap;
 import java.util.Map;
@@ -44,9 +45,16 @@
 public abstract class AbstractMultiDataSingleTargetProcessor<Holder, T extends DataManipulator<T, I>, I extends ImmutableDataManipulator<I, T>> extends AbstractMultiDataProcessor<T, I> {
 
     protected final Class<Holder> holderClass;
+    private final boolean supportClassBound;
 
     public AbstractMultiDataSingleTargetProcessor(Class<Holder> holderClass) {
         this.holderClass = checkNotNull(holderClass);
+        this.supportClassBound = DataUtil.isSupportClassBound(getClass(), AbstractMultiDataSingleTargetProcessor.class);
+    }
+
+    @Override
+    public boolean isHolderSupportClassBound() {
+        return this.supportClassBound;
     }
 
     @SuppressWarnings("unchecked")
@@ -47,10 +47,22 @@
         extends AbstractSingleDataProcessor<T, V, M, I> implements ValueProcessor<T, V> {
 
     protected final Class<Holder> holderClass;
+    private final boolean supportClassBound;
 
     protected AbstractSingleDataSingleTargetProcessor(Key<V> key, Class<Holder> holderClass) {
         super(key);
         this.holderClass = checkNotNull(holderClass);
+        this.supportClassBound = DataUtil.isSupportClassBound(getClass(), AbstractSingleDataSingleTargetProcessor.class);
+    }
+
+    @Override
+    public boolean isHolderSupportClassBound() {
+        return this.supportClassBound;
+    }
+
+    @Override
+    public boolean isContainerSupportClassBound() {
+        return this.supportClassBound;
     }
 
     protected boolean supports(Holder dataHolder) {
@@ -34,6 +34,7 @@
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.ValueProcessor;
+import org.spongepowered.common.data.util.DataUtil;
 
 import java.util.Optional;
 
@@ -41,10 +42,17 @@
 
     private final Class<C> containerClass;
     protected final Key<V> key;
+    private final boolean supportClassBound;
 
     protected AbstractSpongeValueProcessor(Class<C> containerClass, Key<V> key) {
         this.key = checkNotNull(key, "The key is null!");
         this.containerClass = containerClass;
+        this.supportClassBound = DataUtil.isSupportClassBound(getClass(), AbstractSpongeValueProcessor.class);
+    }
+
+    @Override
+    public boolean isContainerSupportClassBound() {
+        return this.supportClassBound;
     }
 
     /**
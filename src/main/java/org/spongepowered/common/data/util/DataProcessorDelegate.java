@@ -46,6 +46,7 @@
 public final class DataProcessorDelegate<M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>> implements DataProcessor<M, I> {
 
     private final ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors;
+    private final ProcessorResolutionCache<Tuple<DataProcessor<M, I>, Timing>> resolutions;
 
     public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
         ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
@@ -53,6 +54,8 @@ public DataProcessorDelegate(ImmutableList<DataProcessor<M, I>> processors) {
             builder.add(new Tuple<>(processor, SpongeTimingsFactory.ofSafe(SpongeImpl.getPlugin(), processor.getClass().getCanonicalName())));
         }
         this.processors = builder.build();
+        this.resolutions = new ProcessorResolutionCache<>(this.processors, tuple -> tuple.getFirst().isHolderSupportClassBound(),
+                (tuple, holder) -> tuple.getFirst().supports((DataHolder) holder));
     }
 
     @Override
@@ -62,21 +65,11 @@ public int getPriority() {
 
     @Override
     public boolean supports(DataHolder dataHolder) {
-        final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
-
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().startTiming();
-            }
-            if (tuple.getFirst().supports(dataHolder)) {
-                if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
-                }
+        final ProcessorResolutionCache.Resolution<Tuple<DataProcessor<M, I>, Timing>> resolution = this.resolutions.resolve(dataHolder);
+        for (int i = 0; i < resolution.size(); i++) {
+            if (resolution.isKnownSupported(i) || resolution.get(i).getFirst().supports(dataHolder)) {
                 return true;
             }
-            if (callingFromMinecraftThread) {
-                tuple.getSecond().stopTiming();
-            }
         }
         return false;
     }
@@ -89,24 +82,23 @@ public boolean supports(EntityType entityType) {
     @Override
     public Optional<M> from(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
+        final ProcessorResolutionCache.Resolution<Tuple<DataProcessor<M, I>, Timing>> resolution = this.resolutions.resolve(dataHolder);
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (int i = 0; i < resolution.size(); i++) {
+            final Tuple<DataProcessor<M, I>, Timing> tuple = resolution.get(i);
+            if (!resolution.isKnownSupported(i) && !tuple.getFirst().supports(dataHolder)) {
+                continue;
+            }
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final Optional<M> optional = tuple.getFirst().from(dataHolder);
-                if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
-                }
-                if (optional.isPresent()) {
-                    return optional;
-                }
-            }
-
+            final Optional<M> optional = tuple.getFirst().from(dataHolder);
             if (callingFromMinecraftThread) {
                 tuple.getSecond().stopTiming();
             }
+            if (optional.isPresent()) {
+                return optional;
+            }
         }
         return Optional.empty();
     }
@@ -114,24 +106,23 @@ public Optional<M> from(DataHolder dataHolder) {
     @Override
     public Optional<M> fill(DataHolder dataHolder, M manipulator, MergeFunction overlap) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
+        final ProcessorResolutionCache.Resolution<Tuple<DataProcessor<M, I>, Timing>> resolution = this.resolutions.resolve(dataHolder);
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (int i = 0; i < resolution.size(); i++) {
+            final Tuple<DataProcessor<M, I>, Timing> tuple = resolution.get(i);
+            if (!resolution.isKnownSupported(i) && !tuple.getFirst().supports(dataHolder)) {
+                continue;
+            }
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final Optional<M> optional = tuple.getFirst().fill(dataHolder, manipulator, overlap);
-                if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
-                }
-                if (optional.isPresent()) {
-                    return optional;
-                }
-            }
+            final Optional<M> optional = tuple.getFirst().fill(dataHolder, manipulator, overlap);
             if (callingFromMinecraftThread) {
                 tuple.getSecond().stopTiming();
             }
-
+            if (optional.isPresent()) {
+                return optional;
+            }
         }
         return Optional.empty();
     }
@@ -158,23 +149,23 @@ public Optional<M> fill(DataContainer container, M m) {
     @Override
     public DataTransactionResult set(DataHolder dataHolder, M manipulator, MergeFunction function) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
+        final ProcessorResolutionCache.Resolution<Tuple<DataProcessor<M, I>, Timing>> resolution = this.resolutions.resolve(dataHolder);
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (int i = 0; i < resolution.size(); i++) {
+            final Tuple<DataProcessor<M, I>, Timing> tuple = resolution.get(i);
+            if (!resolution.isKnownSupported(i) && !tuple.getFirst().supports(dataHolder)) {
+                continue;
+            }
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final DataTransactionResult result = tuple.getFirst().set(dataHolder, manipulator, function);
-                if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
-                    if (callingFromMinecraftThread) {
-                        tuple.getSecond().stopTiming();
-                    }
-                    return result;
-                }
-            }
+            final DataTransactionResult result = tuple.getFirst().set(dataHolder, manipulator, function);
             if (callingFromMinecraftThread) {
                 tuple.getSecond().stopTiming();
             }
+            if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
+                return result;
+            }
         }
         return DataTransactionResult.failResult(manipulator.asImmutable().getValues());
     }
@@ -202,24 +193,23 @@ public Optional<I> with(Key<? extends BaseValue<?>> key, Object value, I immutab
     @Override
     public DataTransactionResult remove(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
+        final ProcessorResolutionCache.Resolution<Tuple<DataProcessor<M, I>, Timing>> resolution = this.resolutions.resolve(dataHolder);
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (int i = 0; i < resolution.size(); i++) {
+            final Tuple<DataProcessor<M, I>, Timing> tuple = resolution.get(i);
+            if (!resolution.isKnownSupported(i) && !tuple.getFirst().supports(dataHolder)) {
+                continue;
+            }
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final DataTransactionResult result = tuple.getFirst().remove(dataHolder);
-                if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
-                }
-                if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
-                    return result;
-                }
-            }
+            final DataTransactionResult result = tuple.getFirst().remove(dataHolder);
             if (callingFromMinecraftThread) {
                 tuple.getSecond().stopTiming();
             }
-
+            if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
+                return result;
+            }
         }
         return DataTransactionResult.failNoData();
     }
@@ -227,23 +217,23 @@ public DataTransactionResult remove(DataHolder dataHolder) {
     @Override
     public Optional<M> createFrom(DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = ServerUtils.isCallingFromMainThread();
+        final ProcessorResolutionCache.Resolution<Tuple<DataProcessor<M, I>, Timing>> resolution = this.resolutions.resolve(dataHolder);
 
-        for (Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (int i = 0; i < resolution.size(); i++) {
+            final Tuple<DataProcessor<M, I>, Timing> tuple = resolution.get(i);
+            if (!resolution.isKnownSupported(i) && !tuple.getFirst().supports(dataHolder)) {
+                continue;
+            }
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
-            if (tuple.getFirst().supports(dataHolder)) {
-                final Optional<M> optional = tuple.getFirst().createFrom(dataHolder);
-                if (callingFromMinecraftThread) {
-                    tuple.getSecond().stopTiming();
-                }
-                if (optional.isPresent()) {
-                    return optional;
-                }
-            }
+            final Optional<M> optional = tuple.getFirst().createFrom(dataHolder);
             if (callingFromMinecraftThread) {
                 tuple.getSecond().stopTiming();
             }
+            if (optional.isPresent()) {
+                return optional;
+            }
         }
         return Optional.empty();
     }
@@ -46,6 +46,7 @@
 import org.spongepowered.api.data.persistence.DataContentUpdater;
 import org.spongepowered.api.data.persistence.InvalidDataException;
 import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 import org.spongepowered.common.SpongeImpl;
@@ -65,6 +66,7 @@
 import org.spongepowered.common.data.persistence.SerializedDataTransaction;
 import org.spongepowered.common.data.processor.common.AbstractSingleDataSingleTargetProcessor;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.List;
@@ -438,4 +440,25 @@ public static Optional<NbtValueProcessor> getRawNbtProcessor(NbtDataType dataTyp
         return (Optional<DataRegistration<?, ?>>) (Optional<?>) SpongeManipulatorRegistry.getInstance().getRegistrationFor(id);
     }
 
+    /**
+     * Checks that no class between the given processor class and the base
+     * class declares its own {@code supports} method, in which case support
+     * is only decided by the holder class check of the base.
+     *
+     * @param processorClass The processor class
+     * @param base The base class whose support check only tests the holder class
+     * @return True if support only depends on the class of the holder
+     */
+    public static boolean isSupportClassBound(Class<?> processorClass, Class<?> base) {
+        for (Class<?> type = processorClass; type != null && type != base; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.getName().equals("supports") && method.getParameterCount() == 1 && !method.isBridge()
+                        && method.getParameterTypes()[0] != EntityType.class) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
 }
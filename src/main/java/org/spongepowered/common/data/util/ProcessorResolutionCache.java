@@ -0,0 +1,126 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.util;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * Caches which processors of a delegate may support a holder, by the
+ * concrete class of the holder.
+ *
+ * <p>Processors whose support is decided by the holder class alone are
+ * checked once per class: they are either dropped or marked as known to be
+ * supported. All other processors stay candidates and are still checked
+ * against every holder, in priority order. The processors of a delegate
+ * are fixed when the registry is baked, so a new delegate, and with it a
+ * new cache, is created whenever processors are registered.</p>
+ *
+ * @param <P> The type of processor
+ */
+final class ProcessorResolutionCache<P> {
+
+    private final ImmutableList<P> processors;
+    private final Predicate<P> classBound;
+    private final BiPredicate<P, Object> supports;
+    private final Map<Class<?>, Resolution<P>> resolutions = new ConcurrentHashMap<>();
+    private final Resolution<P> unresolved;
+
+    ProcessorResolutionCache(ImmutableList<P> processors, Predicate<P> classBound, BiPredicate<P, Object> supports) {
+        this.processors = processors;
+        this.classBound = classBound;
+        this.supports = supports;
+        this.unresolved = new Resolution<>(new ArrayList<>(processors), new boolean[processors.size()]);
+    }
+
+    /**
+     * Gets the processors that may support the given holder.
+     *
+     * @param holder The holder
+     * @return The resolution for the class of the holder
+     */
+    Resolution<P> resolve(@Nullable Object holder) {
+        if (holder == null) {
+            return this.unresolved;
+        }
+        final Class<?> type = holder.getClass();
+        Resolution<P> resolution = this.resolutions.get(type);
+        if (resolution == null) {
+            final List<P> candidates = new ArrayList<>(this.processors.size());
+            final boolean[] known = new boolean[this.processors.size()];
+            for (P processor : this.processors) {
+                if (this.classBound.test(processor)) {
+                    if (!this.supports.test(processor, holder)) {
+                        continue;
+                    }
+                    known[candidates.size()] = true;
+                }
+                candidates.add(processor);
+            }
+            resolution = new Resolution<>(candidates, known);
+            final Resolution<P> existing = this.resolutions.putIfAbsent(type, resolution);
+            if (existing != null) {
+                resolution = existing;
+            }
+        }
+        return resolution;
+    }
+
+    static final class Resolution<P> {
+
+        private final List<P> candidates;
+        private final boolean[] known;
+
+        Resolution(List<P> candidates, boolean[] known) {
+            this.candidates = candidates;
+            this.known = known;
+        }
+
+        int size() {
+            return this.candidates.size();
+        }
+
+        P get(int index) {
+            return this.candidates.get(index);
+        }
+
+        /**
+         * Gets whether the processor at the index is known to support
+         * every holder of the resolved class.
+         */
+        boolean isKnownSupported(int index) {
+            return this.known[index];
+        }
+    }
+
+}
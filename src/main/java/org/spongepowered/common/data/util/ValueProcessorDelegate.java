@@ -45,11 +45,12 @@
 public final class ValueProcessorDelegate<E, V extends BaseValue<E>> implements ValueProcessor<E, V> {
 
     private final Key<V> key;
-    private final ImmutableList<ValueProcessor<E, V>> processors;
+    private final ProcessorResolutionCache<ValueProcessor<E, V>> resolutions;
 
     public ValueProcessorDelegate(Key<V> key, ImmutableList<ValueProcessor<E, V>> processors) {
         this.key = key;
-        this.processors = processors;
+        this.resolutions = new ProcessorResolutionCache<>(processors, ValueProcessor::isContainerSupportClassBound,
+                (processor, container) -> processor.supports((ValueContainer<?>) container));
     }
 
     @Override
@@ -64,8 +65,10 @@ public int getPriority() {
 
     @Override
     public Optional<E> getValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final ProcessorResolutionCache.Resolution<ValueProcessor<E, V>> resolution = this.resolutions.resolve(container);
+        for (int i = 0; i < resolution.size(); i++) {
+            final ValueProcessor<E, V> processor = resolution.get(i);
+            if (resolution.isKnownSupported(i) || processor.supports(container)) {
                 final Optional<E> optional = processor.getValueFromContainer(container);
                 if (optional.isPresent()) {
                     return optional;
@@ -77,8 +80,10 @@ public Optional<E> getValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final ProcessorResolutionCache.Resolution<ValueProcessor<E, V>> resolution = this.resolutions.resolve(container);
+        for (int i = 0; i < resolution.size(); i++) {
+            final ValueProcessor<E, V> processor = resolution.get(i);
+            if (resolution.isKnownSupported(i) || processor.supports(container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
                     return optional;
@@ -90,8 +95,10 @@ public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public boolean supports(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final ProcessorResolutionCache.Resolution<ValueProcessor<E, V>> resolution = this.resolutions.resolve(container);
+        for (int i = 0; i < resolution.size(); i++) {
+            final ValueProcessor<E, V> processor = resolution.get(i);
+            if (resolution.isKnownSupported(i) || processor.supports(container)) {
                 return true;
             }
         }
@@ -101,16 +108,19 @@ public boolean supports(ValueContainer<?> container) {
     @SuppressWarnings("unchecked")
     @Override
     public DataTransactionResult offerToStore(ValueContainer<?> container, E value) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final ProcessorResolutionCache.Resolution<ValueProcessor<E, V>> resolution = this.resolutions.resolve(container);
+        for (int i = 0; i < resolution.size(); i++) {
+            final ValueProcessor<E, V> processor = resolution.get(i);
+            if (resolution.isKnownSupported(i) || processor.supports(container)) {
                 final DataTransactionResult result = processor.offerToStore(container, value);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
                     return result;
                 }
             }
         }
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        for (int i = 0; i < resolution.size(); i++) {
+            final ValueProcessor<E, V> processor = resolution.get(i);
+            if (resolution.isKnownSupported(i) || processor.supports(container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
                     V mutable = optional.get();
@@ -124,8 +134,10 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
 
     @Override
     public DataTransactionResult removeFrom(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
-            if (processor.supports(container)) {
+        final ProcessorResolutionCache.Resolution<ValueProcessor<E, V>> resolution = this.resolutions.resolve(container);
+        for (int i = 0; i < resolution.size(); i++) {
+            final ValueProcessor<E, V> processor = resolution.get(i);
+            if (resolution.isKnownSupported(i) || processor.supports(container)) {
                 final DataTransactionResult result = processor.removeFrom(container);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
                     return result;
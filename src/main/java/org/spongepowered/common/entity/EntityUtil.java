@@ -116,6 +116,7 @@
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.registry.type.entity.ProfessionRegistryModule;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ParallelWorldTicker;
 import org.spongepowered.common.world.WorldManager;
 
 import java.util.ArrayList;
@@ -161,6 +162,15 @@ public boolean apply(Entity entity) {
     @Nullable
     public static Entity transferEntityToDimension(IMixinEntity mixinEntity, int toSuggestedDimension) {
         final Entity entity = toNative(mixinEntity);
+        // Worlds ticked in parallel can't access each other, the entity is moved once all worlds finished ticking
+        if (ParallelWorldTicker.isWorldTickThread()) {
+            ParallelWorldTicker.handOff(() -> {
+                if (!entity.isDead) {
+                    transferEntityToDimension(mixinEntity, toSuggestedDimension);
+                }
+            });
+            return null;
+        }
         // handle portal event
         MoveEntityEvent.Teleport.Portal event = handleDisplaceEntityPortalEvent(entity, toSuggestedDimension, null);
         if (event == null || event.isCancelled()) {
@@ -201,6 +211,14 @@ public static Entity transferEntityToDimension(IMixinEntity mixinEntity, int toS
     @Nullable
     public static Entity teleportPlayerToDimension(IMixinEntityPlayerMP mixinEntityPlayerMP, int suggestedDimensionId) {
         final EntityPlayerMP entityPlayerMP = toNative(mixinEntityPlayerMP);
+        if (ParallelWorldTicker.isWorldTickThread()) {
+            ParallelWorldTicker.handOff(() -> {
+                if (!entityPlayerMP.isDead) {
+                    teleportPlayerToDimension(mixinEntityPlayerMP, suggestedDimensionId);
+                }
+            });
+            return null;
+        }
         boolean sameDimension = entityPlayerMP.dimension == suggestedDimensionId;
         // If leaving The End via End's Portal
         // Sponge Start - Check the provider, not the world's dimension
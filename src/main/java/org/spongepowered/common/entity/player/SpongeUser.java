@@ -50,6 +50,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.util.DataQueries;
 import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.service.user.SpongeUserStorageService;
 import org.spongepowered.common.world.WorldManager;
 
 import java.io.File;
@@ -307,6 +308,7 @@ public void save() {
         writeToNbt(tag);
         try {
             CompressedStreamTools.writeCompressed(tag, new FileOutputStream(dataFile));
+            SpongeUserStorageService.invalidateUserData(getUniqueId());
             dirtyUsers.remove(this);
         } catch (IOException e) {
             SpongeImpl.getLogger().warn("Failed to save user file [{}]!", dataFile, e);
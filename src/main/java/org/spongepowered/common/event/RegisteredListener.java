@@ -28,7 +28,7 @@
 
 import co.aikar.timings.SpongeTimings;
 import co.aikar.timings.Timing;
-import com.google.common.collect.Lists;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Maps;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
@@ -108,14 +108,19 @@ public static final class Cache {
         private static final Order[] ORDERS = Order.values();
 
         Cache(List<RegisteredListener<?>> listeners) {
-            this.listeners = listeners;
+            this.listeners = ImmutableList.copyOf(listeners);
 
+            // Listeners are already sorted by order, so each order is one
+            // contiguous range of the baked list
             this.listenersByOrder = Maps.newEnumMap(Order.class);
+            int start = 0;
             for (Order order : ORDERS) {
-                this.listenersByOrder.put(order, Lists.<RegisteredListener<?>>newArrayList());
-            }
-            for (RegisteredListener<?> handler : listeners) {
-                this.listenersByOrder.get(handler.getOrder()).add(handler);
+                int end = start;
+                while (end < this.listeners.size() && this.listeners.get(end).getOrder() == order) {
+                    end++;
+                }
+                this.listenersByOrder.put(order, this.listeners.subList(start, end));
+                start = end;
             }
         }
 
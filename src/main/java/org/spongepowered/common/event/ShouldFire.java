@@ -44,6 +44,7 @@ public class ShouldFire {
     public static boolean CHANGE_BLOCK_EVENT = false;
     public static boolean CHANGE_BLOCK_EVENT_BREAK = false;
     public static boolean CHANGE_BLOCK_EVENT_PLACE = false;
+    public static boolean CHANGE_BLOCK_EVENT_MODIFY = false;
     public static boolean CHANGE_BLOCK_EVENT_POST = false;
 
     public static boolean DROP_ITEM_EVENT = false;
@@ -92,6 +92,7 @@
 import org.spongepowered.api.item.inventory.type.CarriedInventory;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.api.text.chat.ChatTypes;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.world.LocatableBlock;
@@ -119,6 +120,7 @@
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
 import org.spongepowered.common.registry.provider.DirectionFacingProvider;
 import org.spongepowered.common.text.SpongeTexts;
+import org.spongepowered.common.text.chat.ChatUtil;
 import org.spongepowered.common.util.VecHelper;
 
 import java.lang.ref.WeakReference;
@@ -497,7 +499,7 @@ public static boolean callDestructEntityEventDeath(EntityLivingBase entity, Dama
         SpongeImpl.postEvent(event);
         Text message = event.getMessage();
         if (!event.isMessageCancelled() && !message.isEmpty()) {
-            event.getChannel().ifPresent(eventChannel -> eventChannel.send(entity, event.getMessage()));
+            event.getChannel().ifPresent(eventChannel -> ChatUtil.send(eventChannel, entity, event.getMessage(), ChatTypes.SYSTEM));
         }
         return true;
     }
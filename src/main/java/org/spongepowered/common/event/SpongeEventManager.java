@@ -29,9 +29,8 @@
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
-import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 import com.google.common.reflect.TypeToken;
 import org.apache.logging.log4j.Logger;
@@ -54,7 +53,6 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -75,14 +73,29 @@ public class SpongeEventManager implements EventManager {
     private final DefineableClassLoader classLoader = new DefineableClassLoader(getClass().getClassLoader());
     private final AnnotatedEventListener.Factory handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener",
             new FilterFactory("org.spongepowered.common.event.filters", this.classLoader), this.classLoader);
-    private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent = HashMultimap.create();
     private final Set<Object> registeredListeners = Sets.newHashSet();
 
+    /**
+     * An immutable snapshot of all registered handlers by event class.
+     * <p>Writers copy the table under {@link #lock} and swap it in, readers
+     * (baking of the handler cache) never lock.</p>
+     */
+    private volatile ImmutableSetMultimap<Class<?>, RegisteredListener<?>> handlersByEvent = ImmutableSetMultimap.of();
+
+    /**
+     * All event classes for which a handler cache was ever requested. An event
+     * class is added <strong>before</strong> the handler table is read so a
+     * concurrent change to the table will always see the class and invalidate
+     * a potentially stale bake.
+     */
+    private final Set<Class<?>> bakedEventClasses = Sets.newConcurrentHashSet();
+
     public final ListenerChecker checker = new ListenerChecker(ShouldFire.class);
 
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
+     * <p>Only the entries of event types which are a subtype of a changed
+     * handler's event class are invalidated if handlers are added or
      * removed.</p>
      */
     private final LoadingCache<Class<? extends Event>, RegisteredListener.Cache> handlersCache =
@@ -118,14 +131,15 @@ public SpongeEventManager(Logger logger, PluginManager pluginManager) {
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(Class<T> rootEvent) {
+        this.bakedEventClasses.add(rootEvent);
+
         List<RegisteredListener<?>> handlers = Lists.newArrayList();
         Set<Class<? super T>> types = TypeToken.of(rootEvent).getTypes().rawTypes();
+        ImmutableSetMultimap<Class<?>, RegisteredListener<?>> handlersByEvent = this.handlersByEvent;
 
-        synchronized (this.lock) {
-            for (Class<? super T> type : types) {
-                if (Event.class.isAssignableFrom(type)) {
-                    handlers.addAll(this.handlersByEvent.get(type));
-                }
+        for (Class<? super T> type : types) {
+            if (Event.class.isAssignableFrom(type)) {
+                handlers.addAll(handlersByEvent.get(type));
             }
         }
 
@@ -169,17 +183,41 @@ private void register(RegisteredListener<? extends Event> handler) {
 
     private void register(List<RegisteredListener<? extends Event>> handlers) {
         synchronized (this.lock) {
-            boolean changed = false;
+            final ImmutableSetMultimap<Class<?>, RegisteredListener<?>> current = this.handlersByEvent;
+            final Set<Class<?>> changed = Sets.newHashSet();
 
             for (RegisteredListener<?> handler : handlers) {
-                if (this.handlersByEvent.put(handler.getEventClass(), handler)) {
-                    changed = true;
+                if (!current.containsEntry(handler.getEventClass(), handler) && changed.add(handler.getEventClass())) {
                     this.checker.registerListenerFor(handler.getEventClass());
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
+            if (!changed.isEmpty()) {
+                final ImmutableSetMultimap.Builder<Class<?>, RegisteredListener<?>> builder = ImmutableSetMultimap.builder();
+                builder.putAll(current);
+                for (RegisteredListener<?> handler : handlers) {
+                    builder.put(handler.getEventClass(), handler);
+                }
+                this.handlersByEvent = builder.build();
+                invalidateHandlers(changed);
+            }
+        }
+    }
+
+    /**
+     * Invalidates the baked handlers of every event type that is a subtype of
+     * one of the given event classes. Must be called after the new handler
+     * table has been published.
+     *
+     * @param changed The event classes whose handlers were added or removed
+     */
+    private void invalidateHandlers(Set<Class<?>> changed) {
+        for (Class<?> eventClass : this.bakedEventClasses) {
+            for (Class<?> changedClass : changed) {
+                if (changedClass.isAssignableFrom(eventClass)) {
+                    this.handlersCache.invalidate(eventClass);
+                    break;
+                }
             }
         }
     }
@@ -201,7 +239,7 @@ private void disableFields(Collection<RegisteredListener<? extends Event>> handl
 
     // Override in SpongeModEventManager
     protected boolean hasAnyListeners(Class<? extends Event> clazz) {
-        return !this.handlersCache.get(clazz).getListeners().isEmpty();
+        return !getHandlerCache(clazz).getListeners().isEmpty();
     }
 
     public void registerListener(PluginContainer plugin, Object listenerObject) {
@@ -302,20 +340,27 @@ public <T extends Event> void registerListener(Object plugin, Class<T> eventClas
 
     private void unregister(Predicate<RegisteredListener<?>> unregister) {
         synchronized (this.lock) {
-            boolean changed = false;
+            final ImmutableSetMultimap.Builder<Class<?>, RegisteredListener<?>> builder = ImmutableSetMultimap.builder();
+            final Set<Class<?>> changed = Sets.newHashSet();
 
-            Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
-            while (itr.hasNext()) {
-                RegisteredListener<?> handler = itr.next();
+            for (Map.Entry<Class<?>, RegisteredListener<?>> entry : this.handlersByEvent.entries()) {
+                RegisteredListener<?> handler = entry.getValue();
                 if (unregister.test(handler)) {
-                    itr.remove();
-                    changed = true;
-                    this.checker.unregisterListenerFor(handler.getEventClass());
+                    changed.add(handler.getEventClass());
+                } else {
+                    builder.put(entry);
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
+            if (!changed.isEmpty()) {
+                final ImmutableSetMultimap<Class<?>, RegisteredListener<?>> handlersByEvent = builder.build();
+                this.handlersByEvent = handlersByEvent;
+                for (Class<?> eventClass : changed) {
+                    if (!handlersByEvent.containsKey(eventClass)) {
+                        this.checker.unregisterListenerFor(eventClass);
+                    }
+                }
+                invalidateHandlers(changed);
             }
         }
     }
@@ -334,7 +379,11 @@ public void unregisterPluginListeners(Object pluginObj) {
     }
 
     protected RegisteredListener.Cache getHandlerCache(Event event) {
-        return this.handlersCache.get(checkNotNull(event, "event").getClass());
+        return getHandlerCache(checkNotNull(event, "event").getClass());
+    }
+
+    protected RegisteredListener.Cache getHandlerCache(Class<? extends Event> eventClass) {
+        return this.handlersCache.get(eventClass);
     }
 
     @SuppressWarnings("unchecked")
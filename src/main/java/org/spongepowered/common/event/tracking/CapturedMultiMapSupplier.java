@@ -44,6 +44,14 @@
     CapturedMultiMapSupplier() {
     }
 
+    /**
+     * Drops the captured multimap so this supplier can be reused, the
+     * multimap itself is left untouched as it may still be referenced.
+     */
+    final void reset() {
+        this.captured = null;
+    }
+
     @Override
     public ListMultimap<K, V> get() {
         if (this.captured == null) {
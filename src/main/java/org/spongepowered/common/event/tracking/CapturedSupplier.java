@@ -40,6 +40,14 @@
     CapturedSupplier() {
     }
 
+    /**
+     * Drops the captured list so this supplier can be reused, the list
+     * itself is left untouched as it may still be referenced.
+     */
+    final void reset() {
+        this.captured = null;
+    }
+
     @Override
     public final List<T> get() {
         if (this.captured == null) {
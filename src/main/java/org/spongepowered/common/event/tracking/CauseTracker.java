@@ -62,6 +62,7 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.ParallelWorldTicker;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -113,9 +114,23 @@ private CauseTracker() {
         checkState(INSTANCE == null, "More than one CauseTracker instance is being created!!! Two cannot exist at once!");
     }
 
+    /**
+     * Creates the cause tracker of a world tick thread, each of these threads
+     * ticks one world at a time and tracks its phases separately.
+     *
+     * @param worldTickThread The world tick thread
+     */
+    private CauseTracker(Thread worldTickThread) {
+        checkState(worldTickThread instanceof ParallelWorldTicker.WorkerThread, "Only world tick threads may have their own CauseTracker!");
+    }
+
     private static final CauseTracker INSTANCE = new CauseTracker();
+    private static final ThreadLocal<CauseTracker> WORLD_TICK_INSTANCES = ThreadLocal.withInitial(() -> new CauseTracker(Thread.currentThread()));
 
     public static CauseTracker getInstance() {
+        if (Thread.currentThread() instanceof ParallelWorldTicker.WorkerThread) {
+            return WORLD_TICK_INSTANCES.get();
+        }
         return checkNotNull(INSTANCE, "CauseTracker instance was illegally set to null!");
     }
 
@@ -220,9 +235,10 @@ public void completePhase(IPhaseState prevState) {
             try { // Yes this is a nested try, but in the event the current phase cannot be unwound, at least unwind UNWINDING
                 this.currentProcessingState = currentPhaseData;
                 phase.unwind(state, context);
-                this.currentProcessingState = null;
             } catch (Exception | NoClassDefFoundError e) {
                 printMessageWithCaughtException("Exception Exiting Phase", "Something happened when trying to unwind", state, context, e);
+            } finally {
+                this.currentProcessingState = null;
             }
             if (state != GeneralPhase.Post.UNWINDING && phase.requiresPost(state)) {
                 try {
@@ -234,6 +250,8 @@ public void completePhase(IPhaseState prevState) {
         } catch (Exception | NoClassDefFoundError e) {
             printMessageWithCaughtException("Exception Post Dispatching Phase", "Something happened when trying to post dispatch state", state, context, e);
         }
+        // Nothing refers to the context anymore, it can be reused by the next phase
+        context.release();
     }
 
     private void printRunnawayPhaseCompletion(IPhaseState state) {
@@ -414,6 +432,7 @@ public void notifyBlockOfStateChange(final IMixinWorldServer mixinWorld, final B
      */
     public boolean setBlockState(final IMixinWorldServer mixinWorld, final BlockPos pos, final IBlockState newState, final int flags) {
         final net.minecraft.world.World minecraftWorld = mixinWorld.asMinecraftWorld();
+        ParallelWorldTicker.checkWorldAccess(minecraftWorld, "setBlockState");
         final Chunk chunk = minecraftWorld.getChunkFromBlockCoords(pos);
         // It is now possible for setBlockState to be called on an empty chunk due to our optimization
         // for returning empty chunks when we don't want a chunk to load.
@@ -507,6 +526,7 @@ else if (!minecraftWorld.isRemote && (flags & 16) == 0)
 
     public boolean setBlockStateWithFlag(final IMixinWorldServer mixinWorld, final BlockPos pos, final IBlockState newState, BlockChangeFlag flag) {
         final net.minecraft.world.World minecraftWorld = mixinWorld.asMinecraftWorld();
+        ParallelWorldTicker.checkWorldAccess(minecraftWorld, "setBlockState");
         final Chunk chunk = minecraftWorld.getChunkFromBlockCoords(pos);
         final IMixinChunk mixinChunk = (IMixinChunk) chunk;
         final Block newBlock = newState.getBlock();
@@ -567,6 +587,7 @@ public boolean spawnEntity(Entity entity) {
 
         final net.minecraft.entity.Entity minecraftEntity = EntityUtil.toNative(entity);
         final WorldServer minecraftWorld = (WorldServer) minecraftEntity.world;
+        ParallelWorldTicker.checkWorldAccess(minecraftWorld, "spawnEntity");
         final IMixinWorldServer mixinWorldServer = (IMixinWorldServer) minecraftWorld;
         final PhaseData phaseData = this.stack.peek();
         final IPhaseState phaseState = phaseData.state;
@@ -47,12 +47,14 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
@@ -62,10 +64,32 @@
  * exists to avoid confusion between what is suggested to be a
  * {@link Cause} for an {@link Event} versus the context of which
  * a {@link IPhaseState} is being completed with.
+ *
+ * <p>Contexts are pooled per thread, a context and its capture suppliers
+ * are reset and reused once its phase is completed. Captures are kept in
+ * typed slots, {@link #captures} marks which of them are in use.</p>
  */
 public class PhaseContext {
 
+    private static final int POOL_SIZE = 32;
+    private static final ThreadLocal<ArrayDeque<PhaseContext>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private static final int BLOCKS = 1;
+    private static final int BLOCK_ITEM_DROPS = 1 << 1;
+    private static final int BLOCK_ITEM_ENTITY_DROPS = 1 << 2;
+    private static final int BLOCK_ENTITY_SPAWNS = 1 << 3;
+    private static final int BLOCK_POS = 1 << 4;
+    private static final int ITEMS = 1 << 5;
+    private static final int ENTITIES = 1 << 6;
+    private static final int ITEM_STACKS = 1 << 7;
+    private static final int ENTITY_ITEM_DROPS = 1 << 8;
+    private static final int ENTITY_ITEM_ENTITY_DROPS = 1 << 9;
+    private static final int PLAYER = 1 << 10;
+    private static final int EXPLOSION = 1 << 11;
+
     private boolean isCompleted = false;
+    private boolean isPooled = false;
+    private int captures;
     private final ArrayList<NamedCause> contextObjects = new ArrayList<>(10);
     @Nullable private Cause cause = null;
 
@@ -79,6 +103,8 @@ public class PhaseContext {
     @Nullable private EntityItemEntityDropsSupplier entityItemEntityDropsSupplier;
     @Nullable private CapturedMultiMapSupplier<BlockPos, net.minecraft.entity.Entity> blockEntitySpawnSupplier;
     @Nullable private CaptureBlockPos captureBlockPos;
+    @Nullable private CapturePlayer capturePlayer;
+    @Nullable private CaptureExplosion captureExplosion;
     @Nullable protected User owner;
     @Nullable protected User notifier;
     @Nullable protected PluginContainer activeContainer;
@@ -86,7 +112,97 @@ public class PhaseContext {
     private Object source;
 
     public static PhaseContext start() {
-        return new PhaseContext();
+        final PhaseContext context = POOL.get().poll();
+        if (context == null) {
+            return new PhaseContext();
+        }
+        context.isPooled = false;
+        return context;
+    }
+
+    /**
+     * Resets this context and returns it to the pool of the current thread,
+     * called once the phase of this context is completed. Captured lists
+     * are not cleared, as they may still be referenced by events.
+     */
+    void release() {
+        if (this.isPooled || getClass() != PhaseContext.class) {
+            return;
+        }
+        this.isCompleted = false;
+        this.contextObjects.clear();
+        this.cause = null;
+        this.source = null;
+        this.owner = null;
+        this.notifier = null;
+        this.activeContainer = null;
+        this.cachedClass = null;
+        this.cachedObject = null;
+        this.cachedName = null;
+        if (this.captures != 0) {
+            resetCaptures();
+        }
+        final ArrayDeque<PhaseContext> pool = POOL.get();
+        if (pool.size() < POOL_SIZE) {
+            this.isPooled = true;
+            pool.push(this);
+        }
+    }
+
+    private void resetCaptures() {
+        if (isCapturing(BLOCKS)) {
+            this.blocksSupplier.reset();
+        }
+        if (isCapturing(BLOCK_ITEM_DROPS)) {
+            this.blockItemDropsSupplier.reset();
+        }
+        if (isCapturing(BLOCK_ITEM_ENTITY_DROPS)) {
+            this.blockItemEntityDropsSupplier.reset();
+        }
+        if (isCapturing(BLOCK_ENTITY_SPAWNS)) {
+            this.blockEntitySpawnSupplier.reset();
+        }
+        if (isCapturing(BLOCK_POS)) {
+            this.captureBlockPos.setPos(null);
+            this.captureBlockPos.setWorld((IMixinWorldServer) null);
+        }
+        if (isCapturing(ITEMS)) {
+            this.capturedItemsSupplier.reset();
+        }
+        if (isCapturing(ENTITIES)) {
+            this.capturedEntitiesSupplier.reset();
+        }
+        if (isCapturing(ITEM_STACKS)) {
+            this.capturedItemStackSupplier.reset();
+        }
+        if (isCapturing(ENTITY_ITEM_DROPS)) {
+            this.entityItemDropsSupplier.reset();
+        }
+        if (isCapturing(ENTITY_ITEM_ENTITY_DROPS)) {
+            this.entityItemEntityDropsSupplier.reset();
+        }
+        if (isCapturing(PLAYER)) {
+            this.capturePlayer.player = null;
+        }
+        if (isCapturing(EXPLOSION)) {
+            this.captureExplosion.explosion = null;
+        }
+        this.captures = 0;
+    }
+
+    private boolean isCapturing(int capture) {
+        return (this.captures & capture) != 0;
+    }
+
+    private void startCapturing(int capture, String name) {
+        if ((this.captures & capture) != 0) {
+            throw new IllegalStateException(name + " is already set!");
+        }
+        this.captures |= capture;
+    }
+
+    private static <T> T reuse(@Nullable T capture, Supplier<T> constructor) {
+        return capture == null ? constructor.get() : capture;
     }
 
     public PhaseContext add(@Nullable NamedCause namedCause) {
@@ -121,142 +237,87 @@ public PhaseContext notifier(User notifier) {
         return this;
     }
 
-    private void checkBlockSuppliers() {
-        checkState(this.blocksSupplier == null, "BlocksSuppler is already set!");
-        checkState(this.blockItemEntityDropsSupplier == null, "BlockItemEntityDropsSupplier is already set!");
-        checkState(this.blockItemDropsSupplier == null, "BlockItemDropsSupplier is already set!");
-        checkState(this.blockEntitySpawnSupplier == null, "BlockEntitySpawnSupplier is already set!");
-        checkState(this.captureBlockPos == null, "CaptureBlockPos is already set!");
+    private void startBlockCaptures() {
+        startCapturing(BLOCKS, "BlocksSuppler");
+        startCapturing(BLOCK_ITEM_ENTITY_DROPS, "BlockItemEntityDropsSupplier");
+        startCapturing(BLOCK_ITEM_DROPS, "BlockItemDropsSupplier");
+        startCapturing(BLOCK_ENTITY_SPAWNS, "BlockEntitySpawnSupplier");
+        this.blocksSupplier = reuse(this.blocksSupplier, CapturedBlocksSupplier::new);
+        this.blockItemEntityDropsSupplier = reuse(this.blockItemEntityDropsSupplier, BlockItemEntityDropsSupplier::new);
+        this.blockItemDropsSupplier = reuse(this.blockItemDropsSupplier, BlockItemDropsSupplier::new);
+        this.blockEntitySpawnSupplier = reuse(this.blockEntitySpawnSupplier, CapturedBlockEntitySpawnSupplier::new);
+    }
+
+    private void startEntityCaptures() {
+        startCapturing(ITEMS, "CapturedItemsSupplier");
+        startCapturing(ENTITIES, "CapturedEntitiesSupplier");
+        startCapturing(ITEM_STACKS, "CapturedItemStackSupplier");
+        this.capturedItemsSupplier = reuse(this.capturedItemsSupplier, CapturedItemsSupplier::new);
+        this.capturedEntitiesSupplier = reuse(this.capturedEntitiesSupplier, CapturedEntitiesSupplier::new);
+        this.capturedItemStackSupplier = reuse(this.capturedItemStackSupplier, CapturedItemStackSupplier::new);
     }
 
     public PhaseContext addBlockCaptures() {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
-        this.checkBlockSuppliers();
-
-        CapturedBlocksSupplier blocksSupplier = new CapturedBlocksSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, blocksSupplier));
-        this.blocksSupplier = blocksSupplier;
-        BlockItemEntityDropsSupplier blockItemEntityDropsSupplier = new BlockItemEntityDropsSupplier();
-        // unused, to be removed and re-located when phase context is cleaned up
-        //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_ITEM_DROPS, blockItemEntityDropsSupplier));
-        this.blockItemEntityDropsSupplier = blockItemEntityDropsSupplier;
-        BlockItemDropsSupplier blockItemDropsSupplier = new BlockItemDropsSupplier();
-        // unused, to be removed and re-located when phase context is cleaned up
-        //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_DROPS, blockItemDropsSupplier));
-        this.blockItemDropsSupplier = blockItemDropsSupplier;
-        CapturedBlockEntitySpawnSupplier capturedBlockEntitySpawnSupplier = new CapturedBlockEntitySpawnSupplier();
-        // unused, to be removed and re-located when phase context is cleaned up
-        //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_ENTITY_SPAWNS, capturedBlockEntitySpawnSupplier));
-        this.blockEntitySpawnSupplier = capturedBlockEntitySpawnSupplier;
-
-        CaptureBlockPos blockPos = new CaptureBlockPos();
-        // unused, to be removed and re-located when phase context is cleaned up
-        //this.contextObjects.add(NamedCause
-        this.captureBlockPos = blockPos;
+        checkState(!isCapturing(BLOCK_POS), "CaptureBlockPos is already set!");
+        this.startBlockCaptures();
+        startCapturing(BLOCK_POS, "CaptureBlockPos");
+        this.captureBlockPos = reuse(this.captureBlockPos, CaptureBlockPos::new);
         return this;
     }
 
     public PhaseContext addCaptures() {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
-        this.checkBlockSuppliers();
-        checkState(this.capturedItemsSupplier == null, "CapturedItemsSupplier is already set!");
-        checkState(this.capturedEntitiesSupplier == null, "CapturedEntitiesSupplier is already set!");
-        checkState(this.capturedItemStackSupplier == null, "CapturedItemStackSupplier is already set!");
-
-        CapturedBlocksSupplier blocksSupplier = new CapturedBlocksSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, blocksSupplier));
-        this.blocksSupplier = blocksSupplier;
-        BlockItemEntityDropsSupplier blockItemEntityDropsSupplier = new BlockItemEntityDropsSupplier();
-        // unused, to be removed and re-located when phase context is cleaned up
-        //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_ITEM_DROPS, blockItemEntityDropsSupplier));
-        this.blockItemEntityDropsSupplier = blockItemEntityDropsSupplier;
-        BlockItemDropsSupplier blockItemDropsSupplier = new BlockItemDropsSupplier();
-        // unused, to be removed and re-located when phase context is cleaned up
-        //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_DROPS, blockItemDropsSupplier));
-        this.blockItemDropsSupplier = blockItemDropsSupplier;
-        CapturedItemsSupplier capturedItemsSupplier = new CapturedItemsSupplier();
-        // unused, to be removed and re-located when phase context is cleaned up
-        //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ITEMS, capturedItemsSupplier));
-        this.capturedItemsSupplier = capturedItemsSupplier;
-        CapturedEntitiesSupplier capturedEntitiesSupplier = new CapturedEntitiesSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITIES, capturedEntitiesSupplier));
-        this.capturedEntitiesSupplier = capturedEntitiesSupplier;
-        CapturedItemStackSupplier capturedItemStackSupplier = new CapturedItemStackSupplier();
-        // unused, to be removed and re-located when phase context is cleaned up
-        //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ITEM_STACKS, capturedItemStackSupplier));
-        this.capturedItemStackSupplier = capturedItemStackSupplier;
-
-        CapturedBlockEntitySpawnSupplier capturedBlockEntitySpawnSupplier = new CapturedBlockEntitySpawnSupplier();
-        // unused, to be removed and re-located when phase context is cleaned up
-        //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCK_ENTITY_SPAWNS, capturedBlockEntitySpawnSupplier));
-        this.blockEntitySpawnSupplier = capturedBlockEntitySpawnSupplier;
+        checkState(!isCapturing(BLOCK_POS), "CaptureBlockPos is already set!");
+        this.startBlockCaptures();
+        this.startEntityCaptures();
         return this;
     }
 
     public PhaseContext addEntityCaptures() {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
-        checkState(this.capturedItemsSupplier == null, "CapturedItemsSupplier is already set!");
-        checkState(this.capturedEntitiesSupplier == null, "CapturedEntitiesSupplier is already set!");
-        checkState(this.capturedItemStackSupplier == null, "CapturedItemStackSupplier is already set!");
-
-        CapturedItemsSupplier capturedItemsSupplier = new CapturedItemsSupplier();
-        // unused, to be removed and re-located when phase context is cleaned up
-        //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ITEMS, capturedItemsSupplier));
-        this.capturedItemsSupplier = capturedItemsSupplier;
-        CapturedEntitiesSupplier capturedEntitiesSupplier = new CapturedEntitiesSupplier();
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITIES, capturedEntitiesSupplier));
-        this.capturedEntitiesSupplier = capturedEntitiesSupplier;
-        CapturedItemStackSupplier capturedItemStackSupplier = new CapturedItemStackSupplier();
-        // unused, to be removed and re-located when phase context is cleaned up
-        //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ITEM_STACKS, capturedItemStackSupplier));
-        this.capturedItemStackSupplier = capturedItemStackSupplier;
+        this.startEntityCaptures();
         return this;
     }
 
     public PhaseContext addEntityDropCaptures() {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
-        checkState(this.entityItemDropsSupplier == null, "EntityItemDropsSupplier is already set!");
-        checkState(this.entityItemEntityDropsSupplier == null, "EntityItemEntityDropsSupplier is already set!");
-
-        EntityItemDropsSupplier entityItemDropsSupplier = new EntityItemDropsSupplier();
-        // unused, to be removed and re-located when phase context is cleaned up
-        //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITY_STACK_DROPS, entityItemDropsSupplier));
-        this.entityItemDropsSupplier = entityItemDropsSupplier;
-        EntityItemEntityDropsSupplier entityItemEntityDropsSupplier = new EntityItemEntityDropsSupplier();
-        // unused, to be removed and re-located when phase context is cleaned up
-        //this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITY_ITEM_DROPS, entityItemEntityDropsSupplier));
-        this.entityItemEntityDropsSupplier = entityItemEntityDropsSupplier;
+        startCapturing(ENTITY_ITEM_DROPS, "EntityItemDropsSupplier");
+        startCapturing(ENTITY_ITEM_ENTITY_DROPS, "EntityItemEntityDropsSupplier");
+        this.entityItemDropsSupplier = reuse(this.entityItemDropsSupplier, EntityItemDropsSupplier::new);
+        this.entityItemEntityDropsSupplier = reuse(this.entityItemEntityDropsSupplier, EntityItemEntityDropsSupplier::new);
         return this;
     }
 
     public PhaseContext player() {
-        checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_PLAYER, new CapturePlayer()));
-        return this;
+        return player(null);
     }
 
     public PhaseContext player(@Nullable Player player) {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_PLAYER, new CapturePlayer(player)));
+        startCapturing(PLAYER, "CapturePlayer");
+        this.capturePlayer = reuse(this.capturePlayer, CapturePlayer::new);
+        this.capturePlayer.player = player;
         return this;
     }
 
     public PhaseContext explosion() {
-        checkState(!this.isCompleted, "CAnnot add a new object to the context if it's already marked as completed!");
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_EXPLOSION, new CaptureExplosion()));
-        return this;
+        return explosion(null);
     }
 
     public PhaseContext explosion(@Nullable Explosion explosion) {
         checkState(!this.isCompleted, "CAnnot add a new object to the context if it's already marked as completed!");
-        this.contextObjects.add(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_EXPLOSION, new CaptureExplosion(explosion)));
+        startCapturing(EXPLOSION, "CaptureExplosion");
+        this.captureExplosion = reuse(this.captureExplosion, CaptureExplosion::new);
+        this.captureExplosion.explosion = explosion;
         return this;
     }
 
     public CaptureExplosion getCaptureExplosion() {
-        return this.firstNamed(InternalNamedCauses.Tracker.CAPTURED_EXPLOSION, CaptureExplosion.class)
-                .orElseThrow(
-                        TrackingUtil.throwWithContext("Expected to be capturing an Explosion, but we're not capturing them!", this));
+        if (!isCapturing(EXPLOSION)) {
+            throw TrackingUtil.throwWithContext("Expected to be capturing an Explosion, but we're not capturing them!", this).get();
+        }
+        return this.captureExplosion;
     }
 
     public Optional<Explosion> getExplosion() {
@@ -345,14 +406,12 @@ public Optional<User> getNotifier() {
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     public List<Entity> getCapturedEntities() throws IllegalStateException {
-        return firstNamed(InternalNamedCauses.Tracker.CAPTURED_ENTITIES, CapturedEntitiesSupplier.class)
-                .map(CapturedEntitiesSupplier::get)
-                .orElseThrow(TrackingUtil.throwWithContext("Intended to capture entity spawns!", this));
+        return getCapturedEntitySupplier().get();
     }
 
     @SuppressWarnings("unchecked")
     public CapturedSupplier<Entity> getCapturedEntitySupplier() throws IllegalStateException {
-        if (this.capturedEntitiesSupplier == null) {
+        if (!isCapturing(ENTITIES)) {
             throw TrackingUtil.throwWithContext("Intended to capture entity spawns!", this).get();
         }
         return this.capturedEntitiesSupplier;
@@ -360,7 +419,7 @@ public CapturedSupplier<Entity> getCapturedEntitySupplier() throws IllegalStateE
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     public List<EntityItem> getCapturedItems() throws IllegalStateException {
-        if (this.capturedItemsSupplier == null) {
+        if (!isCapturing(ITEMS)) {
             throw TrackingUtil.throwWithContext("Intended to capture dropped item entities!", this).get();
         }
         return this.capturedItemsSupplier.get();
@@ -368,7 +427,7 @@ public List<EntityItem> getCapturedItems() throws IllegalStateException {
 
     @SuppressWarnings("unchecked")
     public CapturedSupplier<EntityItem> getCapturedItemsSupplier() throws IllegalStateException {
-        if (this.capturedItemsSupplier == null) {
+        if (!isCapturing(ITEMS)) {
             throw TrackingUtil.throwWithContext("Intended to capture dropped item entities!", this).get();
         }
         return this.capturedItemsSupplier;
@@ -376,21 +435,22 @@ public CapturedSupplier<EntityItem> getCapturedItemsSupplier() throws IllegalSta
 
     @SuppressWarnings("unchecked")
     public List<BlockSnapshot> getCapturedBlocks() throws IllegalStateException {
-        return firstNamed(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, CapturedBlocksSupplier.class)
-                .map(CapturedBlocksSupplier::get)
-                .orElseThrow(TrackingUtil.throwWithContext("Intended to capture block changes, but there is no list available!", this));
+        if (!isCapturing(BLOCKS)) {
+            throw TrackingUtil.throwWithContext("Intended to capture block changes, but there is no list available!", this).get();
+        }
+        return this.blocksSupplier.get();
     }
 
     @SuppressWarnings("unchecked")
     public CapturedSupplier<BlockSnapshot> getCapturedBlockSupplier() throws IllegalStateException {
-        if (this.blocksSupplier == null) {
+        if (!isCapturing(BLOCKS)) {
             throw TrackingUtil.throwWithContext("Expected to be capturing blocks, but we're not capturing them!", this).get();
         }
         return this.blocksSupplier;
     }
 
     public Multimap<BlockPos, ItemDropData> getCapturedBlockDrops() throws IllegalStateException {
-        if (this.blockItemDropsSupplier == null) {
+        if (!isCapturing(BLOCK_ITEM_DROPS)) {
             throw TrackingUtil.throwWithContext("Expected to be capturing block drops!", this).get();
         }
         return this.blockItemDropsSupplier.get();
@@ -398,7 +458,7 @@ public Multimap<BlockPos, ItemDropData> getCapturedBlockDrops() throws IllegalSt
 
     @SuppressWarnings("unchecked")
     public CapturedMultiMapSupplier<BlockPos, ItemDropData> getBlockDropSupplier() throws IllegalStateException {
-        if (this.blockItemDropsSupplier == null) {
+        if (!isCapturing(BLOCK_ITEM_DROPS)) {
             throw TrackingUtil.throwWithContext("Expected to be capturing block drops!", this).get();
         }
         return this.blockItemDropsSupplier;
@@ -406,7 +466,7 @@ public CapturedMultiMapSupplier<BlockPos, ItemDropData> getBlockDropSupplier() t
 
     @SuppressWarnings("unchecked")
     public CapturedMultiMapSupplier<BlockPos, EntityItem> getBlockItemDropSupplier() throws IllegalStateException {
-        if (this.blockItemEntityDropsSupplier == null) {
+        if (!isCapturing(BLOCK_ITEM_ENTITY_DROPS)) {
             throw TrackingUtil.throwWithContext("Intended to track block item drops!", this).get();
         }
         return this.blockItemEntityDropsSupplier;
@@ -414,7 +474,7 @@ public CapturedMultiMapSupplier<BlockPos, EntityItem> getBlockItemDropSupplier()
 
     @SuppressWarnings("unchecked")
     public CapturedMultiMapSupplier<UUID, ItemDropData> getCapturedEntityDropSupplier() throws IllegalStateException {
-        if (this.entityItemDropsSupplier == null) {
+        if (!isCapturing(ENTITY_ITEM_DROPS)) {
             throw TrackingUtil.throwWithContext("Intended to capture entity drops!", this).get();
         }
         return this.entityItemDropsSupplier;
@@ -422,7 +482,7 @@ public CapturedMultiMapSupplier<UUID, ItemDropData> getCapturedEntityDropSupplie
 
     @SuppressWarnings("unchecked")
     public CapturedMultiMapSupplier<UUID, EntityItem> getCapturedEntityItemDropSupplier() throws IllegalStateException {
-        if (this.entityItemEntityDropsSupplier == null) {
+        if (!isCapturing(ENTITY_ITEM_ENTITY_DROPS)) {
             throw TrackingUtil.throwWithContext("Intended to capture entity drops!", this).get();
         }
         return this.entityItemEntityDropsSupplier;
@@ -430,21 +490,21 @@ public CapturedMultiMapSupplier<UUID, EntityItem> getCapturedEntityItemDropSuppl
 
     @SuppressWarnings("unchecked")
     public CapturedSupplier<ItemDropData> getCapturedItemStackSupplier() throws IllegalStateException {
-        if (this.capturedItemStackSupplier == null) {
+        if (!isCapturing(ITEM_STACKS)) {
             throw TrackingUtil.throwWithContext("Expected to be capturing ItemStack drops from entities!", this).get();
         }
         return this.capturedItemStackSupplier;
     }
 
     public CapturedMultiMapSupplier<BlockPos, net.minecraft.entity.Entity> getBlockEntitySpawnSupplier() throws IllegalStateException {
-        if (this.blockEntitySpawnSupplier == null) {
+        if (!isCapturing(BLOCK_ENTITY_SPAWNS)) {
             throw TrackingUtil.throwWithContext("Intended to track block entity spawns!", this).get();
         }
         return this.blockEntitySpawnSupplier;
     }
 
     public CaptureBlockPos getCaptureBlockPos() throws IllegalStateException {
-        if (this.captureBlockPos == null) {
+        if (!isCapturing(BLOCK_POS)) {
             throw TrackingUtil.throwWithContext("Intended to capture a block position!", this).get();
         }
         return this.captureBlockPos;
@@ -456,20 +516,32 @@ public Optional<BlockPos> getBlockPosition() {
     }
 
     public CapturePlayer getCapturedPlayerSupplier() throws IllegalStateException {
-        return this.firstNamed(InternalNamedCauses.Tracker.CAPTURED_PLAYER, CapturePlayer.class)
-                .orElseThrow(
-                        TrackingUtil.throwWithContext("Expected to be capturing a Player from an event listener, but we're not capturing them!", this));
+        if (!isCapturing(PLAYER)) {
+            throw TrackingUtil.throwWithContext("Expected to be capturing a Player from an event listener, but we're not capturing them!", this)
+                    .get();
+        }
+        return this.capturePlayer;
     }
 
     public Optional<Player> getCapturedPlayer() throws IllegalStateException {
-        return this.firstNamed(InternalNamedCauses.Tracker.CAPTURED_PLAYER, CapturePlayer.class)
-                .orElseThrow(
-                        TrackingUtil.throwWithContext("Expected to be capturing a Player from an event listener, but we're not capturing them!", this))
-                .getPlayer();
+        return getCapturedPlayerSupplier().getPlayer();
     }
 
     public void forEach(Consumer<NamedCause> consumer) {
         this.contextObjects.forEach(consumer);
+        // Captures are only wrapped when they're printed
+        if (isCapturing(BLOCKS)) {
+            consumer.accept(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_BLOCKS, this.blocksSupplier));
+        }
+        if (isCapturing(ENTITIES)) {
+            consumer.accept(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_ENTITIES, this.capturedEntitiesSupplier));
+        }
+        if (isCapturing(PLAYER)) {
+            consumer.accept(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_PLAYER, this.capturePlayer));
+        }
+        if (isCapturing(EXPLOSION)) {
+            consumer.accept(NamedCause.of(InternalNamedCauses.Tracker.CAPTURED_EXPLOSION, this.captureExplosion));
+        }
     }
 
     PhaseContext() {
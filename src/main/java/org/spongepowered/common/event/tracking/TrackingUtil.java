@@ -431,7 +431,7 @@ private static void associateBlockChangeWithSnapshot(IPhaseState phaseState, Blo
         }
     }
 
-    private static boolean forceModify(Block originalBlock, Block newBlock) {
+    public static boolean forceModify(Block originalBlock, Block newBlock) {
         if (originalBlock instanceof BlockRedstoneRepeater && newBlock instanceof BlockRedstoneRepeater) {
             return true;
         }
@@ -56,6 +56,16 @@ public Optional<User> getNotifier() {
         return this.unwindingContext.getNotifier();
     }
 
+    @Override
+    public CapturePlayer getCapturedPlayerSupplier() throws IllegalStateException {
+        return this.unwindingContext.getCapturedPlayerSupplier();
+    }
+
+    @Override
+    public CaptureExplosion getCaptureExplosion() {
+        return this.unwindingContext.getCaptureExplosion();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> Optional<T> first(Class<T> tClass) {
@@ -86,6 +86,11 @@ public boolean doBlockCapturing() {
         return false;
     }
 
+    @Override
+    public boolean doesCaptureCursor() {
+        return true;
+    }
+
 
     @Nullable
     public ClickInventoryEvent createInventoryEvent(EntityPlayerMP playerMP, Container openContainer, Transaction<ItemStackSnapshot> transaction,
@@ -40,4 +40,9 @@ public void populateContext(EntityPlayerMP playerMP, Packet<?> packet, PhaseCont
                 .addEntityCaptures()
                 .addEntityDropCaptures();
     }
+
+    @Override
+    public boolean doesCaptureCursor() {
+        return true;
+    }
 }
@@ -69,6 +69,17 @@ default boolean doesCaptureEntityDrops() {
         return false;
     }
 
+    /**
+     * Whether the context of this state needs a snapshot of the cursor item,
+     * taken before the packet is processed, under
+     * {@link org.spongepowered.common.event.InternalNamedCauses.Packet#CURSOR}.
+     *
+     * @return True if the cursor is read when unwinding
+     */
+    default boolean doesCaptureCursor() {
+        return false;
+    }
+
     default boolean doBlockCapturing() {
         return true;
     }
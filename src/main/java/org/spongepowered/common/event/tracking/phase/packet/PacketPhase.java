@@ -29,6 +29,7 @@
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.inventory.ClickType;
@@ -36,6 +37,7 @@
 import net.minecraft.network.play.client.CPacketAnimation;
 import net.minecraft.network.play.client.CPacketChatMessage;
 import net.minecraft.network.play.client.CPacketClickWindow;
+import net.minecraft.network.play.client.CPacketClientSettings;
 import net.minecraft.network.play.client.CPacketClientStatus;
 import net.minecraft.network.play.client.CPacketCloseWindow;
 import net.minecraft.network.play.client.CPacketConfirmTransaction;
@@ -84,6 +86,7 @@
 import java.util.ArrayList;
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -237,6 +240,7 @@ public static final class Inventory {
 
     private final Map<Class<? extends Packet<?>>, Function<Packet<?>, IPacketState>> packetTranslationMap = new IdentityHashMap<>();
     private final Map<Class<? extends Packet<?>>, PacketFunction> packetUnwindMap = new IdentityHashMap<>();
+    private final Set<Class<? extends Packet<?>>> untrackedPackets = Sets.newIdentityHashSet();
 
     // General use methods
 
@@ -244,6 +248,19 @@ public boolean isPacketInvalid(Packet<?> packetIn, EntityPlayerMP packetPlayer,
         return packetState.isPacketIgnored(packetIn, packetPlayer);
     }
 
+    /**
+     * Gets whether the packet can be processed without entering this phase.
+     * This applies to packets whose states capture nothing and whose unwind
+     * function does nothing, so no context needs to be built for them.
+     *
+     * @param packet The packet
+     * @return True if the packet is processed untracked
+     */
+    @SuppressWarnings("SuspiciousMethodCalls")
+    public boolean isPacketUntracked(Packet<?> packet) {
+        return this.untrackedPackets.contains(packet.getClass());
+    }
+
     @SuppressWarnings({"unchecked", "SuspiciousMethodCalls"})
     public IPacketState getStateForPacket(Packet<?> packet) {
         final Function<Packet<?>, IPacketState> packetStateFunction = this.packetTranslationMap.get(packet.getClass());
@@ -496,6 +513,11 @@ public void setupPacketToStateMapping() {
         this.packetTranslationMap.put(CPacketCustomPayload.class, packet -> General.HANDLED_EXTERNALLY);
         this.packetTranslationMap.put(CPacketSpectate.class, packet -> General.IGNORED);
         this.packetTranslationMap.put(CPacketResourcePackStatus.class, packet -> General.RESOURCE_PACK);
+
+        this.untrackedPackets.add(CPacketKeepAlive.class);
+        this.untrackedPackets.add(CPacketAnimation.class);
+        this.untrackedPackets.add(CPacketPlayerAbilities.class);
+        this.untrackedPackets.add(CPacketClientSettings.class);
     }
 
     public static final ImmutableMap<CPacketEntityAction.Action, IPacketState> PLAYER_ACTION_MAPPINGS = ImmutableMap.<CPacketEntityAction.Action, IPacketState>builder()
@@ -36,9 +36,9 @@
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.extent.EntityUniverse;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.world.TrackedBlockStore;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -49,9 +49,13 @@
 
 public interface IMixinChunk {
 
-    Map<Short, PlayerTracker> getTrackedShortPlayerPositions();
-
-    Map<Integer, PlayerTracker> getTrackedIntPlayerPositions();
+    /**
+     * Gets the owners and notifiers of the tracked blocks in this chunk.
+     *
+     * @return The tracked blocks, or null if blocks aren't tracked
+     */
+    @Nullable
+    TrackedBlockStore getTrackedBlocks();
 
     Optional<User> getBlockOwner(BlockPos pos);
 
@@ -69,9 +73,7 @@ public interface IMixinChunk {
 
     void addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType);
 
-    void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
-
-    void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
+    void setTrackedBlocks(TrackedBlockStore trackedBlocks);
 
     void setNeighbor(Direction direction, Chunk neighbor);
 
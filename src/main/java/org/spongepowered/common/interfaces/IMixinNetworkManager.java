@@ -25,6 +25,7 @@
 package org.spongepowered.common.interfaces;
 
 import com.mojang.authlib.properties.Property;
+import io.netty.buffer.ByteBuf;
 import org.spongepowered.api.MinecraftVersion;
 
 import java.net.InetSocketAddress;
@@ -52,4 +53,15 @@ public interface IMixinNetworkManager {
     Property[] getSpoofedProfile();
 
     void setSpoofedProfile(Property[] profile);
+
+    /**
+     * Sends a packet that was already serialized, including its packet id,
+     * for the play state. The buffer is retained for the write, the caller
+     * keeps its own reference.
+     *
+     * @param buffer The serialized packet
+     * @return Whether the packet was sent, false if this connection needs
+     *     the packet object itself
+     */
+    boolean sendEncodedPacket(ByteBuf buffer);
 }
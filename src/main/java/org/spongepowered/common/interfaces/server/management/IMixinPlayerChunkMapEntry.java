@@ -27,4 +27,6 @@
 public interface IMixinPlayerChunkMapEntry {
 
     void markBiomesForUpdate();
+
+    void markChunkForResend();
 }
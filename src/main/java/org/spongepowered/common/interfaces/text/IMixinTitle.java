@@ -26,8 +26,12 @@
 
 import net.minecraft.entity.player.EntityPlayerMP;
 
+import java.util.Collection;
+
 public interface IMixinTitle {
 
     void send(EntityPlayerMP player);
 
+    void send(Collection<EntityPlayerMP> players);
+
 }
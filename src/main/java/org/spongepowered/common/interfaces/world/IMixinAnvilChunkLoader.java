@@ -25,8 +25,10 @@
 package org.spongepowered.common.interfaces.world;
 
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 
 import java.nio.file.Path;
+import java.util.List;
 
 public interface IMixinAnvilChunkLoader {
 
@@ -35,4 +37,13 @@ public interface IMixinAnvilChunkLoader {
 
     Path getWorldDir();
 
+    /**
+     * Queues unloaded chunks to be serialized and saved on the file IO
+     * thread. Chunks that are loaded again before this happened are
+     * serialized on the loading thread.
+     *
+     * @param chunks The unloaded chunks
+     */
+    void queueUnloadedChunks(List<Chunk> chunks);
+
 }
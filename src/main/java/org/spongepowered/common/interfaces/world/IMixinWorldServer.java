@@ -42,11 +42,11 @@
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.world.SpongeLightingExecutor;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
 import java.util.List;
-import java.util.concurrent.ExecutorService;
 
 import javax.annotation.Nullable;
 
@@ -88,6 +88,16 @@ default boolean forceSpawnEntity(Entity entity) {
 
     SpongeChunkGenerator createChunkGenerator(SpongeWorldGenerator newGenerator);
 
+    /**
+     * Creates a copy of the chunk generator of this world which can generate
+     * terrain off the server thread. Structures aren't generated by the copy
+     * and it can't populate chunks.
+     *
+     * @return The generator, or null if the generator of the world can't be
+     *     copied safely
+     */
+    @Nullable SpongeChunkGenerator createTerrainGenerator();
+
     boolean isProcessingExplosion();
 
     boolean isMinecraftChunkLoaded(int x, int z, boolean allowEmpty);
@@ -98,7 +108,7 @@ default boolean forceSpawnEntity(Entity entity) {
 
     boolean checkLightAsync(EnumSkyBlock lightType, BlockPos pos, Chunk chunk, List<Chunk> neighbors);
 
-    ExecutorService getLightingExecutor();
+    SpongeLightingExecutor getLightingExecutor();
 
     WorldTimingsHandler getTimingsHandler();
 
@@ -29,6 +29,8 @@
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 
+import java.util.Set;
+
 public interface IMixinChunkProviderServer {
 
     void setMaxChunkUnloads(int maxUnloads);
@@ -41,5 +43,27 @@ public interface IMixinChunkProviderServer {
 
     long getChunkUnloadDelay();
 
+    /**
+     * Marks a loaded chunk as a candidate for the chunk GC. This happens when
+     * the chunk is loaded, leaves the view of all players or stops being
+     * persisted, the chunk GC drops candidates which are in use again.
+     *
+     * @param chunk The chunk
+     */
+    void markUnloadCandidate(Chunk chunk);
+
+    Set<Chunk> getUnloadCandidates();
+
+    /**
+     * Adds a chunk whose terrain was generated off the server thread, the
+     * structures are recorded and the chunk is populated as if it had been
+     * generated by {@code provideChunk}.
+     *
+     * @param chunk The generated chunk
+     * @return The chunk which is loaded at the position, this is a different
+     *     chunk if the position was loaded in the meantime
+     */
+    Chunk addGeneratedChunk(Chunk chunk);
+
     WorldServer getWorld();
 }
@@ -33,8 +33,10 @@
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.common.interfaces.text.IMixinText;
 import org.spongepowered.common.interfaces.text.IMixinTitle;
+import org.spongepowered.common.network.PacketBroadcaster;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -59,6 +61,13 @@ public void send(EntityPlayerMP player) {
         }
     }
 
+    @Override
+    public void send(Collection<EntityPlayerMP> players) {
+        for (SPacketTitle packet : this.getPackets()) {
+            PacketBroadcaster.broadcast(packet, players);
+        }
+    }
+
     private List<SPacketTitle> getPackets() {
         if (this.packets == null) {
             this.packets = new ArrayList<>();
@@ -134,6 +134,7 @@
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ParallelWorldTicker;
 
 import java.util.Collection;
 import java.util.EnumSet;
@@ -447,6 +448,10 @@ public Location<World> getLocation() {
 
     @Override
     public boolean setLocationAndRotation(Location<World> location, Vector3d rotation) {
+        if (!isRemoved() && isForeignTeleport(location)) {
+            ParallelWorldTicker.handOff(() -> setLocationAndRotation(location, rotation));
+            return false;
+        }
         boolean result = setLocation(location);
         if (result) {
             setRotation(rotation);
@@ -456,12 +461,28 @@ public boolean setLocationAndRotation(Location<World> location, Vector3d rotatio
         return false;
     }
 
+    /**
+     * Gets whether teleporting to the given location would touch a world
+     * that is ticked by another world tick thread. Such teleports are handed
+     * off and reported as not having happened, since they only run once all
+     * worlds finished ticking.
+     */
+    private boolean isForeignTeleport(Location<World> location) {
+        return ParallelWorldTicker.isForeignWorld(this.world) || ParallelWorldTicker.isForeignWorld((net.minecraft.world.World) location.getExtent());
+    }
+
     @Override
     public boolean setLocation(Location<World> location) {
         checkNotNull(location, "The location was null!");
         if (isRemoved()) {
             return false;
         }
+        if (isForeignTeleport(location)) {
+            // Worlds ticked in parallel can't access each other, teleport once all worlds finished ticking
+            final Location<World> target = location;
+            ParallelWorldTicker.handOff(() -> setLocation(target));
+            return false;
+        }
 
         MoveEntityEvent.Teleport event = EntityUtil.handleDisplaceEntityTeleportEvent((net.minecraft.entity.Entity) (Object) this, location);
         if (event.isCancelled()) {
@@ -663,6 +684,10 @@ public Transform<World> getTransform() {
     @Override
     public boolean setTransform(Transform<World> transform) {
         checkNotNull(transform, "The transform cannot be null!");
+        if (!isRemoved() && isForeignTeleport(transform.getLocation())) {
+            ParallelWorldTicker.handOff(() -> setTransform(transform));
+            return false;
+        }
         boolean result = setLocation(transform.getLocation());
         if (result) {
             setRotation(transform.getRotation());
@@ -24,9 +24,12 @@
  */
 package org.spongepowered.common.mixin.core.network;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.local.LocalAddress;
+import net.minecraft.network.EnumConnectionState;
 import net.minecraft.network.INetHandler;
 import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraft.network.NetworkManager;
@@ -51,6 +54,8 @@ public abstract class MixinNetworkManager extends SimpleChannelInboundHandler im
     @Shadow private INetHandler packetListener;
 
     @Shadow public abstract SocketAddress getRemoteAddress();
+    @Shadow public abstract boolean isChannelOpen();
+    @Shadow private void flushOutboundQueue() { }
 
     private InetSocketAddress virtualHost;
     private MinecraftVersion version;
@@ -98,6 +103,19 @@ public void setVersion(int version) {
         this.version = new SpongeMinecraftVersion(String.valueOf(version), version);
     }
 
+    @Override
+    public boolean sendEncodedPacket(ByteBuf buffer) {
+        // Local connections pass packet objects through, without an encoder
+        if (!this.isChannelOpen() || this.channel.pipeline().get("encoder") == null
+                || this.channel.attr(NetworkManager.PROTOCOL_ATTRIBUTE_KEY).get() != EnumConnectionState.PLAY) {
+            return false;
+        }
+        this.flushOutboundQueue();
+        // The encoder passes buffers on untouched, compression and framing still apply
+        this.channel.writeAndFlush(buffer.duplicate().retain()).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+        return true;
+    }
+
     @Override
     public Player getPlayer() {
         if(this.packetListener instanceof NetHandlerPlayServer) {
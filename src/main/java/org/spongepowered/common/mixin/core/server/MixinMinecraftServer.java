@@ -84,6 +84,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.ModifyArg;
 import org.spongepowered.asm.mixin.injection.ModifyConstant;
+import org.spongepowered.asm.mixin.injection.ModifyVariable;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
@@ -106,6 +107,7 @@
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ParallelWorldTicker;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
@@ -130,6 +132,8 @@
 public abstract class MixinMinecraftServer implements Server, ConsoleSource, IMixinSubject, IMixinCommandSource, IMixinCommandSender,
         IMixinMinecraftServer {
 
+    private static final String PROFILER_ESS = "Lnet/minecraft/profiler/Profiler;endStartSection(Ljava/lang/String;)V";
+
     @Shadow @Final private static Logger LOG;
     @Shadow @Final public Profiler profiler;
     @Shadow @Final public long[] tickTimeArray;
@@ -632,6 +636,36 @@ public EntityTracker onUpdateTimeLightAndEntitiesGetEntityTracker(WorldServer wo
         return worldServer.getEntityTracker();
     }
 
+    // Worlds ticked in parallel run the whole body of the world loop on their world tick thread, including the time
+    // updates and Forge's world tick events. They are joined before the server continues with the connections.
+    @Inject(method = "updateTimeLightAndEntities", at = @At(value = "INVOKE_STRING", target = PROFILER_ESS, args = "ldc=levels", shift = At.Shift.AFTER))
+    public void onUpdateTimeLightAndEntitiesSubmitWorlds(CallbackInfo ci) {
+        if (ParallelWorldTicker.isEnabled()) {
+            ParallelWorldTicker.submitTicks((MinecraftServer) (Object) this, this.tickCounter);
+        }
+    }
+
+    // The world loop itself is skipped while worlds are ticked in parallel, Vanilla loops over the worlds array...
+    @Redirect(method = "updateTimeLightAndEntities", require = 0, at = @At(value = "FIELD", opcode = Opcodes.GETFIELD,
+            target = "Lnet/minecraft/server/MinecraftServer;worlds:[Lnet/minecraft/world/WorldServer;"))
+    public WorldServer[] onUpdateTimeLightAndEntitiesGetWorlds(MinecraftServer server) {
+        return ParallelWorldTicker.isEnabled() ? new WorldServer[0] : server.worlds;
+    }
+
+    // ...and Forge over the ids of the loaded dimensions
+    @ModifyVariable(method = "updateTimeLightAndEntities", require = 0, at = @At(value = "STORE"))
+    public Integer[] onUpdateTimeLightAndEntitiesGetDimensionIds(Integer[] ids) {
+        return ParallelWorldTicker.isEnabled() ? new Integer[0] : ids;
+    }
+
+    // Forge unloads dimensions before the connections, which must not happen while they are ticking
+    @Inject(method = "updateTimeLightAndEntities", at = {
+            @At(value = "INVOKE_STRING", target = PROFILER_ESS, args = "ldc=dim_unloading"),
+            @At(value = "INVOKE_STRING", target = PROFILER_ESS, args = "ldc=connection")})
+    public void onUpdateTimeLightAndEntitiesJoinWorlds(CallbackInfo ci) {
+        ParallelWorldTicker.awaitTicks();
+    }
+
     @Inject(method = "tick", at = @At(value = "HEAD"))
     public void onServerTickStart(CallbackInfo ci) {
         TimingsManager.FULL_SERVER_TICK.startTiming();
@@ -771,6 +805,14 @@ public boolean isMainThread() {
         return this.serverThread == Thread.currentThread();
     }
 
+    // World tick threads act as the server thread for the world they are ticking
+    @Inject(method = "isCallingFromMinecraftThread", at = @At("HEAD"), cancellable = true)
+    private void onIsCallingFromMinecraftThread(CallbackInfoReturnable<Boolean> cir) {
+        if (ParallelWorldTicker.isWorldTickThread()) {
+            cir.setReturnValue(true);
+        }
+    }
+
     @Redirect(method = "callFromMainThread", at = @At(value = "INVOKE", target = "Ljava/util/concurrent/Callable;call()Ljava/lang/Object;", remap = false))
     public Object onCall(Callable<?> callable) throws Exception {
         CauseTracker.getInstance().switchToPhase(PluginPhase.State.SCHEDULED_TASK, PhaseContext.start()
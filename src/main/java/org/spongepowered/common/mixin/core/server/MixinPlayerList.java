@@ -93,6 +93,7 @@
 import org.spongepowered.api.service.whitelist.WhitelistService;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.api.text.chat.ChatTypes;
 import org.spongepowered.api.util.annotation.NonnullByDefault;
 import org.spongepowered.api.world.Dimension;
 import org.spongepowered.api.world.Location;
@@ -125,6 +126,8 @@
 import org.spongepowered.common.service.ban.SpongeIPBanList;
 import org.spongepowered.common.service.ban.SpongeUserListBans;
 import org.spongepowered.common.service.permission.SpongePermissionService;
+import org.spongepowered.common.service.user.ProfileCatalogue;
+import org.spongepowered.common.service.user.SpongeUserStorageService;
 import org.spongepowered.common.service.whitelist.SpongeUserListWhitelist;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.text.chat.ChatUtil;
@@ -239,6 +242,7 @@ public void initializeConnectionToPlayer(NetworkManager netManager, EntityPlayer
         playerprofilecache.addEntry(gameprofile);
 
         // Sponge start - save changes to offline User before reading player data
+        ProfileCatalogue.add(gameprofile);
         SpongeUser user = (SpongeUser) ((IMixinEntityPlayerMP) playerIn).getUserObject();
         if (SpongeUser.dirtyUsers.contains(user)) {
             user.save();
@@ -441,7 +445,7 @@ public void initializeConnectionToPlayer(NetworkManager netManager, EntityPlayer
         SpongeImpl.postEvent(event);
         // Send to the channel
         if (!event.isMessageCancelled()) {
-            event.getChannel().ifPresent(channel -> channel.send(player, event.getMessage()));
+            event.getChannel().ifPresent(channel -> ChatUtil.send(channel, player, event.getMessage(), ChatTypes.SYSTEM));
         }
         // Sponge end
     }
@@ -857,6 +861,11 @@ private void onWritePlayerFile(EntityPlayerMP playerMP, CallbackInfo callbackInf
         SpongePlayerDataHandler.savePlayer(playerMP.getUniqueID());
     }
 
+    @Inject(method = "writePlayerData", at = @At("RETURN"))
+    private void onWrittenPlayerFile(EntityPlayerMP playerMP, CallbackInfo callbackInfo) {
+        SpongeUserStorageService.invalidateUserData(playerMP.getUniqueID());
+    }
+
     @ModifyVariable(method = "sendPlayerPermissionLevel", at = @At("HEAD"), argsOnly = true)
     public int fixPermLevel(int permLevel) {
         // If a non-default permission service is being used, then the op level will always be 0.
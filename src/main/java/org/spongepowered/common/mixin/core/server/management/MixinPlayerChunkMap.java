@@ -38,6 +38,7 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMap;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 
 import java.util.List;
 
@@ -66,6 +67,8 @@ private void onUnloadChunk(ChunkProviderServer chunkProvider, Chunk chunk) {
         // and queue the chunk to be unloaded.
         // -- blood
 
+        // The chunk left the view of all players, so the chunk GC has to look at it again
+        ((IMixinChunkProviderServer) chunkProvider).markUnloadCandidate(chunk);
         if (((IMixinWorldServer) this.world).getChunkGCTickInterval() <= 0
                 || ((IMixinWorldServer) this.world).getChunkUnloadDelay() <= 0) {
             chunkProvider.queueUnload(chunk);
@@ -63,6 +63,11 @@ public void resendUpdatedBiomes(CallbackInfo ci) {
 
     @Override
     public void markBiomesForUpdate() {
+        this.markChunkForResend();
+    }
+
+    @Override
+    public void markChunkForResend() {
         this.updateBiomes = true;
         this.playerChunkMap.dirtyEntries.add((PlayerChunkMapEntry) (Object) this);
     }
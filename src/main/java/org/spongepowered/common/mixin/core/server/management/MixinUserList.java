@@ -24,7 +24,11 @@
  */
 package org.spongepowered.common.mixin.core.server.management;
 
+import com.mojang.authlib.GameProfile;
 import net.minecraft.server.management.UserList;
+import net.minecraft.server.management.UserListBans;
+import net.minecraft.server.management.UserListOps;
+import net.minecraft.server.management.UserListWhitelist;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -32,6 +36,8 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.service.permission.SpongePermissionService;
+import org.spongepowered.common.service.user.ProfileCatalogue;
 
 import java.io.File;
 import java.util.List;
@@ -57,4 +63,21 @@ private void onReadSavedFile(CallbackInfo ci) {
         }
     }
 
+    // User subjects inherit from the op level groups, so their resolved permissions go stale with the ops list
+    @Inject(method = {"addEntry", "removeEntry", "readSavedFile"}, at = @At("RETURN"))
+    private void onOpsChanged(CallbackInfo ci) {
+        if ((Object) this instanceof UserListOps) {
+            SpongePermissionService.invalidateResolvedValues();
+        }
+    }
+
+    // The vanilla pardon and whitelist commands bypass the ban and whitelist services
+    @Inject(method = "removeEntry", at = @At("RETURN"))
+    private void onRemoveEntry(Object entry, CallbackInfo ci) {
+        if (((Object) this instanceof UserListBans || (Object) this instanceof UserListWhitelist) && entry instanceof GameProfile
+                && ((GameProfile) entry).getId() != null) {
+            ProfileCatalogue.removeIfUnreferenced(((GameProfile) entry).getId());
+        }
+    }
+
 }
@@ -104,6 +104,7 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.TrackedBlockStore;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBiomeVolumeWorker;
 import org.spongepowered.common.world.extent.worker.SpongeMutableBlockVolumeWorker;
@@ -202,6 +203,9 @@ public boolean isPersistedChunk() {
 
     @Override
     public void setPersistedChunk(boolean flag) {
+        if (this.persistedChunk && !flag && !this.world.isRemote) {
+            ((IMixinChunkProviderServer) this.world.getChunkProvider()).markUnloadCandidate((net.minecraft.world.chunk.Chunk) (Object) this);
+        }
         this.persistedChunk = flag;
     }
 
@@ -219,6 +223,7 @@ public void setIsSpawning(boolean spawning) {
     public void onChunkLoadInject(CallbackInfo ci) {
         if (!this.world.isRemote) {
             SpongeHooks.logChunkLoad(this.world, this.chunkPos);
+            ((IMixinChunkProviderServer) this.world.getChunkProvider()).markUnloadCandidate((net.minecraft.world.chunk.Chunk) (Object) this);
         }
 
         for (Direction direction : CARDINAL_DIRECTIONS) {
@@ -676,14 +681,10 @@ public void addTrackedBlockPosition(Block block, BlockPos pos, User user, Player
 
     }
 
+    @Nullable
     @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() {
-        return Collections.emptyMap();
-    }
-
-    @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
-        return Collections.emptyMap();
+    public TrackedBlockStore getTrackedBlocks() {
+        return null;
     }
 
     @Override
@@ -707,11 +708,7 @@ public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
     }
 
     @Override
-    public void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPositions) {
-    }
-
-    @Override
-    public void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPositions) {
+    public void setTrackedBlocks(TrackedBlockStore trackedBlocks) {
     }
 
     // Continuing the rest of the implementation
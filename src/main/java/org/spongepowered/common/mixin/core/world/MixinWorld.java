@@ -132,10 +132,12 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.entity.player.IMixinEntityPlayer;
+import org.spongepowered.common.interfaces.text.IMixinTitle;
 import org.spongepowered.common.interfaces.util.math.IMixinBlockPos;
 import org.spongepowered.common.interfaces.world.IMixinWorld;
 import org.spongepowered.common.interfaces.world.IMixinWorldProvider;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.text.chat.ChatUtil;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
@@ -616,17 +618,23 @@ public void sendMessage(ChatType type, Text message) {
         checkNotNull(type, "type");
         checkNotNull(message, "message");
 
-        for (Player player : this.getPlayers()) {
-            player.sendMessage(type, message);
-        }
+        ChatUtil.sendMessage(this.getPlayers(), type, message);
     }
 
     @Override
     public void sendTitle(Title title) {
         checkNotNull(title, "title");
 
+        final List<EntityPlayerMP> players = new ArrayList<>();
         for (Player player : getPlayers()) {
-            player.sendTitle(title);
+            if (player instanceof EntityPlayerMP) {
+                players.add((EntityPlayerMP) player);
+            } else {
+                player.sendTitle(title);
+            }
+        }
+        if (!players.isEmpty()) {
+            ((IMixinTitle) (Object) title).send(players);
         }
     }
 
@@ -73,13 +73,17 @@
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.WorldSettings;
 import net.minecraft.world.WorldType;
+import net.minecraft.world.biome.Biome;
 import net.minecraft.world.biome.BiomeProvider;
+import net.minecraft.world.biome.BiomeProviderSingle;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.IChunkGenerator;
 import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraft.world.gen.ChunkProviderEnd;
 import net.minecraft.world.gen.ChunkProviderServer;
+import net.minecraft.world.gen.structure.MapGenStructure;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
 import net.minecraft.world.storage.ISaveHandler;
 import net.minecraft.world.storage.MapStorage;
 import net.minecraft.world.storage.WorldInfo;
@@ -122,7 +126,9 @@
 import org.spongepowered.api.world.PortalAgent;
 import org.spongepowered.api.world.PortalAgentType;
 import org.spongepowered.api.world.PortalAgentTypes;
+import org.spongepowered.api.world.biome.BiomeType;
 import org.spongepowered.api.world.gen.BiomeGenerator;
+import org.spongepowered.api.world.gen.GenerationPopulator;
 import org.spongepowered.api.world.gen.WorldGenerator;
 import org.spongepowered.api.world.gen.WorldGeneratorModifier;
 import org.spongepowered.api.world.storage.WorldProperties;
@@ -185,6 +191,8 @@
 import org.spongepowered.common.registry.type.event.InternalSpawnTypes;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.IndexedTickListEntrySet;
+import org.spongepowered.common.world.ParallelWorldTicker;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.border.PlayerBorderListener;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
@@ -198,6 +206,7 @@
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -238,8 +247,9 @@ public abstract class MixinWorldServer extends MixinWorld implements IMixinWorld
     private int dimensionId;
 
     @Shadow @Final private MinecraftServer mcServer;
-    @Shadow @Final private Set<NextTickListEntry> pendingTickListEntriesHashSet;
+    @Shadow @Final @Mutable private Set<NextTickListEntry> pendingTickListEntriesHashSet = new IndexedTickListEntrySet();
     @Shadow @Final private TreeSet<NextTickListEntry> pendingTickListEntriesTreeSet;
+    @Shadow @Final private List<NextTickListEntry> pendingTickListEntriesThisTick;
     @Shadow @Final private PlayerChunkMap playerChunkMap;
     @Shadow @Final @Mutable private Teleporter worldTeleporter;
     @Shadow @Final private WorldServer.ServerBlockEventList[] blockEventQueue;
@@ -404,6 +414,18 @@ public void updateWorldGenerator() {
         DataContainer generatorSettings = this.getProperties().getGeneratorSettings();
 
         SpongeWorldGenerator newGenerator = createWorldGenerator(generatorSettings);
+        this.addPopulators(newGenerator, generatorSettings);
+
+        this.spongegen = createChunkGenerator(newGenerator);
+        this.spongegen.setGenerationPopulators(newGenerator.getGenerationPopulators());
+        this.spongegen.setPopulators(newGenerator.getPopulators());
+        this.spongegen.setBiomeOverrides(newGenerator.getBiomeSettings());
+
+        ChunkProviderServer chunkProviderServer = this.getChunkProvider();
+        chunkProviderServer.chunkGenerator = this.spongegen;
+    }
+
+    private void addPopulators(SpongeWorldGenerator newGenerator, DataContainer generatorSettings) {
         // If the base generator is an IChunkProvider which implements
         // IPopulatorProvider we request that it add its populators not covered
         // by the base generation populator
@@ -421,14 +443,56 @@ public void updateWorldGenerator() {
         for (WorldGeneratorModifier modifier : this.getProperties().getGeneratorModifiers()) {
             modifier.modifyWorldGenerator(this.getProperties(), generatorSettings, newGenerator);
         }
+    }
 
-        this.spongegen = createChunkGenerator(newGenerator);
-        this.spongegen.setGenerationPopulators(newGenerator.getGenerationPopulators());
-        this.spongegen.setPopulators(newGenerator.getPopulators());
-        this.spongegen.setBiomeOverrides(newGenerator.getBiomeSettings());
+    @Nullable
+    @Override
+    public SpongeChunkGenerator createTerrainGenerator() {
+        if (this.spongegen == null || !(this.spongegen.getBaseGenerationPopulator() instanceof IChunkGenerator)) {
+            return null;
+        }
+        final WorldServer worldServer = (WorldServer) (Object) this;
+        final IChunkGenerator currentGenerator = (IChunkGenerator) this.spongegen.getBaseGenerationPopulator();
+        // Only the vanilla generators are known to generate their terrain without
+        // touching the world, mod generators keep using the server thread
+        if (!WorldGenConstants.isValid(currentGenerator, GenerationPopulator.class)) {
+            return null;
+        }
+        final BiomeGenerator currentBiomeGenerator = this.spongegen.getBiomeGenerator();
+        final BiomeGenerator biomeGenerator;
+        if (currentBiomeGenerator.getClass() == BiomeProvider.class) {
+            // The biome layers aren't thread-safe, so every generator gets its own
+            biomeGenerator = (BiomeGenerator) new BiomeProvider(worldServer.getWorldInfo());
+        } else if (currentBiomeGenerator.getClass() == BiomeProviderSingle.class) {
+            biomeGenerator = currentBiomeGenerator;
+        } else {
+            return null;
+        }
+        final IChunkGenerator chunkGenerator = worldServer.provider.createChunkGenerator();
+        if (chunkGenerator.getClass() != currentGenerator.getClass()) {
+            return null;
+        }
 
-        ChunkProviderServer chunkProviderServer = this.getChunkProvider();
-        chunkProviderServer.chunkGenerator = this.spongegen;
+        final DataContainer generatorSettings = this.getProperties().getGeneratorSettings();
+        final SpongeWorldGenerator newGenerator = new SpongeWorldGenerator(worldServer, biomeGenerator,
+                SpongeGenerationPopulator.of(worldServer, chunkGenerator));
+        this.addPopulators(newGenerator, generatorSettings);
+        // Structures are recorded on the server thread when the chunk is added
+        newGenerator.getGenerationPopulators().removeIf(populator -> populator instanceof MapGenStructure);
+
+        // The generator replaces the biome provider of the world, which has to
+        // stay the one of the server thread generator
+        final BiomeProvider biomeProvider = worldServer.provider.biomeProvider;
+        final SpongeChunkGenerator generator = createChunkGenerator(newGenerator);
+        worldServer.provider.biomeProvider = biomeProvider;
+        generator.setGenerationPopulators(newGenerator.getGenerationPopulators());
+        generator.setPopulators(newGenerator.getPopulators());
+        generator.setBiomeOverrides(newGenerator.getBiomeSettings());
+        // Create the default settings of all biomes up front, they are lazily created otherwise
+        for (Biome biome : Biome.REGISTRY) {
+            generator.getBiomeSettings((BiomeType) biome);
+        }
+        return generator;
     }
 
     @Override
@@ -865,14 +929,24 @@ public void doChunkGC() {
             return;
         }
 
-        for (net.minecraft.world.chunk.Chunk chunk : chunkProviderServer.getLoadedChunks()) {
+        // Only chunks which were loaded, left the view of all players or stopped being persisted since
+        // they were last checked can have leaked, the others are dropped from the candidates
+        IMixinChunkProviderServer spongeChunkProvider = (IMixinChunkProviderServer) chunkProviderServer;
+        Iterator<net.minecraft.world.chunk.Chunk> iterator = spongeChunkProvider.getUnloadCandidates().iterator();
+        while (iterator.hasNext()) {
+            net.minecraft.world.chunk.Chunk chunk = iterator.next();
             IMixinChunk spongeChunk = (IMixinChunk) chunk;
-            if (chunk.unloadQueued || spongeChunk.isPersistedChunk() || !this.provider.canDropChunk(chunk.xPosition, chunk.zPosition)) {
+            if (spongeChunk.isPersistedChunk() || spongeChunkProvider.getLoadedChunkWithoutMarkingActive(chunk.xPosition, chunk.zPosition) != chunk) {
+                iterator.remove();
+                continue;
+            }
+            if (chunk.unloadQueued || !this.provider.canDropChunk(chunk.xPosition, chunk.zPosition)) {
                 continue;
             }
 
-            // If a player is currently using the chunk, skip it
+            // If a player is currently using the chunk, skip it until it leaves their view again
             if (((IMixinPlayerChunkMap) this.getPlayerChunkMap()).isChunkInUse(chunk.xPosition, chunk.zPosition)) {
+                iterator.remove();
                 continue;
             }
 
@@ -928,16 +1002,84 @@ private int onGetDimensionIdForBlockEvents(DimensionType dimensionType) {
 
     @Override
     public Collection<ScheduledBlockUpdate> getScheduledUpdates(int x, int y, int z) {
-        BlockPos position = new BlockPos(x, y, z);
+        final List<NextTickListEntry> entries = ((IndexedTickListEntrySet) this.pendingTickListEntriesHashSet).getEntries(new BlockPos(x, y, z));
+        if (entries.isEmpty()) {
+            return ImmutableList.of();
+        }
+        final List<NextTickListEntry> sorted = new ArrayList<>(entries);
+        Collections.sort(sorted);
         ImmutableList.Builder<ScheduledBlockUpdate> builder = ImmutableList.builder();
-        for (NextTickListEntry sbu : this.pendingTickListEntriesTreeSet) {
-            if (sbu.position.equals(position)) {
-                builder.add((ScheduledBlockUpdate) sbu);
-            }
+        for (NextTickListEntry sbu : sorted) {
+            builder.add((ScheduledBlockUpdate) sbu);
         }
         return builder.build();
     }
 
+    /**
+     * Looks up the pending updates of the chunks covered by the box through
+     * the pending tick index, rather than scanning every pending update of
+     * the world. This is hit for every chunk that is saved or unloaded.
+     */
+    @Inject(method = "getPendingBlockUpdates(Lnet/minecraft/world/gen/structure/StructureBoundingBox;Z)Ljava/util/List;", at = @At("HEAD"),
+            cancellable = true)
+    private void onGetPendingBlockUpdates(StructureBoundingBox box, boolean remove, CallbackInfoReturnable<List<NextTickListEntry>> cir) {
+        final IndexedTickListEntrySet pending = (IndexedTickListEntrySet) this.pendingTickListEntriesHashSet;
+        if (box.maxX <= box.minX || box.maxZ <= box.minZ) {
+            return;
+        }
+        final int minChunkX = box.minX >> 4;
+        final int maxChunkX = (box.maxX - 1) >> 4;
+        final int minChunkZ = box.minZ >> 4;
+        final int maxChunkZ = (box.maxZ - 1) >> 4;
+        if ((long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1) > pending.getChunkCount()) {
+            // Cheaper to let vanilla scan everything
+            return;
+        }
+        final List<NextTickListEntry> candidates = new ArrayList<>();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                pending.collectEntries(chunkX, chunkZ, candidates);
+            }
+        }
+        List<NextTickListEntry> list = null;
+        for (NextTickListEntry entry : candidates) {
+            if (isInPendingBox(entry, box)) {
+                if (list == null) {
+                    list = Lists.newArrayList();
+                }
+                list.add(entry);
+            }
+        }
+        if (list != null) {
+            // Keep the order vanilla would have returned them in
+            Collections.sort(list);
+            if (remove) {
+                for (NextTickListEntry entry : list) {
+                    this.pendingTickListEntriesHashSet.remove(entry);
+                    this.pendingTickListEntriesTreeSet.remove(entry);
+                }
+            }
+        }
+        for (Iterator<NextTickListEntry> iterator = this.pendingTickListEntriesThisTick.iterator(); iterator.hasNext(); ) {
+            final NextTickListEntry entry = iterator.next();
+            if (isInPendingBox(entry, box)) {
+                if (remove) {
+                    iterator.remove();
+                }
+                if (list == null) {
+                    list = Lists.newArrayList();
+                }
+                list.add(entry);
+            }
+        }
+        cir.setReturnValue(list);
+    }
+
+    private static boolean isInPendingBox(NextTickListEntry entry, StructureBoundingBox box) {
+        final BlockPos pos = entry.position;
+        return pos.getX() >= box.minX && pos.getX() < box.maxX && pos.getZ() >= box.minZ && pos.getZ() < box.maxZ;
+    }
+
     @Nullable
     private NextTickListEntry tmpScheduledObj;
 
@@ -1245,6 +1387,12 @@ public void triggerInternalExplosion(org.spongepowered.api.world.explosion.Explo
      */
     @Override
     public boolean spawnEntity(net.minecraft.entity.Entity entity) {
+        if (ParallelWorldTicker.isForeignWorld((WorldServer) (Object) this)) {
+            // This world is ticked by another thread, spawn the entity once all worlds finished ticking.
+            // It isn't in the world yet, so don't report it as spawned.
+            ParallelWorldTicker.handOff(() -> spawnEntity(entity));
+            return false;
+        }
         return canAddEntity(entity) && CauseTracker.getInstance().spawnEntity(EntityUtil.fromNative(entity));
     }
 
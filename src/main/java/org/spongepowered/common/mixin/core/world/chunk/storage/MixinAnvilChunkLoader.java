@@ -33,6 +33,7 @@
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.MinecraftException;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.storage.AnvilChunkLoader;
 import net.minecraft.world.chunk.storage.RegionFileCache;
@@ -62,14 +63,16 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.util.NbtDataUtil;
-import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.util.QueuedChunk;
+import org.spongepowered.common.world.TrackedBlockStore;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -80,6 +83,9 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
 
     private ConcurrentLinkedQueue<QueuedChunk> queue = new ConcurrentLinkedQueue<>();
     private final Object lock = new Object();
+    // Sponge - unloaded chunks which still need to be serialized, guarded by the lock
+    private final Map<ChunkPos, net.minecraft.world.chunk.Chunk> chunksToSerialize = Maps.newHashMap();
+    private final ConcurrentLinkedQueue<List<net.minecraft.world.chunk.Chunk>> serializationBatches = new ConcurrentLinkedQueue<>();
 
     private static final String ENTITY_LIST_CREATE_FROM_NBT =
             "Lnet/minecraft/entity/EntityList;createEntityFromNBT(Lnet/minecraft/nbt/NBTTagCompound;Lnet/minecraft/world/World;)Lnet/minecraft/entity/Entity;";
@@ -92,39 +98,19 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
 
     @Shadow
     public abstract void writeChunkData(ChunkPos pos, NBTTagCompound compound);
+    @Shadow
+    public abstract void saveChunk(World worldIn, net.minecraft.world.chunk.Chunk chunkIn) throws MinecraftException, IOException;
 
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
         IMixinChunk chunk = (IMixinChunk) chunkIn;
 
         // Add tracked block positions
-        if (chunk.getTrackedShortPlayerPositions().size() > 0 || chunk.getTrackedIntPlayerPositions().size() > 0) {
+        final TrackedBlockStore trackedBlocks = chunk.getTrackedBlocks();
+        if (trackedBlocks != null && !trackedBlocks.isEmpty()) {
             NBTTagCompound trackedNbt = new NBTTagCompound();
-            NBTTagList positions = new NBTTagList();
-            trackedNbt.setTag(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, positions);
+            trackedNbt.setIntArray(NbtDataUtil.SPONGE_TRACKED_BLOCKS, trackedBlocks.toPackedArray());
             compound.setTag(NbtDataUtil.SPONGE_DATA, trackedNbt);
-
-            for (Map.Entry<Short, PlayerTracker> mapEntry : chunk.getTrackedShortPlayerPositions().entrySet()) {
-                Short pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setShort("pos", pos);
-                positions.appendTag(valueNbt);
-            }
-
-            for (Map.Entry<Integer, PlayerTracker> mapEntry : chunk.getTrackedIntPlayerPositions().entrySet()) {
-                Integer pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setInteger("ipos", pos);
-                positions.appendTag(valueNbt);
-            }
         }
     }
 
@@ -132,34 +118,45 @@ public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World wor
     public void onReadChunkFromNBT(World worldIn, NBTTagCompound compound, CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> ci, int chunkX,
             int chunkZ, net.minecraft.world.chunk.Chunk chunkIn) {
         if (compound.hasKey(NbtDataUtil.SPONGE_DATA)) {
-            Map<Integer, PlayerTracker> trackedIntPlayerPositions = Maps.newHashMap();
-            Map<Short, PlayerTracker> trackedShortPlayerPositions = Maps.newHashMap();
-            NBTTagList positions = compound.getCompoundTag(NbtDataUtil.SPONGE_DATA).getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, 10);
+            final NBTTagCompound spongeData = compound.getCompoundTag(NbtDataUtil.SPONGE_DATA);
             IMixinChunk chunk = (IMixinChunk) chunkIn;
-            for (int i = 0; i < positions.tagCount(); i++) {
-                NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
-                boolean isShortPos = valueNbt.hasKey("pos");
-                PlayerTracker tracker = new PlayerTracker();
-                if (valueNbt.hasKey("owner")) {
-                    tracker.ownerIndex = valueNbt.getInteger("owner");
-                } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
-                    tracker.ownerIndex = valueNbt.getInteger("uuid");
-                }
-                if (valueNbt.hasKey("notifier")) {
-                    tracker.notifierIndex = valueNbt.getInteger("notifier");
-                }
+            if (spongeData.hasKey(NbtDataUtil.SPONGE_TRACKED_BLOCKS, NbtDataUtil.TAG_INT_ARRAY)) {
+                chunk.setTrackedBlocks(TrackedBlockStore.fromPackedArray(spongeData.getIntArray(NbtDataUtil.SPONGE_TRACKED_BLOCKS)));
+            } else if (spongeData.hasKey(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, NbtDataUtil.TAG_LIST)) {
+                chunk.setTrackedBlocks(readLegacyTrackedBlocks(spongeData.getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, 10)));
+            }
+        }
+    }
 
-                if (tracker.notifierIndex != -1 || tracker.ownerIndex != -1) {
-                    if (isShortPos) {
-                        trackedShortPlayerPositions.put(valueNbt.getShort("pos"), tracker);
-                    } else {
-                        trackedIntPlayerPositions.put(valueNbt.getInteger("ipos"), tracker);
-                    }
+    // Migrate the table of one compound per block, remove in future
+    private static TrackedBlockStore readLegacyTrackedBlocks(NBTTagList positions) {
+        final TrackedBlockStore trackedBlocks = new TrackedBlockStore();
+        for (int i = 0; i < positions.tagCount(); i++) {
+            NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
+            int ownerIndex = TrackedBlockStore.NONE;
+            int notifierIndex = TrackedBlockStore.NONE;
+            if (valueNbt.hasKey("owner")) {
+                ownerIndex = valueNbt.getInteger("owner");
+            } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
+                ownerIndex = valueNbt.getInteger("uuid");
+            }
+            if (valueNbt.hasKey("notifier")) {
+                notifierIndex = valueNbt.getInteger("notifier");
+            }
+
+            if (notifierIndex != TrackedBlockStore.NONE || ownerIndex != TrackedBlockStore.NONE) {
+                if (valueNbt.hasKey("pos")) {
+                    // 4 bits x, 8 bits y and 4 bits z
+                    final short pos = valueNbt.getShort("pos");
+                    trackedBlocks.set(pos & 0xF, (pos >> 4) & 0xFF, (pos >> 12) & 0xF, ownerIndex, notifierIndex);
+                } else {
+                    // 4 bits x, 24 bits y and 4 bits z
+                    final int pos = valueNbt.getInteger("ipos");
+                    trackedBlocks.set(pos & 0xF, (pos >> 4) & 0xFFFFFF, (pos >> 28) & 0xF, ownerIndex, notifierIndex);
                 }
             }
-            chunk.setTrackedIntPlayerPositions(trackedIntPlayerPositions);
-            chunk.setTrackedShortPlayerPositions(trackedShortPlayerPositions);
         }
+        return trackedBlocks;
     }
 
     /**
@@ -214,8 +211,10 @@ private Entity onReadEntity(NBTTagCompound compound, World world) {
         //         }
         //     }
         // }
-        if (this.chunksToRemove.containsKey(chunkcoordintpair)) {
-            return true;
+        synchronized (this.lock) {
+            if (this.chunksToRemove.containsKey(chunkcoordintpair) || this.chunksToSerialize.containsKey(chunkcoordintpair)) {
+                return true;
+            }
         }
         // Sponge end
 
@@ -246,6 +245,15 @@ protected void addChunkToPending(ChunkPos pos, NBTTagCompound compound) {
      */
     @Overwrite
     public boolean writeNextIO() {
+        // Sponge start - serialize unloaded chunks before they are written
+        List<net.minecraft.world.chunk.Chunk> batch = this.serializationBatches.poll();
+        if (batch != null) {
+            for (net.minecraft.world.chunk.Chunk unloadedChunk : batch) {
+                this.serializeUnloadedChunk(new ChunkPos(unloadedChunk.xPosition, unloadedChunk.zPosition));
+            }
+            return true;
+        }
+        // Sponge end
         QueuedChunk chunk = this.queue.poll();
         if (chunk == null) {
             if (this.savingExtraData) {
@@ -301,6 +309,43 @@ public boolean writeNextIO() {
         }
     }
 
+    @Override
+    public void queueUnloadedChunks(List<net.minecraft.world.chunk.Chunk> chunks) {
+        synchronized (this.lock) {
+            for (net.minecraft.world.chunk.Chunk chunk : chunks) {
+                this.chunksToSerialize.put(new ChunkPos(chunk.xPosition, chunk.zPosition), chunk);
+            }
+        }
+        this.serializationBatches.add(chunks);
+        ThreadedFileIOBase.getThreadedIOInstance().queueIO((AnvilChunkLoader) (Object) this);
+    }
+
+    // A chunk which is loaded again must be serialized before the loader looks for its data
+    @Inject(method = "loadChunk", at = @At("HEAD"))
+    public void onLoadChunk(World worldIn, int x, int z, CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> cir) {
+        this.serializeUnloadedChunk(new ChunkPos(x, z));
+    }
+
+    @Inject(method = "loadChunk__Async", at = @At("HEAD"), remap = false, require = 0, expect = 0)
+    public void onLoadChunkAsync(World worldIn, int x, int z, CallbackInfoReturnable<Object[]> cir) {
+        this.serializeUnloadedChunk(new ChunkPos(x, z));
+    }
+
+    private void serializeUnloadedChunk(ChunkPos pos) {
+        // Holding the lock until the data was added to the pending chunks keeps loads from reading outdated data
+        synchronized (this.lock) {
+            net.minecraft.world.chunk.Chunk chunk = this.chunksToSerialize.remove(pos);
+            if (chunk == null) {
+                return;
+            }
+            try {
+                this.saveChunk(chunk.getWorld(), chunk);
+            } catch (MinecraftException | IOException e) {
+                LOGGER.error("Failed to save chunk", e);
+            }
+        }
+    }
+
     @Override
     public Path getWorldDir() {
         return this.chunkSaveLocation.toPath();
@@ -26,6 +26,7 @@
 
 import com.flowpowered.math.vector.Vector3i;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
@@ -67,11 +68,13 @@
 import org.spongepowered.common.util.CachedLong2ObjectMap;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.SpongeEmptyChunk;
-import org.spongepowered.common.world.storage.SpongeChunkDataStream;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 @Mixin(ChunkProviderServer.class)
@@ -82,6 +85,9 @@ public abstract class MixinChunkProviderServer implements WorldStorage, IMixinCh
     private boolean forceChunkRequests = false;
     private long chunkUnloadDelay = 15000;
     private int maxChunkUnloads = 100;
+    private boolean asyncUnloadSerialization = false;
+    private final Set<Chunk> unloadCandidates = new ReferenceLinkedOpenHashSet<>();
+    private final Set<Chunk> unloadQueue = new ReferenceLinkedOpenHashSet<>();
 
     @Shadow @Final public WorldServer world;
     @Shadow @Final private IChunkLoader chunkLoader;
@@ -104,6 +110,7 @@ private void onConstruct(WorldServer worldObjIn, IChunkLoader chunkLoaderIn, ICh
         this.denyChunkRequests = spongeConfig.getConfig().getWorld().getDenyChunkRequests();
         this.chunkUnloadDelay = spongeConfig.getConfig().getWorld().getChunkUnloadDelay() * 1000;
         this.maxChunkUnloads = spongeConfig.getConfig().getWorld().getMaxChunkUnloads();
+        this.asyncUnloadSerialization = spongeConfig.getConfig().getWorld().useAsyncChunkUnloadSerialization();
     }
 
     @Override
@@ -116,7 +123,7 @@ public ChunkDataStream getGeneratedChunks() {
         if (!(this.chunkLoader instanceof IMixinAnvilChunkLoader)) {
             throw new UnsupportedOperationException("unknown chunkLoader");
         }
-        return new SpongeChunkDataStream(((IMixinAnvilChunkLoader) this.chunkLoader).getWorldDir());
+        return WorldStorageUtil.getGeneratedChunks(((IMixinAnvilChunkLoader) this.chunkLoader).getWorldDir());
     }
 
     @Override
@@ -145,9 +152,11 @@ public void queueUnload(Chunk chunkIn)
     {
         if (!((IMixinChunk) chunkIn).isPersistedChunk() && this.world.provider.canDropChunk(chunkIn.xPosition, chunkIn.zPosition))
         {
-            // Sponge - we avoid using the queue and simply check the unloaded flag during unloads
+            // Sponge - we avoid using the queue and check the unloaded flag during unloads, so chunks that
+            // become active again don't need to be removed from the queue
             //this.droppedChunksSet.add(Long.valueOf(ChunkPos.asLong(chunkIn.xPosition, chunkIn.zPosition)));
             chunkIn.unloadQueued = true;
+            this.unloadQueue.add(chunkIn);
         }
     }
 
@@ -183,6 +192,32 @@ public Chunk onProvideChunkHead(ChunkProviderServer chunkProviderServer, int x,
         return chunk;
     }
 
+    @Override
+    public Chunk addGeneratedChunk(Chunk chunk) {
+        final long key = ChunkPos.asLong(chunk.xPosition, chunk.zPosition);
+        final Chunk loaded = this.id2ChunkMap.get(key);
+        if (loaded != null) {
+            return loaded;
+        }
+
+        if (CauseTracker.ENABLED) {
+            CauseTracker.getInstance().switchToPhase(GenerationPhase.State.TERRAIN_GENERATION, PhaseContext.start()
+                    .addCaptures()
+                    .add(NamedCause.of(InternalNamedCauses.WorldGeneration.WORLD, this.world))
+                    .complete());
+        }
+        // Structures are only recorded by the terrain generation, so they are
+        // recorded here as the off thread generators skip them
+        this.chunkGenerator.recreateStructures(chunk, chunk.xPosition, chunk.zPosition);
+        this.id2ChunkMap.put(key, chunk);
+        chunk.onChunkLoad();
+        chunk.populateChunk((ChunkProviderServer) (Object) this, this.chunkGenerator);
+        if (CauseTracker.ENABLED) {
+            CauseTracker.getInstance().completePhase(GenerationPhase.State.TERRAIN_GENERATION);
+        }
+        return chunk;
+    }
+
     @Inject(method = "provideChunk", at = @At(value = "INVOKE", target = "Lnet/minecraft/util/math/ChunkPos;asLong(II)J"))
     public void onProvideChunkStart(int x, int z, CallbackInfoReturnable<Chunk> cir) {
         if (CauseTracker.ENABLED) {
@@ -269,10 +304,20 @@ public long getChunkUnloadDelay() {
         return this.chunkUnloadDelay;
     }
 
+    @Override
+    public void markUnloadCandidate(Chunk chunk) {
+        this.unloadCandidates.add(chunk);
+    }
+
+    @Override
+    public Set<Chunk> getUnloadCandidates() {
+        return this.unloadCandidates;
+    }
+
     /**
      * @author blood - October 20th, 2016
      * @reason Refactors entire method to not use the droppedChunksSet by
-     * simply looping through all loaded chunks and determining whether it
+     * walking the chunks queued for unload and determining whether they
      * can unload or not.
      *
      * @return true if unload queue was processed
@@ -283,13 +328,20 @@ public boolean tick()
         if (!this.world.disableLevelSaving)
         {
             ((IMixinWorldServer) this.world).getTimingsHandler().doChunkUnload.startTiming();
-            Iterator<Chunk> iterator = this.id2ChunkMap.values().iterator();
+            Iterator<Chunk> iterator = this.unloadQueue.iterator();
+            List<Chunk> unloadedChunks = this.asyncUnloadSerialization ? new ArrayList<>() : null;
             int chunksUnloaded = 0;
             long now = System.currentTimeMillis();
             while (chunksUnloaded < this.maxChunkUnloads && iterator.hasNext()) {
                 Chunk chunk = iterator.next();
                 IMixinChunk spongeChunk = (IMixinChunk) chunk;
-                if (chunk != null && chunk.unloadQueued && !spongeChunk.isPersistedChunk()) {
+                long chunkKey = ChunkPos.asLong(chunk.xPosition, chunk.zPosition);
+                // Drop chunks which became active again or were unloaded elsewhere
+                if (!chunk.unloadQueued || this.id2ChunkMap.get(chunkKey) != chunk) {
+                    iterator.remove();
+                    continue;
+                }
+                if (!spongeChunk.isPersistedChunk()) {
                     if (this.getChunkUnloadDelay() > 0) {
                         if ((now - spongeChunk.getScheduledForUnload()) < this.chunkUnloadDelay) {
                             continue;
@@ -297,12 +349,21 @@ public boolean tick()
                         spongeChunk.setScheduledForUnload(-1);
                     }
                     chunk.onChunkUnload();
-                    this.saveChunkData(chunk);
+                    if (unloadedChunks != null) {
+                        unloadedChunks.add(chunk);
+                    } else {
+                        this.saveChunkData(chunk);
+                    }
                     this.saveChunkExtraData(chunk);
+                    this.id2ChunkMap.remove(chunkKey);
+                    this.unloadCandidates.remove(chunk);
                     iterator.remove();
                     chunksUnloaded++;
                 }
             }
+            if (unloadedChunks != null && !unloadedChunks.isEmpty()) {
+                this.queueChunkSerialization(unloadedChunks);
+            }
             ((IMixinWorldServer) this.world).getTimingsHandler().doChunkUnload.stopTiming();
         }
 
@@ -310,6 +371,21 @@ public boolean tick()
         return false;
     }
 
+    // Mirrors saveChunkData, except that the chunks are serialized on the file IO thread
+    private void queueChunkSerialization(List<Chunk> chunks) {
+        if (!(this.chunkLoader instanceof IMixinAnvilChunkLoader)) {
+            chunks.forEach(this::saveChunkData);
+            return;
+        }
+        if (((WorldProperties) this.world.getWorldInfo()).getSerializationBehavior() == SerializationBehaviors.NONE) {
+            return;
+        }
+        for (Chunk chunk : chunks) {
+            chunk.setLastSaveTime(this.world.getTotalWorldTime());
+        }
+        ((IMixinAnvilChunkLoader) this.chunkLoader).queueUnloadedChunks(chunks);
+    }
+
     // Copy of getLoadedChunk without marking chunk active.
     // This allows the chunk to unload if currently queued.
     @Override
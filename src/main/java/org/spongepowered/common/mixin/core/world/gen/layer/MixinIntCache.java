@@ -0,0 +1,55 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.gen.layer;
+
+import net.minecraft.world.gen.layer.IntCache;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.world.gen.ThreadIntCache;
+
+@Mixin(IntCache.class)
+public abstract class MixinIntCache {
+
+    // Resetting the shared cache would free arrays which are still used by another thread
+    @Inject(method = "getIntCache", at = @At("HEAD"), cancellable = true)
+    private static void onGetIntCache(int size, CallbackInfoReturnable<int[]> cir) {
+        final Thread thread = Thread.currentThread();
+        if (thread instanceof ThreadIntCache.Owner) {
+            cir.setReturnValue(((ThreadIntCache.Owner) thread).getIntCache().getIntCache(size));
+        }
+    }
+
+    @Inject(method = "resetIntCache", at = @At("HEAD"), cancellable = true)
+    private static void onResetIntCache(CallbackInfo ci) {
+        final Thread thread = Thread.currentThread();
+        if (thread instanceof ThreadIntCache.Owner) {
+            ((ThreadIntCache.Owner) thread).getIntCache().resetIntCache();
+            ci.cancel();
+        }
+    }
+}
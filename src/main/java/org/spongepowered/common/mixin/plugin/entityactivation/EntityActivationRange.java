@@ -27,6 +27,8 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntityLivingBase;
@@ -49,6 +51,7 @@
 import net.minecraft.entity.projectile.EntityFireball;
 import net.minecraft.entity.projectile.EntityThrowable;
 import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
@@ -68,7 +71,9 @@
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class EntityActivationRange {
@@ -81,12 +86,6 @@ public class EntityActivationRange {
             .put((byte) 5, "misc")
             .build();
 
-    static AxisAlignedBB maxBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB miscBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB creatureBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB monsterBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB aquaticBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB ambientBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
     static AxisAlignedBB tileEntityBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
     @SuppressWarnings("serial") static Map<Byte, Integer> maxActivationRanges = new HashMap<Byte, Integer>() {
 
@@ -216,116 +215,105 @@ public static void growBb(AxisAlignedBB target, AxisAlignedBB source, int x, int
      * Find what entities are in range of the players in the world and set
      * active if in range.
      *
+     * <p>The chunks around every player are indexed first, so that each
+     * chunk's entities are visited once per tick no matter how many players
+     * are near it.</p>
+     *
      * @param world The world to perform activation checks in
      */
     public static void activateEntities(World world) {
-        for (EntityPlayer player : world.playerEntities) {
-
-            int maxRange = 0;
-            for (Integer range : maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
-                }
+        if (world.playerEntities.isEmpty()) {
+            return;
+        }
+        int maxRange = 0;
+        for (Integer range : maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
             }
+        }
+        maxRange = Math.min((SpongeImpl.getServer().getPlayerList().getViewDistance() << 4) - 8, maxRange);
 
-            maxRange = Math.min((SpongeImpl.getServer().getPlayerList().getViewDistance() << 4) - 8, maxRange);
-            ((IModData_Activation) player).setActivatedTick(SpongeImpl.getServer().getTickCounter());
-            growBb(maxBB, player.getEntityBoundingBox(), maxRange, 256, maxRange);
-
-            int i = MathHelper.floor(maxBB.minX / 16.0D);
-            int j = MathHelper.floor(maxBB.maxX / 16.0D);
-            int k = MathHelper.floor(maxBB.minZ / 16.0D);
-            int l = MathHelper.floor(maxBB.maxZ / 16.0D);
-
-            for (int i1 = i; i1 <= j; ++i1) {
-                for (int j1 = k; j1 <= l; ++j1) {
-                    WorldServer worldserver = (WorldServer) world;
-                    Chunk chunk = ((IMixinChunkProviderServer) worldserver.getChunkProvider()).getLoadedChunkWithoutMarkingActive(i1, j1);
-                    if (chunk != null) {
-                        activateChunkEntities(player, chunk);
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        final Long2ObjectMap<List<EntityPlayer>> playersByChunk = new Long2ObjectOpenHashMap<>();
+        for (EntityPlayer player : world.playerEntities) {
+            ((IModData_Activation) player).setActivatedTick(currentTick);
+            final AxisAlignedBB playerBB = player.getEntityBoundingBox();
+            final int minChunkX = MathHelper.floor((playerBB.minX - maxRange) / 16.0D);
+            final int maxChunkX = MathHelper.floor((playerBB.maxX + maxRange) / 16.0D);
+            final int minChunkZ = MathHelper.floor((playerBB.minZ - maxRange) / 16.0D);
+            final int maxChunkZ = MathHelper.floor((playerBB.maxZ + maxRange) / 16.0D);
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    final long key = ChunkPos.asLong(chunkX, chunkZ);
+                    List<EntityPlayer> players = playersByChunk.get(key);
+                    if (players == null) {
+                        players = new ArrayList<>(4);
+                        playersByChunk.put(key, players);
                     }
+                    players.add(player);
                 }
             }
         }
+
+        final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) ((WorldServer) world).getChunkProvider();
+        for (Long2ObjectMap.Entry<List<EntityPlayer>> entry : playersByChunk.long2ObjectEntrySet()) {
+            final long key = entry.getLongKey();
+            final Chunk chunk = chunkProvider.getLoadedChunkWithoutMarkingActive((int) key, (int) (key >> 32));
+            if (chunk != null) {
+                activateChunkEntities(entry.getValue(), chunk, currentTick);
+            }
+        }
     }
 
     /**
      * Checks for the activation state of all entities in this chunk.
      *
+     * @param players The players whose activation range covers the chunk
      * @param chunk Chunk to check for activation
+     * @param currentTick The current server tick
      */
-    private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
+    private static void activateChunkEntities(List<EntityPlayer> players, Chunk chunk, long currentTick) {
         for (int i = 0; i < chunk.getEntityLists().length; ++i) {
 
-            for (Object o : chunk.getEntityLists()[i]) {
-                Entity entity = (Entity) o;
+            for (Entity entity : chunk.getEntityLists()[i]) {
+                IModData_Activation spongeEntity = (IModData_Activation) entity;
+                if (currentTick <= spongeEntity.getActivatedTick()) {
+                    continue;
+                }
                 EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
-                long currentTick = SpongeImpl.getServer().getTickCounter();
-                if (type == EntityTypes.UNKNOWN) {
-                    ((IModData_Activation) entity).setActivatedTick(currentTick);
+                if (type == EntityTypes.UNKNOWN || spongeEntity.getDefaultActivationState()) {
+                    spongeEntity.setActivatedTick(currentTick);
                     continue;
                 }
 
-                if (currentTick > ((IModData_Activation) entity).getActivatedTick()) {
-                    if (((IModData_Activation) entity).getDefaultActivationState()) {
-                        ((IModData_Activation) entity).setActivatedTick(currentTick);
-                        continue;
-                    }
-
-                    IModData_Activation spongeEntity = (IModData_Activation) entity;
-                    // check if activation cache needs to be updated
-                    if (spongeEntity.requiresActivationCacheRefresh()) {
-                        EntityActivationRange.initializeEntityActivationState(entity);
-                        spongeEntity.requiresActivationCacheRefresh(false);
-                    }
-                    // check for entity type overrides
-                    byte activationType = ((IModData_Activation) entity).getActivationType();
-                    int bbActivationRange = ((IModData_Activation) entity).getActivationRange();
-
-                    if (activationType == 5) {
-                        growBb(miscBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 4) {
-                        growBb(ambientBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 3) {
-                        growBb(aquaticBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 2) {
-                        growBb(creatureBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else {
-                        growBb(monsterBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    }
-
-                    switch (((IModData_Activation) entity).getActivationType()) {
-                        case 1:
-                            if (monsterBB.intersectsWith(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 2:
-                            if (creatureBB.intersectsWith(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 3:
-                            if (aquaticBB.intersectsWith(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 4:
-                            if (ambientBB.intersectsWith(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 5:
-                        default:
-                            if (miscBB.intersectsWith(entity.getEntityBoundingBox())) {
-                                ((IModData_Activation) entity).setActivatedTick(currentTick);
-                            }
+                // check if activation cache needs to be updated
+                if (spongeEntity.requiresActivationCacheRefresh()) {
+                    EntityActivationRange.initializeEntityActivationState(entity);
+                    spongeEntity.requiresActivationCacheRefresh(false);
+                }
+                // the activation range already accounts for entity type overrides
+                final int activationRange = spongeEntity.getActivationRange();
+                final AxisAlignedBB entityBB = entity.getEntityBoundingBox();
+                for (int j = 0; j < players.size(); j++) {
+                    if (isInRange(entityBB, players.get(j).getEntityBoundingBox(), activationRange)) {
+                        spongeEntity.setActivatedTick(currentTick);
+                        break;
                     }
                 }
             }
         }
     }
 
+    /**
+     * Checks whether an entity's bounding box intersects a player's bounding
+     * box grown by the activation range, without creating the grown box.
+     */
+    private static boolean isInRange(AxisAlignedBB entityBB, AxisAlignedBB playerBB, int range) {
+        return entityBB.maxX > playerBB.minX - range && entityBB.minX < playerBB.maxX + range
+                && entityBB.maxY > playerBB.minY - 256 && entityBB.minY < playerBB.maxY + 256
+                && entityBB.maxZ > playerBB.minZ - range && entityBB.minZ < playerBB.maxZ + range;
+    }
+
     /**
      * If an entity is not in range, do some more checks to see if we should
      * give it a shot.
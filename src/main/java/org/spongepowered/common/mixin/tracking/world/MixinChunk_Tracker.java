@@ -24,8 +24,6 @@
  */
 package org.spongepowered.common.mixin.tracking.world;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
-import it.unimi.dsi.fastutil.shorts.Short2ObjectArrayMap;
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -59,8 +57,8 @@
 import org.spongepowered.common.profile.SpongeProfileManager;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.SpongeUsernameCache;
+import org.spongepowered.common.world.TrackedBlockStore;
 
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -69,15 +67,7 @@
 @Mixin(value = net.minecraft.world.chunk.Chunk.class, priority = 1111)
 public abstract class MixinChunk_Tracker implements Chunk, IMixinChunk {
 
-    private static final int NUM_XZ_BITS = 4;
-    private static final int NUM_SHORT_Y_BITS = 8;
-    private static final int NUM_INT_Y_BITS = 24;
-    private static final int Y_SHIFT = NUM_XZ_BITS;
-    private static final int Z_SHORT_SHIFT = Y_SHIFT + NUM_SHORT_Y_BITS;
-    private static final int Z_INT_SHIFT = Y_SHIFT + NUM_INT_Y_BITS;
-    private static final short XZ_MASK = 0xF;
-    private static final short Y_SHORT_MASK = 0xFF;
-    private static final int Y_INT_MASK = 0xFFFFFF;
+    private static final int XZ_MASK = 0xF;
     private SpongeProfileManager spongeProfileManager;
     private UserStorageService userStorageService;
 
@@ -89,8 +79,7 @@ public abstract class MixinChunk_Tracker implements Chunk, IMixinChunk {
     @Shadow @Final private int[] heightMap;
     @Shadow private boolean isModified;
 
-    public Map<Integer, PlayerTracker> trackedIntBlockPositions = new Int2ObjectArrayMap<>();
-    public Map<Short, PlayerTracker> trackedShortBlockPositions = new Short2ObjectArrayMap<>();
+    private TrackedBlockStore trackedBlocks = new TrackedBlockStore();
 
     @Final // need this constructor to never be overwritten by anything.
     @Inject(method = "<init>(Lnet/minecraft/world/World;II)V", at = @At("RETURN"), remap = false)
@@ -124,127 +113,52 @@ public void addTrackedBlockPosition(Block block, BlockPos pos, User user, Player
 
         final IMixinWorldInfo worldInfo = (IMixinWorldInfo) this.world.getWorldInfo();
         final int indexForUniqueId = worldInfo.getIndexForUniqueId(user.getUniqueId());
-        if (pos.getY() <= 255) {
-            short blockPos = blockPosToShort(pos);
-            final PlayerTracker playerTracker = this.trackedShortBlockPositions.get(blockPos);
-            if (playerTracker != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
-                    playerTracker.notifierIndex = indexForUniqueId;
-                } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
-                }
-            } else {
-                this.trackedShortBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
+        final int x = pos.getX() & XZ_MASK;
+        final int y = pos.getY();
+        final int z = pos.getZ() & XZ_MASK;
+        if (trackerType == PlayerTracker.Type.OWNER) {
+            // Blocks within the build height which are already tracked are also notified by the new owner
+            if (y <= 255 && this.trackedBlocks.contains(x, y, z)) {
+                this.trackedBlocks.setNotifier(x, y, z, indexForUniqueId);
             }
+            this.trackedBlocks.setOwner(x, y, z, indexForUniqueId);
         } else {
-            int blockPos = blockPosToInt(pos);
-            final PlayerTracker playerTracker = this.trackedIntBlockPositions.get(blockPos);
-            if (playerTracker != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
-                } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
-                }
-            } else {
-                this.trackedIntBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
-            }
+            this.trackedBlocks.setNotifier(x, y, z, indexForUniqueId);
         }
     }
 
     @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() {
-        return this.trackedIntBlockPositions;
-    }
-
-    @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
-        return this.trackedShortBlockPositions;
+    public TrackedBlockStore getTrackedBlocks() {
+        return this.trackedBlocks;
     }
 
     @Override
     public Optional<User> getBlockOwner(BlockPos pos) {
-        final int key = blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            UUID uuid = (((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(intTracker.ownerIndex)).orElse(null);
-            if (uuid != null) {
-                UUID userUniqueId = uuid;
-                // get player if online
-                EntityPlayer player = this.world.getPlayerEntityByUUID(userUniqueId);
-                if (player != null) {
-                    return Optional.of((User) player);
-                }
-                if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(userUniqueId)) {
-                    this.trackedIntBlockPositions.remove(key);
-                    return Optional.empty();
-                }
-                // player is not online, get or create user from storage
-                return this.getUserFromId(userUniqueId);
-            }
-        } else {
-            final short shortKey = blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                Optional<UUID> uuid = (((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(shortTracker.ownerIndex));
-                if (uuid.isPresent()) {
-                    UUID userUniqueId = uuid.get();
-                    // get player if online
-                    EntityPlayer player = this.world.getPlayerEntityByUUID(userUniqueId);
-                    if (player != null) {
-                        return Optional.of((User) player);
-                    }
-                    if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(userUniqueId)) {
-                        this.trackedShortBlockPositions.remove(shortKey);
-                        return Optional.empty();
-                    }
-                    // player is not online, get or create user from storage
-                    return this.getUserFromId(userUniqueId);
-                }
-            }
-        }
-
-        return Optional.empty();
+        return this.getTrackedUser(pos, this.trackedBlocks.getOwner(pos.getX() & XZ_MASK, pos.getY(), pos.getZ() & XZ_MASK));
     }
 
     @Override
     public Optional<User> getBlockNotifier(BlockPos pos) {
-        final int intKey = blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(intKey);
-        if (intTracker != null) {
-            UUID uuid = (((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(intTracker.notifierIndex)).orElse(null);
-            if (uuid != null) {
-                UUID userUniqueId = uuid;
-                // get player if online
-                EntityPlayer player = this.world.getPlayerEntityByUUID(userUniqueId);
-                if (player != null) {
-                    return Optional.of((User) player);
-                }
-                if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(userUniqueId)) {
-                    this.trackedIntBlockPositions.remove(intKey);
-                    return Optional.empty();
-                }
-                // player is not online, get or create user from storage
-                return this.getUserFromId(userUniqueId);
+        return this.getTrackedUser(pos, this.trackedBlocks.getNotifier(pos.getX() & XZ_MASK, pos.getY(), pos.getZ() & XZ_MASK));
+    }
+
+    private Optional<User> getTrackedUser(BlockPos pos, int index) {
+        if (index == TrackedBlockStore.NONE) {
+            return Optional.empty();
+        }
+        UUID uuid = (((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(index)).orElse(null);
+        if (uuid != null) {
+            // get player if online
+            EntityPlayer player = this.world.getPlayerEntityByUUID(uuid);
+            if (player != null) {
+                return Optional.of((User) player);
             }
-        } else if (this.trackedShortBlockPositions.get(blockPosToShort(pos)) != null) {
-            short blockPos = blockPosToShort(pos);
-            PlayerTracker tracker = this.trackedShortBlockPositions.get(blockPos);
-            UUID uuid = (((IMixinWorldInfo) this.world.getWorldInfo()).getUniqueIdForIndex(tracker.notifierIndex)).orElse(null);
-            if (uuid != null) {
-                UUID userUniqueId = uuid;
-                // get player if online
-                EntityPlayer player = this.world.getPlayerEntityByUUID(userUniqueId);
-                if (player != null) {
-                    return Optional.of((User) player);
-                }
-                if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(userUniqueId)) {
-                    this.trackedShortBlockPositions.remove(blockPos);
-                    return Optional.empty();
-                }
-                // player is not online, get or create user from storage
-                return this.getUserFromId(userUniqueId);
+            if (SpongeImpl.getGlobalConfig().getConfig().getWorld().getInvalidLookupUuids().contains(uuid)) {
+                this.trackedBlocks.remove(pos.getX() & XZ_MASK, pos.getY(), pos.getZ() & XZ_MASK);
+                return Optional.empty();
             }
+            // player is not online, get or create user from storage
+            return this.getUserFromId(uuid);
         }
 
         return Optional.empty();
@@ -271,74 +185,20 @@ private Optional<User> getUserFromId(UUID uuid) {
     // Special setter used by API
     @Override
     public void setBlockNotifier(BlockPos pos, @Nullable UUID uuid) {
-        if (pos.getY() <= 255) {
-            short blockPos = blockPosToShort(pos);
-            if (this.trackedShortBlockPositions.get(blockPos) != null) {
-                this.trackedShortBlockPositions.get(blockPos).notifierIndex = uuid == null ? -1 :
-                                                                              ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedShortBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
-        } else {
-            int blockPos = blockPosToInt(pos);
-            if (this.trackedIntBlockPositions.get(blockPos) != null) {
-                this.trackedIntBlockPositions.get(blockPos).notifierIndex = uuid == null ? -1 :
-                                                                            ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedIntBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
-        }
+        this.trackedBlocks.setNotifier(pos.getX() & XZ_MASK, pos.getY(), pos.getZ() & XZ_MASK,
+                uuid == null ? TrackedBlockStore.NONE : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid));
     }
 
     // Special setter used by API
     @Override
     public void setBlockCreator(BlockPos pos, @Nullable UUID uuid) {
-        if (pos.getY() <= 255) {
-            short blockPos = blockPosToShort(pos);
-            if (this.trackedShortBlockPositions.get(blockPos) != null) {
-                this.trackedShortBlockPositions.get(blockPos).ownerIndex = uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid);
-            } else {
-                this.trackedShortBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
-        } else {
-            int blockPos = blockPosToInt(pos);
-            if (this.trackedIntBlockPositions.get(blockPos) != null) {
-                this.trackedIntBlockPositions.get(blockPos).ownerIndex = uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid);
-            } else {
-                this.trackedIntBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((IMixinWorldInfo) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
-        }
+        this.trackedBlocks.setOwner(pos.getX() & XZ_MASK, pos.getY(), pos.getZ() & XZ_MASK,
+                uuid == null ? TrackedBlockStore.NONE : ((IMixinWorldInfo) this.world.getWorldInfo()).getIndexForUniqueId(uuid));
     }
 
     @Override
-    public void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPositions) {
-        this.trackedIntBlockPositions = trackedPositions;
-    }
-
-    @Override
-    public void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPositions) {
-        this.trackedShortBlockPositions = trackedPositions;
-    }
-
-    /**
-     * Modifies bits in an integer.
-     *
-     * @param num Integer to modify
-     * @param data Bits of data to add
-     * @param which Index of nibble to start at
-     * @param bitsToReplace The number of bits to replace starting from nibble index
-     * @return The modified integer
-     */
-    private int setNibble(int num, int data, int which, int bitsToReplace) {
-        return (num & ~(bitsToReplace << (which * 4)) | (data << (which * 4)));
+    public void setTrackedBlocks(TrackedBlockStore trackedBlocks) {
+        this.trackedBlocks = trackedBlocks;
     }
 
     @Inject(method = "onChunkLoad", at = @At("HEAD"))
@@ -358,45 +218,4 @@ private void endChunkLoad(CallbackInfo callbackInfo) {
             CauseTracker.getInstance().completePhase(GenerationPhase.State.CHUNK_LOADING);
         }
     }
-
-    /**
-     * Serialize this BlockPos into a short value
-     */
-    private short blockPosToShort(BlockPos pos) {
-        short serialized = (short) setNibble(0, pos.getX() & XZ_MASK, 0, NUM_XZ_BITS);
-        serialized = (short) setNibble(serialized, pos.getY() & Y_SHORT_MASK, 1, NUM_SHORT_Y_BITS);
-        serialized = (short) setNibble(serialized, pos.getZ() & XZ_MASK, 3, NUM_XZ_BITS);
-        return serialized;
-    }
-
-    /**
-     * Create a BlockPos from a serialized chunk position
-     */
-    private BlockPos blockPosFromShort(short serialized) {
-        int x = this.xPosition * 16 + (serialized & XZ_MASK);
-        int y = (serialized >> Y_SHIFT) & Y_SHORT_MASK;
-        int z = this.zPosition * 16 + ((serialized >> Z_SHORT_SHIFT) & XZ_MASK);
-        return new BlockPos(x, y, z);
-    }
-
-    /**
-     * Serialize this BlockPos into an int value
-     */
-    private int blockPosToInt(BlockPos pos) {
-        int serialized = setNibble(0, pos.getX() & XZ_MASK, 0, NUM_XZ_BITS);
-        serialized = setNibble(serialized, pos.getY() & Y_INT_MASK, 1, NUM_INT_Y_BITS);
-        serialized = setNibble(serialized, pos.getZ() & XZ_MASK, 7, NUM_XZ_BITS);
-        return serialized;
-    }
-
-    /**
-     * Create a BlockPos from a serialized chunk position
-     */
-    private BlockPos blockPosFromInt(int serialized) {
-        int x = this.xPosition * 16 + (serialized & XZ_MASK);
-        int y = (serialized >> Y_SHIFT) & Y_INT_MASK;
-        int z = this.zPosition * 16 + ((serialized >> Z_INT_SHIFT) & XZ_MASK);
-        return new BlockPos(x, y, z);
-    }
-
 }
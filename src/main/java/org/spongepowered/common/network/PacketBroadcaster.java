@@ -0,0 +1,108 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.EnumConnectionState;
+import net.minecraft.network.EnumPacketDirection;
+import net.minecraft.network.Packet;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.play.server.SPacketChat;
+import org.spongepowered.common.interfaces.IMixinNetworkManager;
+
+import java.io.IOException;
+import java.util.Collection;
+
+import javax.annotation.Nullable;
+
+/**
+ * Sends one packet to many players, serializing it once instead of once per
+ * connection. The serialized packet is shared by all connections, each of
+ * them only compresses and frames it.
+ */
+public final class PacketBroadcaster {
+
+    private PacketBroadcaster() {
+    }
+
+    /**
+     * Sends a packet to all given players.
+     *
+     * @param packet The packet to send
+     * @param players The players to send the packet to
+     */
+    public static void broadcast(Packet<?> packet, Collection<EntityPlayerMP> players) {
+        ByteBuf encoded = null;
+        boolean encodable = players.size() > 1;
+        try {
+            for (EntityPlayerMP player : players) {
+                if (player.connection == null) {
+                    continue;
+                }
+                if (encodable && canShareEncoding(player, packet)) {
+                    if (encoded == null) {
+                        encoded = encode(packet);
+                        encodable = encoded != null;
+                    }
+                    if (encoded != null && ((IMixinNetworkManager) player.connection.getNetworkManager()).sendEncodedPacket(encoded)) {
+                        continue;
+                    }
+                }
+                player.connection.sendPacket(packet);
+            }
+        } finally {
+            if (encoded != null) {
+                encoded.release();
+            }
+        }
+    }
+
+    private static boolean canShareEncoding(EntityPlayerMP player, Packet<?> packet) {
+        // Chat is filtered by the player's chat visibility when it is sent normally
+        return !(packet instanceof SPacketChat) || player.getChatVisibility() == EntityPlayer.EnumChatVisibility.FULL;
+    }
+
+    @Nullable
+    private static ByteBuf encode(Packet<?> packet) {
+        final Integer id = EnumConnectionState.PLAY.getPacketId(EnumPacketDirection.CLIENTBOUND, packet);
+        if (id == null) {
+            return null;
+        }
+        final PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        try {
+            buffer.writeVarInt(id);
+            packet.writePacketData(buffer);
+        } catch (IOException | RuntimeException e) {
+            // Sending the packet normally reports the failure for each connection
+            buffer.release();
+            return null;
+        }
+        return buffer;
+    }
+
+}
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.network;
 
+import co.aikar.timings.SpongeTimings;
+import co.aikar.timings.Timing;
 import com.flowpowered.math.vector.Vector3d;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemBucket;
@@ -32,7 +34,6 @@
 import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraft.network.Packet;
 import net.minecraft.network.play.client.CPacketAnimation;
-import net.minecraft.network.play.client.CPacketClientSettings;
 import net.minecraft.network.play.client.CPacketClientStatus;
 import net.minecraft.network.play.client.CPacketCreativeInventoryAction;
 import net.minecraft.network.play.client.CPacketPlayer;
@@ -82,86 +83,99 @@ public class PacketUtil {
     @SuppressWarnings({"rawtypes", "unchecked"})
     public static void onProcessPacket(Packet packetIn, INetHandler netHandler) {
         if (netHandler instanceof NetHandlerPlayServer) {
-            EntityPlayerMP packetPlayer = ((NetHandlerPlayServer) netHandler).player;
-
-            // If true, logic was handled in Pre so return
-            if (firePreEvents(packetIn, packetPlayer)) {
-                return;
+            final Timing timing = SpongeTimings.getPacketTiming(packetIn).startTiming();
+            try {
+                processPlayerPacket(packetIn, (NetHandlerPlayServer) netHandler);
+            } finally {
+                timing.stopTiming();
             }
-            boolean ignoreCreative = false;
+        } else { // client
+            packetIn.processPacket(netHandler);
+        }
+    }
 
-            // This is another horrible hack required since the client sends a C10 packet for every slot
-            // containing an itemstack after a C16 packet in the following scenarios :
-            // 1. Opening creative inventory after initial server join.
-            // 2. Opening creative inventory again after making a change in previous inventory open.
-            //
-            // This is done in order to sync client inventory to server and would be fine if the C10 packet
-            // included an Enum of some sort that defined what type of sync was happening.
-            if (packetPlayer.interactionManager.isCreative() && (packetIn instanceof CPacketClientStatus && ((CPacketClientStatus) packetIn).getStatus() == CPacketClientStatus.State.OPEN_INVENTORY_ACHIEVEMENT)) {
-                lastInventoryOpenPacketTimeStamp = System.currentTimeMillis();
-            } else if (creativeCheck(packetIn, packetPlayer)) {
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static void processPlayerPacket(Packet packetIn, NetHandlerPlayServer netHandler) {
+        EntityPlayerMP packetPlayer = netHandler.player;
 
-                long packetDiff = System.currentTimeMillis() - lastInventoryOpenPacketTimeStamp;
-                // If the time between packets is small enough, mark the current packet to be ignored for our event handler.
-                if (packetDiff < 100) {
-                    ignoreCreative = true;
-                }
+        // If true, logic was handled in Pre so return
+        if (firePreEvents(packetIn, packetPlayer)) {
+            return;
+        }
+        boolean ignoreCreative = false;
+
+        // This is another horrible hack required since the client sends a C10 packet for every slot
+        // containing an itemstack after a C16 packet in the following scenarios :
+        // 1. Opening creative inventory after initial server join.
+        // 2. Opening creative inventory again after making a change in previous inventory open.
+        //
+        // This is done in order to sync client inventory to server and would be fine if the C10 packet
+        // included an Enum of some sort that defined what type of sync was happening.
+        if (packetPlayer.interactionManager.isCreative() && (packetIn instanceof CPacketClientStatus && ((CPacketClientStatus) packetIn).getStatus() == CPacketClientStatus.State.OPEN_INVENTORY_ACHIEVEMENT)) {
+            lastInventoryOpenPacketTimeStamp = System.currentTimeMillis();
+        } else if (creativeCheck(packetIn, packetPlayer)) {
+
+            long packetDiff = System.currentTimeMillis() - lastInventoryOpenPacketTimeStamp;
+            // If the time between packets is small enough, mark the current packet to be ignored for our event handler.
+            if (packetDiff < 100) {
+                ignoreCreative = true;
             }
+        }
 
-            // Don't process movement capture logic if player hasn't moved
-            boolean ignoreMovementCapture = false;
-            if (packetIn instanceof CPacketPlayer) {
-                CPacketPlayer movingPacket = ((CPacketPlayer) packetIn);
-                if (movingPacket instanceof CPacketPlayer.Rotation) {
-                    ignoreMovementCapture = true;
-                } else if (packetPlayer.posX == movingPacket.x && packetPlayer.posY == movingPacket.y && packetPlayer.posZ == movingPacket.z) {
-                    ignoreMovementCapture = true;
-                }
+        // Don't process movement capture logic if player hasn't moved
+        boolean ignoreMovementCapture = false;
+        if (packetIn instanceof CPacketPlayer) {
+            CPacketPlayer movingPacket = ((CPacketPlayer) packetIn);
+            if (movingPacket instanceof CPacketPlayer.Rotation) {
+                ignoreMovementCapture = true;
+            } else if (packetPlayer.posX == movingPacket.x && packetPlayer.posY == movingPacket.y && packetPlayer.posZ == movingPacket.z) {
+                ignoreMovementCapture = true;
             }
-            if (!CauseTracker.ENABLED || ignoreMovementCapture || (packetIn instanceof CPacketClientSettings)) {
-                packetIn.processPacket(netHandler);
-            } else {
-                final ItemStackSnapshot cursor = ItemStackUtil.snapshotOf(packetPlayer.inventory.getItemStack());
-                final CauseTracker causeTracker = CauseTracker.getInstance();
-                IPacketState packetState = TrackingPhases.PACKET.getStateForPacket(packetIn);
-                if (packetIn instanceof CPacketPlayerTryUseItem) {
-                    if (packetPlayer.getHeldItemMainhand().getItem() instanceof ItemBucket) {
-                        // Don't capture liquids
-                        packetState = PacketPhase.General.NO_CAPTURE_USE_ITEM;
-                    }
+        }
+        if (!CauseTracker.ENABLED || ignoreMovementCapture || TrackingPhases.PACKET.isPacketUntracked(packetIn)) {
+            packetIn.processPacket(netHandler);
+        } else {
+            final CauseTracker causeTracker = CauseTracker.getInstance();
+            IPacketState packetState = TrackingPhases.PACKET.getStateForPacket(packetIn);
+            if (packetIn instanceof CPacketPlayerTryUseItem) {
+                if (packetPlayer.getHeldItemMainhand().getItem() instanceof ItemBucket) {
+                    // Don't capture liquids
+                    packetState = PacketPhase.General.NO_CAPTURE_USE_ITEM;
                 }
-                if (packetState == null) {
-                    throw new IllegalArgumentException("Found a null packet phase for packet: " + packetIn.getClass());
+            }
+            if (packetState == null) {
+                throw new IllegalArgumentException("Found a null packet phase for packet: " + packetIn.getClass());
+            }
+            PhaseContext context = EMPTY_INVALID;
+            if (!TrackingPhases.PACKET.isPacketInvalid(packetIn, packetPlayer, packetState)) {
+                context = PhaseContext.start()
+                        .add(NamedCause.source(packetPlayer))
+                        .add(NamedCause.of(InternalNamedCauses.Packet.PACKET_PLAYER, packetPlayer))
+                        .add(NamedCause.of(InternalNamedCauses.Packet.CAPTURED_PACKET, packetIn))
+                        .add(NamedCause.of(InternalNamedCauses.Packet.IGNORING_CREATIVE, ignoreCreative));
+                if (packetState.doesCaptureCursor()) {
+                    // Only inventory states compare the cursor before and after the packet
+                    final ItemStackSnapshot cursor = ItemStackUtil.snapshotOf(packetPlayer.inventory.getItemStack());
+                    context.add(NamedCause.of(InternalNamedCauses.Packet.CURSOR, cursor));
                 }
-                PhaseContext context = EMPTY_INVALID;
-                if (!TrackingPhases.PACKET.isPacketInvalid(packetIn, packetPlayer, packetState)) {
-                    context = PhaseContext.start()
-                            .add(NamedCause.source(packetPlayer))
-                            .add(NamedCause.of(InternalNamedCauses.Packet.PACKET_PLAYER, packetPlayer))
-                            .add(NamedCause.of(InternalNamedCauses.Packet.CAPTURED_PACKET, packetIn))
-                            .add(NamedCause.of(InternalNamedCauses.Packet.CURSOR, cursor))
-                            .add(NamedCause.of(InternalNamedCauses.Packet.IGNORING_CREATIVE, ignoreCreative));
 
-                    TrackingPhases.PACKET.populateContext(packetIn, packetPlayer, packetState, context);
-                    context.owner((Player) packetPlayer);
-                    context.notifier((Player) packetPlayer);
-                    context.complete();
-                } else {
-                    packetState = PacketPhase.General.INVALID;
-                }
-                causeTracker.switchToPhase(packetState, context, () -> {
-                    packetIn.processPacket(netHandler);
-                    return null;
-                });
+                TrackingPhases.PACKET.populateContext(packetIn, packetPlayer, packetState, context);
+                context.owner((Player) packetPlayer);
+                context.notifier((Player) packetPlayer);
+                context.complete();
+            } else {
+                packetState = PacketPhase.General.INVALID;
+            }
+            causeTracker.switchToPhase(packetState, context, () -> {
+                packetIn.processPacket(netHandler);
+                return null;
+            });
 
-                if (packetIn instanceof CPacketClientStatus) {
-                    // update the reference of player
-                    packetPlayer = ((NetHandlerPlayServer) netHandler).player;
-                }
-                ((IMixinEntityPlayerMP) packetPlayer).setPacketItem(null);
+            if (packetIn instanceof CPacketClientStatus) {
+                // update the reference of player
+                packetPlayer = netHandler.player;
             }
-        } else { // client
-            packetIn.processPacket(netHandler);
+            ((IMixinEntityPlayerMP) packetPlayer).setPacketItem(null);
         }
     }
 
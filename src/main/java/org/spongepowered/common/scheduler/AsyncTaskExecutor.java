@@ -0,0 +1,254 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.collect.Maps;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.SchedulerCategory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * The executor running asynchronous tasks. Delegates to the backend selected
+ * in the {@link SchedulerCategory}, limits the amount of tasks of a single
+ * plugin running at the same time and keeps track of queued, active and
+ * rejected tasks.
+ */
+final class AsyncTaskExecutor extends AbstractExecutorService {
+
+    static final String CACHED = "cached";
+    static final String FORK_JOIN = "fork-join";
+    static final String VIRTUAL_THREADS = "virtual-threads";
+
+    private final ExecutorService executor;
+    private final String type;
+    private final int pluginConcurrencyLimit;
+    private final Map<PluginContainer, PluginTasks> pluginTasks = Maps.newConcurrentMap();
+    private final TaskMetrics metrics = new TaskMetrics();
+
+    AsyncTaskExecutor(SchedulerCategory category) {
+        String type = category.getAsyncExecutor();
+        ExecutorService executor = null;
+        if (VIRTUAL_THREADS.equals(type)) {
+            executor = createVirtualThreadExecutor();
+            if (executor == null) {
+                SpongeImpl.getLogger().warn("Virtual threads are not supported by this Java runtime, falling back to the '{}' executor.", FORK_JOIN);
+                type = FORK_JOIN;
+            }
+        }
+        if (FORK_JOIN.equals(type)) {
+            final int parallelism = category.getAsyncMaxThreads() > 0 ? category.getAsyncMaxThreads() : Runtime.getRuntime().availableProcessors();
+            executor = new ForkJoinPool(parallelism, pool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("Sponge Async Scheduler Worker #" + thread.getPoolIndex());
+                return thread;
+            }, (thread, throwable) -> SpongeImpl.getLogger().error("An asynchronous task crashed a scheduler worker thread", throwable), true);
+        } else if (executor == null) {
+            if (!CACHED.equals(type)) {
+                SpongeImpl.getLogger().warn("Unknown async scheduler executor '{}', falling back to the '{}' executor.", type, CACHED);
+                type = CACHED;
+            }
+            executor = Executors.newCachedThreadPool();
+        }
+        this.executor = executor;
+        this.type = type;
+        this.pluginConcurrencyLimit = category.getAsyncPluginConcurrencyLimit() > 0 ? category.getAsyncPluginConcurrencyLimit() : Integer.MAX_VALUE;
+    }
+
+    @Nullable
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                    .invoke();
+        } catch (NoSuchMethodException | IllegalAccessException | UnsupportedOperationException e) {
+            return null;
+        } catch (Throwable t) {
+            SpongeImpl.getLogger().error("Failed to create a virtual thread executor", t);
+            return null;
+        }
+    }
+
+    /**
+     * Gets the type of the backing executor.
+     *
+     * @return The executor type
+     */
+    String getType() {
+        return this.type;
+    }
+
+    /**
+     * Gets the metrics of all tasks run by this executor.
+     *
+     * @return The metrics
+     */
+    TaskMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Gets the metrics of the tasks of the given plugin.
+     *
+     * @param plugin The plugin
+     * @return The metrics
+     */
+    TaskMetrics getMetrics(PluginContainer plugin) {
+        final PluginTasks tasks = this.pluginTasks.get(plugin);
+        return tasks == null ? TaskMetrics.EMPTY : tasks.metrics;
+    }
+
+    /**
+     * Executes a task of the given plugin, the task is queued if the plugin
+     * reached its concurrency limit.
+     *
+     * @param plugin The owner of the task
+     * @param runnable The task
+     */
+    void execute(PluginContainer plugin, Runnable runnable) {
+        final PluginTasks tasks = this.pluginTasks.computeIfAbsent(plugin, key -> new PluginTasks());
+        this.metrics.queued.incrementAndGet();
+        tasks.metrics.queued.incrementAndGet();
+        tasks.pending.add(runnable);
+        tasks.drain();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        this.metrics.queued.incrementAndGet();
+        try {
+            this.executor.execute(() -> run(command, null));
+        } catch (RejectedExecutionException e) {
+            this.metrics.queued.decrementAndGet();
+            this.metrics.rejected.incrementAndGet();
+            throw e;
+        }
+    }
+
+    private void run(Runnable runnable, @Nullable PluginTasks tasks) {
+        this.metrics.queued.decrementAndGet();
+        this.metrics.active.incrementAndGet();
+        if (tasks != null) {
+            tasks.metrics.queued.decrementAndGet();
+            tasks.metrics.active.incrementAndGet();
+        }
+        try {
+            runnable.run();
+        } finally {
+            this.metrics.active.decrementAndGet();
+            if (tasks != null) {
+                tasks.metrics.active.decrementAndGet();
+                tasks.release();
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return this.executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return this.executor.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return this.executor.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.executor.awaitTermination(timeout, unit);
+    }
+
+    private final class PluginTasks {
+
+        private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger running = new AtomicInteger();
+        private final TaskMetrics metrics = new TaskMetrics();
+
+        /**
+         * Hands pending tasks to the executor as long as the plugin is below
+         * its concurrency limit.
+         */
+        void drain() {
+            while (!this.pending.isEmpty()) {
+                final int running = this.running.get();
+                if (running >= AsyncTaskExecutor.this.pluginConcurrencyLimit) {
+                    // A running task will drain the queue once it completes
+                    return;
+                }
+                if (!this.running.compareAndSet(running, running + 1)) {
+                    continue;
+                }
+                final Runnable runnable = this.pending.poll();
+                if (runnable == null) {
+                    this.running.decrementAndGet();
+                    continue;
+                }
+                try {
+                    AsyncTaskExecutor.this.executor.execute(() -> run(runnable, this));
+                } catch (RejectedExecutionException e) {
+                    this.running.decrementAndGet();
+                    AsyncTaskExecutor.this.metrics.queued.decrementAndGet();
+                    AsyncTaskExecutor.this.metrics.rejected.incrementAndGet();
+                    this.metrics.queued.decrementAndGet();
+                    this.metrics.rejected.incrementAndGet();
+                    SpongeImpl.getLogger().error("The async scheduler rejected a task", e);
+                }
+            }
+        }
+
+        void release() {
+            this.running.decrementAndGet();
+            drain();
+        }
+
+    }
+
+}
@@ -36,6 +36,8 @@
 import java.util.function.Consumer;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 /**
  * An internal representation of a {@link Task} created by a plugin.
  */
@@ -54,6 +56,14 @@ public class ScheduledTask implements Task {
     private final TaskSynchronicity syncType;
     private final String stringRepresentation;
     private Timing taskTimer;
+    @Nullable private SchedulerBase scheduler;
+    // The bucket of the timing wheel this task is waiting for
+    long deadline;
+    // Where the task was last put in the timing wheel, the level is -1 if it was expired right away
+    int wheelLevel = -1;
+    int wheelIndex;
+    // The wheel the task was last put in, which the state of the task can't tell once it was cancelled
+    @Nullable TimingWheel wheel;
 
     // Internal Task state. Not for user-service use.
     public enum ScheduledTaskState {
@@ -135,6 +145,9 @@ public boolean cancel() {
             success = true;
         }
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        if (this.scheduler != null) {
+            this.scheduler.onTaskCancelled(this);
+        }
         return success;
     }
 
@@ -181,6 +194,10 @@ void setTimestamp(long timestamp) {
         this.timestamp = timestamp;
     }
 
+    void setScheduler(SchedulerBase scheduler) {
+        this.scheduler = scheduler;
+    }
+
     ScheduledTaskState getState() {
         return this.state;
     }
@@ -36,13 +36,25 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 abstract class SchedulerBase {
 
+    private static final long TIME_WHEEL_RESOLUTION = TimeUnit.MILLISECONDS.toNanos(1);
+
     // The simple queue of all pending (and running) ScheduledTasks
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // Tasks added or cancelled since the last tick. The timing wheels are
+    // only ever accessed by the thread running the tick.
+    private final Queue<ScheduledTask> addedTasks = new ConcurrentLinkedQueue<>();
+    private final Queue<ScheduledTask> cancelledTasks = new ConcurrentLinkedQueue<>();
+    // The wheel of tasks waiting on real time
+    private final TimingWheel timeWheel = new TimingWheel(TIME_WHEEL_RESOLUTION, System.nanoTime());
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
@@ -77,7 +89,19 @@ protected long getTimestamp(ScheduledTask task) {
      */
     protected void addTask(ScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
+        task.setScheduler(this);
         this.taskMap.put(task.getUniqueId(), task);
+        this.addedTasks.add(task);
+    }
+
+    /**
+     * Marks the task to be removed from the task map on the next call to
+     * {@link #runTick}.
+     *
+     * @param task The cancelled task
+     */
+    void onTaskCancelled(ScheduledTask task) {
+        this.cancelledTasks.add(task);
     }
 
     /**
@@ -100,13 +124,69 @@ protected Set<Task> getScheduledTasks() {
     }
 
     /**
-     * Process all tasks in the map.
+     * Gets the timing wheel the task has to wait in, based on the timestamp
+     * type used by {@link #getTimestamp(ScheduledTask)} for the task.
+     *
+     * @param task The task
+     * @return The timing wheel
+     */
+    protected TimingWheel getWheel(ScheduledTask task) {
+        return this.timeWheel;
+    }
+
+    /**
+     * Advances all timing wheels of this scheduler.
+     *
+     * @param consumer The consumer of tasks which became due
+     */
+    protected void advanceWheels(Consumer<ScheduledTask> consumer) {
+        this.timeWheel.advance(System.nanoTime(), consumer);
+    }
+
+    /**
+     * Gets the earliest real time timestamp at which a task may have to be
+     * processed.
+     *
+     * @return The timestamp, or {@link Long#MAX_VALUE} if there is none
+     */
+    protected long getNextTimestamp() {
+        if (!this.addedTasks.isEmpty() || !this.cancelledTasks.isEmpty()) {
+            return Long.MIN_VALUE;
+        }
+        return this.timeWheel.getNextTimestamp();
+    }
+
+    private void queueTask(ScheduledTask task) {
+        long timestamp = task.nextExecutionTimestamp();
+        if (timestamp < task.getTimestamp()) {
+            // Overflowed, the task will practically never run
+            timestamp = Long.MAX_VALUE;
+        }
+        this.getWheel(task).schedule(task, timestamp);
+    }
+
+    /**
+     * Process all tasks which are due.
      */
     protected final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            ScheduledTask task;
+            while ((task = this.cancelledTasks.poll()) != null) {
+                // The wheel can't be picked by the state of the task anymore, now that it's cancelled
+                TimingWheel.unlink(task);
+                this.removeTask(task);
+            }
+            while ((task = this.addedTasks.poll()) != null) {
+                // Cancelled before it was ever queued
+                if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+                    this.removeTask(task);
+                    continue;
+                }
+                this.queueTask(task);
+            }
+            this.advanceWheels(this::processTask);
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -134,7 +214,8 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task which became due, the task is queued again if it has
+     * to wait any longer.
      *
      * @param task The task to process
      */
@@ -167,7 +248,14 @@ protected void processTask(ScheduledTask task) {
             // If task is one time shot, remove it from the map.
             if (task.period == 0L) {
                 this.removeTask(task);
+            } else {
+                this.queueTask(task);
             }
+        } else if (task.getState() == ScheduledTask.ScheduledTaskState.SWITCHING) {
+            // The previous execution hasn't started yet, check again soon
+            this.getWheel(task).scheduleNext(task);
+        } else {
+            this.queueTask(task);
         }
     }
 
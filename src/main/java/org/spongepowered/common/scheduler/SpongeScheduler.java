@@ -188,4 +188,22 @@ public void tickSyncScheduler() {
     public <T> CompletableFuture<T> submitAsyncTask(Callable<T> callable) {
         return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor());
     }
+
+    /**
+     * Gets the type of the executor running asynchronous tasks.
+     *
+     * @return The executor type
+     */
+    public String getAsyncExecutorType() {
+        return this.asyncScheduler.getExecutor().getType();
+    }
+
+    /**
+     * Gets the metrics of all asynchronous tasks.
+     *
+     * @return The metrics
+     */
+    public TaskMetrics getAsyncTaskMetrics() {
+        return this.asyncScheduler.getExecutor().getMetrics();
+    }
 }
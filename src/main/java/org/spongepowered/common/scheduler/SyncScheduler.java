@@ -34,10 +34,14 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.world.WorldManager;
 
+import java.util.function.Consumer;
+
 public class SyncScheduler extends SchedulerBase {
 
     // The number of ticks elapsed since this scheduler began.
     private volatile long counter = 0L;
+    // The wheel of tasks waiting on ticks
+    private final TimingWheel tickWheel = new TimingWheel(1, 0L);
 
     SyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.SYNCHRONOUS);
@@ -71,6 +75,18 @@ protected long getTimestamp(ScheduledTask task) {
         return 0L;
     }
 
+    @Override
+    protected TimingWheel getWheel(ScheduledTask task) {
+        final boolean isTicks = task.getState() == ScheduledTask.ScheduledTaskState.WAITING ? task.delayIsTicks : task.intervalIsTicks;
+        return isTicks ? this.tickWheel : super.getWheel(task);
+    }
+
+    @Override
+    protected void advanceWheels(Consumer<ScheduledTask> consumer) {
+        this.tickWheel.advance(this.counter, consumer);
+        super.advanceWheels(consumer);
+    }
+
     @Override
     protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
         CauseTracker.getInstance().switchToPhase(PluginPhase.State.SCHEDULED_TASK, PhaseContext.start()
@@ -134,6 +134,44 @@ public SpongeFuture<?> scheduleWithFixedDelay(Runnable command, long initialDela
         return this.scheduleAtFixedRate(command, initialDelay, delay, unit);
     }
 
+    /**
+     * Gets the amount of asynchronous tasks of the plugin waiting to be run.
+     * This includes tasks not submitted through this executor.
+     *
+     * @return The queue depth
+     */
+    public int getQueuedTaskCount() {
+        return this.getMetrics().getQueuedCount();
+    }
+
+    /**
+     * Gets the amount of asynchronous tasks of the plugin currently running.
+     * This includes tasks not submitted through this executor.
+     *
+     * @return The active count
+     */
+    public int getActiveTaskCount() {
+        return this.getMetrics().getActiveCount();
+    }
+
+    /**
+     * Gets the amount of asynchronous tasks of the plugin which were rejected.
+     * This includes tasks not submitted through this executor.
+     *
+     * @return The rejected count
+     */
+    public long getRejectedTaskCount() {
+        return this.getMetrics().getRejectedCount();
+    }
+
+    private TaskMetrics getMetrics() {
+        if (this.scheduler instanceof AsyncScheduler) {
+            return ((AsyncScheduler) this.scheduler).getExecutor().getMetrics(this.plugin);
+        }
+        // Synchronous tasks are run directly on the main thread
+        return TaskMetrics.EMPTY;
+    }
+
     private Task.Builder createTask(Runnable command) {
         return this.taskBuilderProvider.get().execute(command);
     }
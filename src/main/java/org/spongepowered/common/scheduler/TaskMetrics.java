@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the asynchronous tasks run by the {@link AsyncScheduler}.
+ */
+public final class TaskMetrics {
+
+    static final TaskMetrics EMPTY = new TaskMetrics();
+
+    final AtomicInteger queued = new AtomicInteger();
+    final AtomicInteger active = new AtomicInteger();
+    final AtomicLong rejected = new AtomicLong();
+
+    TaskMetrics() {
+    }
+
+    /**
+     * Gets the amount of tasks which are waiting to be run.
+     *
+     * @return The queue depth
+     */
+    public int getQueuedCount() {
+        return this.queued.get();
+    }
+
+    /**
+     * Gets the amount of tasks which are currently running.
+     *
+     * @return The active count
+     */
+    public int getActiveCount() {
+        return this.active.get();
+    }
+
+    /**
+     * Gets the amount of tasks which were rejected by the executor.
+     *
+     * @return The rejected count
+     */
+    public long getRejectedCount() {
+        return this.rejected.get();
+    }
+
+}
@@ -0,0 +1,277 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel of {@link ScheduledTask}s.
+ *
+ * <p>Timestamps handed to the wheel are bucketed by the resolution of the
+ * wheel, a task is never expired before its timestamp has been reached but
+ * may be expired up to one resolution unit late. Advancing the wheel only
+ * touches the buckets that are due instead of every scheduled task.</p>
+ *
+ * <p>The wheel is not thread safe, it is only accessed by the thread that
+ * ticks the owning scheduler.</p>
+ */
+final class TimingWheel {
+
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    private final long resolution;
+    @SuppressWarnings("unchecked")
+    private final List<ScheduledTask>[][] buckets = new List[LEVELS][WHEEL_SIZE];
+    private final int[] levelSizes = new int[LEVELS];
+    // Tasks which are too far in the future to fit in the wheel
+    private final List<ScheduledTask> overflow = new ArrayList<>();
+    private List<ScheduledTask> expired = new ArrayList<>();
+    private List<ScheduledTask> processing = new ArrayList<>();
+    private final List<ScheduledTask> cascading = new ArrayList<>();
+    // All buckets up to and including this one are expired
+    private long current;
+
+    /**
+     * Creates a new timing wheel.
+     *
+     * @param resolution The amount of timestamp units per bucket
+     * @param timestamp The current timestamp
+     */
+    TimingWheel(long resolution, long timestamp) {
+        this.resolution = resolution;
+        this.current = Math.floorDiv(timestamp, resolution);
+    }
+
+    /**
+     * Schedules the task to be expired once the wheel has been advanced to
+     * the given timestamp.
+     *
+     * @param task The task
+     * @param timestamp The timestamp at which the task is due
+     */
+    void schedule(ScheduledTask task, long timestamp) {
+        final long deadline;
+        if (timestamp > Long.MAX_VALUE - this.resolution) {
+            deadline = Long.MAX_VALUE / this.resolution;
+        } else {
+            deadline = Math.floorDiv(timestamp + this.resolution - 1, this.resolution);
+        }
+        insert(task, deadline);
+    }
+
+    /**
+     * Schedules the task to be expired the next time the wheel advances past
+     * its current bucket.
+     *
+     * @param task The task
+     */
+    void scheduleNext(ScheduledTask task) {
+        insert(task, this.current + 1);
+    }
+
+    private void insert(ScheduledTask task, long deadline) {
+        task.deadline = deadline;
+        task.wheelLevel = -1;
+        task.wheel = this;
+        if (deadline <= this.current) {
+            this.expired.add(task);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            // The task belongs to the lowest level which shares all higher
+            // bits with the current bucket
+            final int shift = WHEEL_BITS * (level + 1);
+            if ((deadline >> shift) == (this.current >> shift)) {
+                final int index = (int) (deadline >> (WHEEL_BITS * level)) & WHEEL_MASK;
+                List<ScheduledTask> bucket = this.buckets[level][index];
+                if (bucket == null) {
+                    bucket = this.buckets[level][index] = new ArrayList<>();
+                }
+                bucket.add(task);
+                this.levelSizes[level]++;
+                task.wheelLevel = level;
+                task.wheelIndex = index;
+                return;
+            }
+        }
+        this.overflow.add(task);
+        task.wheelLevel = LEVELS;
+    }
+
+    /**
+     * Removes a task which is waiting in the wheel, so it isn't kept around
+     * until its deadline. Tasks which already expired are not affected.
+     *
+     * @param task The task
+     */
+    void remove(ScheduledTask task) {
+        final int level = task.wheelLevel;
+        if (level < 0 || task.wheel != this) {
+            return;
+        }
+        final List<ScheduledTask> bucket = level == LEVELS ? this.overflow : this.buckets[level][task.wheelIndex];
+        if (bucket == null) {
+            return;
+        }
+        // The task may have been drained from the bucket since it was inserted
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i) == task) {
+                bucket.remove(i);
+                if (level < LEVELS) {
+                    this.levelSizes[level]--;
+                }
+                task.wheelLevel = -1;
+                task.wheel = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the task from the wheel it was last scheduled in, if any.
+     *
+     * @param task The task
+     */
+    static void unlink(ScheduledTask task) {
+        final TimingWheel wheel = task.wheel;
+        if (wheel != null) {
+            wheel.remove(task);
+        }
+    }
+
+    /**
+     * Advances the wheel to the given timestamp and passes every task that
+     * became due to the consumer. Tasks which are scheduled again by the
+     * consumer are never expired within the same call.
+     *
+     * @param timestamp The current timestamp
+     * @param consumer The consumer of due tasks
+     */
+    void advance(long timestamp, Consumer<ScheduledTask> consumer) {
+        final long target = Math.floorDiv(timestamp, this.resolution);
+        while (this.current < target) {
+            final int lowestLevel = getLowestUsedLevel();
+            if (lowestLevel < 0) {
+                this.current = target;
+                break;
+            }
+            if (lowestLevel > 0) {
+                // Skip straight to the end of the current block of the lowest
+                // level in use, all lower levels are empty
+                final long skipTo = this.current | ((1L << (WHEEL_BITS * lowestLevel)) - 1);
+                if (skipTo >= target) {
+                    this.current = target;
+                    break;
+                }
+                this.current = skipTo;
+            }
+            this.current++;
+            cascade();
+            drain(0, (int) this.current & WHEEL_MASK, this.expired);
+        }
+
+        final List<ScheduledTask> tasks = this.expired;
+        this.expired = this.processing;
+        this.processing = tasks;
+        try {
+            for (ScheduledTask task : tasks) {
+                consumer.accept(task);
+            }
+        } finally {
+            tasks.clear();
+        }
+    }
+
+    /**
+     * Gets the earliest timestamp at which the wheel has to be advanced to
+     * either expire or cascade tasks.
+     *
+     * @return The timestamp, or {@link Long#MAX_VALUE} if the wheel is empty
+     */
+    long getNextTimestamp() {
+        if (!this.expired.isEmpty()) {
+            return this.current * this.resolution;
+        }
+        final int lowestLevel = getLowestUsedLevel();
+        if (lowestLevel < 0) {
+            return Long.MAX_VALUE;
+        }
+        if (lowestLevel == 0) {
+            final long base = this.current & ~WHEEL_MASK;
+            for (int index = ((int) this.current & WHEEL_MASK) + 1; index < WHEEL_SIZE; index++) {
+                final List<ScheduledTask> bucket = this.buckets[0][index];
+                if (bucket != null && !bucket.isEmpty()) {
+                    return (base | index) * this.resolution;
+                }
+            }
+        }
+        return ((this.current | ((1L << (WHEEL_BITS * lowestLevel)) - 1)) + 1) * this.resolution;
+    }
+
+    private int getLowestUsedLevel() {
+        for (int level = 0; level < LEVELS; level++) {
+            if (this.levelSizes[level] > 0) {
+                return level;
+            }
+        }
+        return this.overflow.isEmpty() ? -1 : LEVELS;
+    }
+
+    private void cascade() {
+        if ((this.current & WHEEL_MASK) != 0) {
+            return;
+        }
+        final List<ScheduledTask> tasks = this.cascading;
+        if ((this.current & ((1L << (WHEEL_BITS * LEVELS)) - 1)) == 0 && !this.overflow.isEmpty()) {
+            tasks.addAll(this.overflow);
+            this.overflow.clear();
+        }
+        for (int level = LEVELS - 1; level > 0; level--) {
+            final int shift = WHEEL_BITS * level;
+            if ((this.current & ((1L << shift) - 1)) == 0) {
+                drain(level, (int) (this.current >> shift) & WHEEL_MASK, tasks);
+            }
+        }
+        for (ScheduledTask task : tasks) {
+            insert(task, task.deadline);
+        }
+        tasks.clear();
+    }
+
+    private void drain(int level, int index, List<ScheduledTask> target) {
+        final List<ScheduledTask> bucket = this.buckets[level][index];
+        if (bucket != null && !bucket.isEmpty()) {
+            target.addAll(bucket);
+            this.levelSizes[level] -= bucket.size();
+            bucket.clear();
+        }
+    }
+
+}
@@ -37,6 +37,7 @@
 import org.spongepowered.api.util.ban.Ban;
 import org.spongepowered.api.util.ban.BanTypes;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.service.user.ProfileCatalogue;
 import org.spongepowered.common.util.UserListUtils;
 
 import java.net.InetAddress;
@@ -117,6 +118,7 @@ public boolean pardon(GameProfile profile) {
         this.getUserBanList().removeExpired();
         boolean hadBan = this.isBanned(profile);
         UserListUtils.removeEntry(this.getUserBanList(), profile);
+        ProfileCatalogue.removeIfUnreferenced(profile.getUniqueId());
         return hadBan;
     }
 
@@ -152,6 +154,7 @@ public Optional<? extends Ban> addBan(Ban ban) {
             Sponge.getEventManager().post(SpongeEventFactory.createBanUserEvent(Cause.source(this).build(), (Ban.Profile) ban, user));
 
             UserListUtils.addEntry(this.getUserBanList(), (UserListEntry) ban);
+            ProfileCatalogue.add((com.mojang.authlib.GameProfile) ((Ban.Profile) ban).getProfile());
         } else if (ban.getType().equals(BanTypes.IP)) {
             prevBan = this.getBanFor(((Ban.Ip) ban).getAddress());
 
@@ -103,8 +103,8 @@ public MemorySubjectData getSubjectData() {
         }
 
         @Override
-        public Tristate getPermissionValue(Set<Context> contexts, String permission) {
-            Tristate ret = super.getPermissionValue(contexts, permission);
+        protected Tristate resolvePermissionValue(Set<Context> contexts, String permission) {
+            Tristate ret = super.resolvePermissionValue(contexts, permission);
 
             if (ret == Tristate.UNDEFINED) {
                 ret = getDataPermissionValue(DataFactoryCollection.this.getDefaults().getTransientSubjectData(), permission);
@@ -117,8 +117,8 @@ public Tristate getPermissionValue(Set<Context> contexts, String permission) {
         }
 
         @Override
-        public Optional<String> getOption(Set<Context> contexts, String option) {
-            Optional<String> ret = super.getOption(contexts, option);
+        protected Optional<String> resolveOption(Set<Context> contexts, String option) {
+            Optional<String> ret = super.resolveOption(contexts, option);
             if (!ret.isPresent()) {
                 ret = getDataOptionValue(DataFactoryCollection.this.getDefaults().getSubjectData(), option);
             }
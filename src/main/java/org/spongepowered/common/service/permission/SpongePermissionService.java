@@ -50,6 +50,7 @@
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 /**
@@ -60,6 +61,7 @@
 public class SpongePermissionService implements PermissionService {
     private static final String SUBJECTS_DEFAULT = "default";
     private static final Function<String, CommandSource> NO_COMMAND_SOURCE = s -> null;
+    private static final AtomicLong DATA_VERSION = new AtomicLong();
 
     private final Game game;
     private final Map<String, PermissionDescription> descriptionMap = new LinkedHashMap<>();
@@ -99,6 +101,23 @@ static int getServerOpLevel() {
         return SpongeImpl.getServer().getOpPermissionLevel();
     }
 
+    /**
+     * Gets the current version of the permission data, which changes whenever
+     * any subject data or the server ops list changes.
+     *
+     * @return The data version
+     */
+    public static long getDataVersion() {
+        return DATA_VERSION.get();
+    }
+
+    /**
+     * Discards the permission and option values resolved by all subjects.
+     */
+    public static void invalidateResolvedValues() {
+        DATA_VERSION.incrementAndGet();
+    }
+
     public Subject getGroupForOpLevel(int level) {
         return getGroupSubjects().get("op_" + level);
     }
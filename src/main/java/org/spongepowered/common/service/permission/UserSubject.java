@@ -119,8 +119,8 @@ public MemorySubjectData getSubjectData() {
     }
 
     @Override
-    public Tristate getPermissionValue(Set<Context> contexts, String permission) {
-        Tristate ret = super.getPermissionValue(contexts, permission);
+    protected Tristate resolvePermissionValue(Set<Context> contexts, String permission) {
+        Tristate ret = super.resolvePermissionValue(contexts, permission);
         if (ret == Tristate.UNDEFINED) {
             ret = getDataPermissionValue(this.collection.getDefaults().getSubjectData(), permission);
         }
@@ -134,8 +134,8 @@ public Tristate getPermissionValue(Set<Context> contexts, String permission) {
     }
 
     @Override
-    public Optional<String> getOption(Set<Context> contexts, String option) {
-        Optional<String> ret = super.getOption(contexts, option);
+    protected Optional<String> resolveOption(Set<Context> contexts, String option) {
+        Optional<String> ret = super.resolveOption(contexts, option);
         if (!ret.isPresent()) {
             ret = getDataOptionValue(this.collection.getDefaults().getSubjectData(), option);
         }
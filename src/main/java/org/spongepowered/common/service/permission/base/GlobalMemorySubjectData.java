@@ -30,11 +30,14 @@
 import org.spongepowered.api.service.permission.PermissionService;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.service.permission.SpongePermissionService;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 public class GlobalMemorySubjectData extends MemorySubjectData {
 
     /**
@@ -57,7 +60,12 @@ public boolean setPermission(Set<Context> contexts, String permission, Tristate
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.setPermission(contexts, permission, value);
+        return changed(super.setPermission(contexts, permission, value));
+    }
+
+    @Override
+    public boolean clearPermissions() {
+        return changed(super.clearPermissions());
     }
 
     @Override
@@ -65,7 +73,7 @@ public boolean clearPermissions(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearPermissions(contexts);
+        return changed(super.clearPermissions(contexts));
     }
 
     @Override
@@ -73,7 +81,7 @@ public boolean addParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.addParent(contexts, parent);
+        return changed(super.addParent(contexts, parent));
     }
 
     @Override
@@ -81,7 +89,12 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.removeParent(contexts, parent);
+        return changed(super.removeParent(contexts, parent));
+    }
+
+    @Override
+    public boolean clearParents() {
+        return changed(super.clearParents());
     }
 
     @Override
@@ -89,6 +102,34 @@ public boolean clearParents(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearParents(contexts);
+        return changed(super.clearParents(contexts));
+    }
+
+    @Override
+    public boolean setOption(Set<Context> contexts, String key, @Nullable String value) {
+        return changed(super.setOption(contexts, key, value));
+    }
+
+    @Override
+    public boolean clearOptions() {
+        return changed(super.clearOptions());
+    }
+
+    @Override
+    public boolean clearOptions(Set<Context> contexts) {
+        return changed(super.clearOptions(contexts));
+    }
+
+    /**
+     * Invalidates the values resolved by all subjects if the data changed.
+     *
+     * @param changed Whether the data changed
+     * @return Whether the data changed
+     */
+    protected final boolean changed(boolean changed) {
+        if (changed) {
+            SpongePermissionService.invalidateResolvedValues();
+        }
+        return changed;
     }
 }
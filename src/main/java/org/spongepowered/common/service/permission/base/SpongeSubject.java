@@ -24,18 +24,24 @@
  */
 package org.spongepowered.common.service.permission.base;
 
+import com.google.common.collect.ImmutableSet;
 import org.spongepowered.api.service.context.Context;
 import org.spongepowered.api.service.permission.MemorySubjectData;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.service.permission.SubjectData;
 import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.service.permission.SpongePermissionService;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public abstract class SpongeSubject implements Subject {
 
+    private volatile ResolvedValues resolved = new ResolvedValues(SpongePermissionService.getDataVersion());
+
     @Override
     public MemorySubjectData getTransientSubjectData() {
         return getSubjectData();
@@ -51,6 +57,24 @@ public boolean hasPermission(Set<Context> contexts, String permission) {
 
     @Override
     public Tristate getPermissionValue(Set<Context> contexts, String permission) {
+        final ConcurrentMap<String, Tristate> permissions = getResolvedValues().getPermissions(contexts);
+        Tristate value = permissions.get(permission);
+        if (value == null) {
+            value = resolvePermissionValue(contexts, permission);
+            permissions.put(permission, value);
+        }
+        return value;
+    }
+
+    /**
+     * Resolves the value of a permission through this subject's data and its
+     * parents, bypassing the resolved value cache.
+     *
+     * @param contexts The contexts to check with
+     * @param permission The permission to check
+     * @return The resolved value
+     */
+    protected Tristate resolvePermissionValue(Set<Context> contexts, String permission) {
         return getDataPermissionValue(getSubjectData(), permission);
     }
 
@@ -96,6 +120,24 @@ protected Optional<String> getDataOptionValue(MemorySubjectData subject, String
 
     @Override
     public Optional<String> getOption(Set<Context> contexts, String key) {
+        final ConcurrentMap<String, Optional<String>> options = getResolvedValues().getOptions(contexts);
+        Optional<String> value = options.get(key);
+        if (value == null) {
+            value = resolveOption(contexts, key);
+            options.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Resolves the value of an option through this subject's data and its
+     * parents, bypassing the resolved value cache.
+     *
+     * @param contexts The contexts to check with
+     * @param key The option to check
+     * @return The resolved value
+     */
+    protected Optional<String> resolveOption(Set<Context> contexts, String key) {
         return getDataOptionValue(getSubjectData(), key);
     }
 
@@ -103,4 +145,53 @@ public Optional<String> getOption(Set<Context> contexts, String key) {
     public Set<Context> getActiveContexts() {
         return SubjectData.GLOBAL_CONTEXT;
     }
+
+    private ResolvedValues getResolvedValues() {
+        // The version has to be read before anything is resolved, so a change
+        // made while resolving leaves the values in an already stale holder
+        final long version = SpongePermissionService.getDataVersion();
+        ResolvedValues resolved = this.resolved;
+        if (resolved.version != version) {
+            resolved = new ResolvedValues(version);
+            this.resolved = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * The permission and option values resolved for one version of the
+     * permission data, keyed by context set.
+     */
+    private static final class ResolvedValues {
+
+        final long version;
+        private final ConcurrentMap<Set<Context>, ConcurrentMap<String, Tristate>> permissions = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Set<Context>, ConcurrentMap<String, Optional<String>>> options = new ConcurrentHashMap<>();
+
+        ResolvedValues(long version) {
+            this.version = version;
+        }
+
+        ConcurrentMap<String, Tristate> getPermissions(Set<Context> contexts) {
+            return getOrCreate(this.permissions, contexts);
+        }
+
+        ConcurrentMap<String, Optional<String>> getOptions(Set<Context> contexts) {
+            return getOrCreate(this.options, contexts);
+        }
+
+        private static <V> ConcurrentMap<String, V> getOrCreate(ConcurrentMap<Set<Context>, ConcurrentMap<String, V>> values,
+                Set<Context> contexts) {
+            ConcurrentMap<String, V> map = values.get(contexts);
+            if (map == null) {
+                // Callers are free to mutate their context set afterwards
+                map = new ConcurrentHashMap<>();
+                final ConcurrentMap<String, V> existing = values.putIfAbsent(ImmutableSet.copyOf(contexts), map);
+                if (existing != null) {
+                    map = existing;
+                }
+            }
+            return map;
+        }
+    }
 }
@@ -0,0 +1,344 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.user;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Sets;
+import com.mojang.authlib.GameProfile;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.management.PlayerList;
+import net.minecraft.world.storage.SaveHandler;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.world.WorldManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * An index of every profile known to the server, kept up to date as players
+ * log in, are banned, unbanned, whitelisted or unwhitelisted and are deleted, so that user lookups
+ * don't have to list the player data directory each time.
+ *
+ * <p>The catalogue is built asynchronously when the server starts, seeded
+ * from a snapshot written next to the overworld's player data. Until it is
+ * ready, callers fall back to scanning the profile sources directly.</p>
+ */
+public final class ProfileCatalogue {
+
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final String SNAPSHOT_NAME = "sponge_profiles.dat";
+
+    private static final Map<UUID, GameProfile> profiles = new ConcurrentHashMap<>();
+    // Lowercase names, sorted so a prefix match is a sub map view
+    private static final NavigableMap<String, Set<UUID>> names = new ConcurrentSkipListMap<>();
+
+    private static volatile boolean ready = false;
+    private static volatile boolean dirty = false;
+    // Bumped on unload, so a build belonging to a stopped server is discarded
+    private static volatile int generation = 0;
+    @Nullable private static volatile File snapshotFile;
+
+    private ProfileCatalogue() {
+    }
+
+    /**
+     * Gets whether the catalogue has been built and can answer lookups.
+     *
+     * @return Whether the catalogue is ready
+     */
+    static boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Adds or updates a profile in the catalogue.
+     *
+     * @param profile The profile
+     */
+    public static synchronized void add(GameProfile profile) {
+        final UUID uniqueId = profile.getId();
+        if (uniqueId == null) {
+            return;
+        }
+        final GameProfile previous = profiles.get(uniqueId);
+        if (previous != null && (profile.getName() == null || profile.getName().equals(previous.getName()))) {
+            return;
+        }
+        profiles.put(uniqueId, profile);
+        if (previous != null) {
+            unindex(previous);
+        }
+        if (profile.getName() != null) {
+            names.computeIfAbsent(profile.getName().toLowerCase(Locale.ROOT), k -> Sets.newConcurrentHashSet()).add(uniqueId);
+        }
+        dirty = true;
+    }
+
+    /**
+     * Removes a profile from the catalogue.
+     *
+     * @param uniqueId The unique id of the profile
+     */
+    public static synchronized void remove(UUID uniqueId) {
+        final GameProfile previous = profiles.remove(uniqueId);
+        if (previous != null) {
+            unindex(previous);
+            dirty = true;
+        }
+    }
+
+    /**
+     * Removes a profile from the catalogue once nothing refers to it anymore,
+     * that is it has no player data, isn't whitelisted and isn't banned.
+     * Called on the main thread when a profile is unbanned or removed from
+     * the whitelist.
+     *
+     * @param uniqueId The unique id of the profile
+     */
+    public static void removeIfUnreferenced(UUID uniqueId) {
+        final File snapshot = snapshotFile;
+        if (snapshot == null || new File(snapshot.getParentFile(), uniqueId + ".dat").exists()) {
+            return;
+        }
+        if (!isReferenced(SpongeImpl.getServer(), uniqueId)) {
+            remove(uniqueId);
+        }
+    }
+
+    private static boolean isReferenced(MinecraftServer server, UUID uniqueId) {
+        final GameProfile profile = new GameProfile(uniqueId, null);
+        final PlayerList playerList = server.getPlayerList();
+        return playerList.getPlayerByUUID(uniqueId) != null || playerList.getWhitelistedPlayers().isWhitelisted(profile)
+                || playerList.getBannedPlayers().isBanned(profile);
+    }
+
+    private static void unindex(GameProfile profile) {
+        if (profile.getName() == null) {
+            return;
+        }
+        final String name = profile.getName().toLowerCase(Locale.ROOT);
+        final Set<UUID> ids = names.get(name);
+        if (ids != null && ids.remove(profile.getId()) && ids.isEmpty()) {
+            names.remove(name);
+        }
+    }
+
+    static Collection<org.spongepowered.api.profile.GameProfile> getAll() {
+        return profiles.values().stream()
+                .map(profile -> (org.spongepowered.api.profile.GameProfile) profile)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets all profiles whose name starts with the given prefix, ignoring
+     * case.
+     *
+     * @param prefix The lowercase name prefix
+     * @return The matching profiles
+     */
+    static Collection<org.spongepowered.api.profile.GameProfile> match(String prefix) {
+        final ImmutableList.Builder<org.spongepowered.api.profile.GameProfile> matching = ImmutableList.builder();
+        for (Set<UUID> ids : names.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            for (UUID uniqueId : ids) {
+                final GameProfile profile = profiles.get(uniqueId);
+                if (profile != null) {
+                    matching.add((org.spongepowered.api.profile.GameProfile) profile);
+                }
+            }
+        }
+        return matching.build();
+    }
+
+    /**
+     * Starts building the catalogue for the running server. The snapshot and
+     * the player data directory are read asynchronously. The ban list,
+     * whitelist and profile cache aren't thread-safe, so the catalogue is
+     * reconciled with them back on the main thread, after which it is ready.
+     */
+    public static void load() {
+        final MinecraftServer server = SpongeImpl.getServer();
+        final SaveHandler saveHandler = WorldManager.getWorldByDimensionId(0)
+                .map(world -> (SaveHandler) world.getSaveHandler())
+                .orElse(null);
+        if (saveHandler == null) {
+            return;
+        }
+        final File snapshot = new File(saveHandler.playersDirectory, SNAPSHOT_NAME);
+        snapshotFile = snapshot;
+
+        final int loadGeneration = generation;
+        SpongeImpl.getScheduler().submitAsyncTask(() -> {
+            final Set<UUID> snapshotted = readSnapshot(snapshot, loadGeneration);
+
+            // Reconcile with the live sources, a snapshot misses anything that changed while the server was offline
+            final Set<UUID> stored = new HashSet<>();
+            for (String playerUuid : saveHandler.getAvailablePlayerDat()) {
+                if (loadGeneration != generation) {
+                    return null;
+                }
+                // See UserDiscoverer#getAllProfiles for why these are skipped
+                if (playerUuid.contains(".")) {
+                    continue;
+                }
+                try {
+                    stored.add(UUID.fromString(playerUuid));
+                } catch (Exception ex) {
+                    // Not a player data file
+                }
+            }
+            server.addScheduledTask(() -> reconcile(server, snapshotted, stored, loadGeneration));
+            return null;
+        });
+    }
+
+    private static void reconcile(MinecraftServer server, Set<UUID> snapshotted, Set<UUID> stored, int loadGeneration) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        // Drop whatever was deleted, unbanned or unwhitelisted while the server was offline
+        for (UUID uuid : snapshotted) {
+            if (!stored.contains(uuid) && !isReferenced(server, uuid)) {
+                remove(uuid);
+            }
+        }
+        for (UUID uuid : stored) {
+            if (profiles.containsKey(uuid)) {
+                continue;
+            }
+            final GameProfile profile = server.getPlayerProfileCache().getProfileByUUID(uuid);
+            if (profile != null) {
+                add(profile);
+            }
+        }
+        server.getPlayerList().getWhitelistedPlayers().getValues().values().forEach(entry -> add(entry.value));
+        server.getPlayerList().getBannedPlayers().getValues().values().stream()
+                .filter(entry -> entry != null)
+                .forEach(entry -> add(entry.value));
+        ready = true;
+    }
+
+    /**
+     * Saves the catalogue snapshot and discards the catalogue, called when
+     * the server stops.
+     */
+    public static void unload() {
+        save();
+        synchronized (ProfileCatalogue.class) {
+            generation++;
+            ready = false;
+            dirty = false;
+            snapshotFile = null;
+            profiles.clear();
+            names.clear();
+        }
+    }
+
+    /**
+     * Writes the catalogue snapshot if the catalogue changed since it was
+     * last written.
+     */
+    public static void save() {
+        final File snapshot = snapshotFile;
+        if (!ready || !dirty || snapshot == null) {
+            return;
+        }
+        dirty = false;
+
+        final File temp = new File(snapshot.getPath() + ".tmp");
+        final List<GameProfile> values = ImmutableList.copyOf(profiles.values());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(new FileOutputStream(temp))))) {
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(values.size());
+            for (GameProfile profile : values) {
+                out.writeLong(profile.getId().getMostSignificantBits());
+                out.writeLong(profile.getId().getLeastSignificantBits());
+                out.writeUTF(profile.getName() == null ? "" : profile.getName());
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to save profile catalogue to {}", temp, e);
+            dirty = true;
+            return;
+        }
+        try {
+            Files.move(temp.toPath(), snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to replace profile catalogue {}", snapshot, e);
+            dirty = true;
+        }
+    }
+
+    /**
+     * Reads the catalogue snapshot into the catalogue.
+     *
+     * @return The unique ids of the profiles read from the snapshot
+     */
+    private static Set<UUID> readSnapshot(File snapshot, int loadGeneration) {
+        final Set<UUID> read = new HashSet<>();
+        if (!snapshot.isFile()) {
+            return read;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new FileInputStream(snapshot))))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                return read;
+            }
+            final int count = in.readInt();
+            for (int i = 0; i < count && loadGeneration == generation; i++) {
+                final UUID uniqueId = new UUID(in.readLong(), in.readLong());
+                final String name = in.readUTF();
+                add(new GameProfile(uniqueId, name.isEmpty() ? null : name));
+                read.add(uniqueId);
+            }
+            // Whatever was read is already on disk
+            dirty = false;
+        } catch (IOException e) {
+            SpongeImpl.getLogger().warn("Could not read profile catalogue {}, rebuilding it", snapshot, e);
+        }
+        return read;
+    }
+
+}
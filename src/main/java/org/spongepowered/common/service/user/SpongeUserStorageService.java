@@ -28,7 +28,6 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
-import com.google.common.collect.Sets;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.profile.GameProfile;
@@ -36,8 +35,10 @@
 
 import java.util.Collection;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 public class SpongeUserStorageService implements UserStorageService {
@@ -81,6 +82,30 @@ public User getOrCreate(GameProfile profile) {
         return UserDiscoverer.create((com.mojang.authlib.GameProfile) profile);
     }
 
+    /**
+     * Gets the users of all given profiles without blocking on their player
+     * data, which is read in parallel off the main thread.
+     *
+     * @param profiles The profiles to look up
+     * @return A future completed on the main thread with the users found,
+     *     keyed by unique id
+     */
+    public CompletableFuture<Map<UUID, User>> getAll(Collection<GameProfile> profiles) {
+        checkNotNull(profiles, "profiles");
+        checkState(Sponge.isServerAvailable(), "Server is not available!");
+        return UserDiscoverer.findAllByProfile(profiles);
+    }
+
+    /**
+     * Discards the cached player data of a user, called whenever their player
+     * data file is written.
+     *
+     * @param uniqueId The user's unique id
+     */
+    public static void invalidateUserData(UUID uniqueId) {
+        UserDiscoverer.invalidateUserData(uniqueId);
+    }
+
     @Override
     public Collection<GameProfile> getAll() {
         return UserDiscoverer.getAllProfiles();
@@ -101,14 +126,7 @@ public boolean delete(User user) {
     @Override
     public Collection<GameProfile> match(String lastKnownName) {
         lastKnownName = checkNotNull(lastKnownName, "lastKnownName").toLowerCase(Locale.ROOT);
-        Collection<GameProfile> allProfiles = UserDiscoverer.getAllProfiles();
-        Collection<GameProfile> matching = Sets.newHashSet();
-        for (GameProfile profile : allProfiles) {
-            if (profile.getName().isPresent() && profile.getName().get().startsWith(lastKnownName)) {
-                matching.add(profile);
-            }
-        }
-        return matching;
+        return UserDiscoverer.matchProfiles(lastKnownName);
     }
 
 }
@@ -27,9 +27,12 @@
 import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.management.PlayerList;
 import net.minecraft.server.management.PlayerProfileCache;
 import net.minecraft.server.management.UserListBans;
@@ -52,18 +55,35 @@
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 class UserDiscoverer {
 
     private static final Cache<UUID, User> userCache = CacheBuilder.newBuilder()
             .expireAfterAccess(1, TimeUnit.DAYS)
             .build();
 
+    // Decoded player data of offline users, the users themselves are rebuilt from it on every lookup
+    private static final Cache<UUID, NBTTagCompound> userDataCache = CacheBuilder.newBuilder()
+            .maximumSize(SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getOfflineUserDataCacheSize())
+            .build();
+    // Bumped whenever the cached data of a user is invalidated, striped by unique id, so a read that raced
+    // with a write doesn't put the stale data back into the cache
+    private static final AtomicIntegerArray userDataStamps = new AtomicIntegerArray(64);
+
+    @Nullable private static ExecutorService userDataReaderPool;
+
     static User create(GameProfile profile) {
         User user = (User) new SpongeUser(profile);
         userCache.put(profile.getId(), user);
@@ -80,12 +100,16 @@ static User create(GameProfile profile) {
      * @return The user data, or null if not found
      */
     static User findByProfile(org.spongepowered.api.profile.GameProfile profile) {
+        return findByProfile(profile, null);
+    }
+
+    private static User findByProfile(org.spongepowered.api.profile.GameProfile profile, @Nullable NBTTagCompound userData) {
         UUID uniqueId = profile.getUniqueId();
         User user = userCache.getIfPresent(uniqueId);
         if (user != null) {
             // update cached user with name
             if (user.getName() == null && profile.getName().isPresent()) {
-                user = getFromStoredData(profile);
+                user = getFromStoredData(profile, userData);
             }
             return user;
         }
@@ -93,7 +117,7 @@ static User findByProfile(org.spongepowered.api.profile.GameProfile profile) {
         if (user != null) {
             return user;
         }
-        user = getFromStoredData(profile);
+        user = getFromStoredData(profile, userData);
         if (user != null) {
             return user;
         }
@@ -105,6 +129,62 @@ static User findByProfile(org.spongepowered.api.profile.GameProfile profile) {
         return user;
     }
 
+    /**
+     * Searches for the users of all given profiles like
+     * {@link #findByProfile}, reading the player data of offline users in
+     * parallel off the main thread.
+     *
+     * @param profiles The users' profiles
+     * @return A future completed on the main thread with the users found,
+     *     keyed by unique id
+     */
+    static CompletableFuture<Map<UUID, User>> findAllByProfile(Collection<org.spongepowered.api.profile.GameProfile> profiles) {
+        final ExecutorService pool = getUserDataReaderPool();
+        final Map<org.spongepowered.api.profile.GameProfile, CompletableFuture<NBTTagCompound>> reads = Maps.newLinkedHashMap();
+        for (org.spongepowered.api.profile.GameProfile profile : profiles) {
+            final UUID uniqueId = profile.getUniqueId();
+            final User cached = userCache.getIfPresent(uniqueId);
+            final File dataFile = cached != null && (cached.getName() != null || !profile.getName().isPresent()) ? null : getPlayerDataFile(uniqueId);
+            reads.put(profile, dataFile == null ? CompletableFuture.completedFuture(null)
+                    : CompletableFuture.supplyAsync(() -> readUserData(uniqueId, dataFile), pool));
+        }
+        return CompletableFuture.allOf(reads.values().toArray(new CompletableFuture<?>[reads.size()]))
+                .thenApplyAsync(ignored -> {
+                    final Map<UUID, User> users = Maps.newLinkedHashMap();
+                    for (Map.Entry<org.spongepowered.api.profile.GameProfile, CompletableFuture<NBTTagCompound>> entry : reads.entrySet()) {
+                        final User user = findByProfile(entry.getKey(), entry.getValue().join());
+                        if (user != null) {
+                            users.put(entry.getKey().getUniqueId(), user);
+                        }
+                    }
+                    return users;
+                }, task -> SpongeImpl.getServer().addScheduledTask(task));
+    }
+
+    /**
+     * Discards the cached player data of a user, called whenever their player
+     * data file is written.
+     *
+     * @param uniqueId The user's unique id
+     */
+    static void invalidateUserData(UUID uniqueId) {
+        userDataStamps.incrementAndGet(getStampIndex(uniqueId));
+        userDataCache.invalidate(uniqueId);
+    }
+
+    private static int getStampIndex(UUID uniqueId) {
+        return uniqueId.hashCode() & (userDataStamps.length() - 1);
+    }
+
+    private static synchronized ExecutorService getUserDataReaderPool() {
+        if (userDataReaderPool == null) {
+            final int threads = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getOfflineUserReaderThreads();
+            userDataReaderPool = Executors.newFixedThreadPool(Math.max(1, threads),
+                    new ThreadFactoryBuilder().setNameFormat("Sponge - User Data Reader #%d").setDaemon(true).build());
+        }
+        return userDataReaderPool;
+    }
+
     static User findByUsername(String username) {
         // check mojang cache
         PlayerProfileCache cache = SpongeImpl.getServer().getPlayerProfileCache();
@@ -132,6 +212,12 @@ static Collection<org.spongepowered.api.profile.GameProfile> getAllProfiles() {
         // Add all cached profiles
         profiles.addAll(userCache.asMap().values().stream().map(User::getProfile).collect(Collectors.toList()));
 
+        // The catalogue holds everything below, without listing the data files
+        if (ProfileCatalogue.isReady()) {
+            profiles.addAll(ProfileCatalogue.getAll());
+            return profiles;
+        }
+
         // Add all known profiles from the data files
         SaveHandler saveHandler = (SaveHandler) WorldManager.getWorldByDimensionId(0).get().getSaveHandler();
         String[] uuids = saveHandler.getAvailablePlayerDat();
@@ -171,6 +257,27 @@ static Collection<org.spongepowered.api.profile.GameProfile> getAllProfiles() {
         return profiles;
     }
 
+    /**
+     * Gets all known profiles whose name starts with the given prefix.
+     *
+     * @param prefix The lowercase name prefix
+     * @return The matching profiles
+     */
+    static Collection<org.spongepowered.api.profile.GameProfile> matchProfiles(String prefix) {
+        if (!ProfileCatalogue.isReady()) {
+            return getAllProfiles().stream()
+                    .filter(profile -> profile.getName().isPresent() && profile.getName().get().toLowerCase(Locale.ROOT).startsWith(prefix))
+                    .collect(Collectors.toSet());
+        }
+        Set<org.spongepowered.api.profile.GameProfile> profiles = Sets.newHashSet(ProfileCatalogue.match(prefix));
+        for (User user : userCache.asMap().values()) {
+            if (user.getName() != null && user.getName().toLowerCase(Locale.ROOT).startsWith(prefix)) {
+                profiles.add(user.getProfile());
+            }
+        }
+        return profiles;
+    }
+
     static boolean delete(UUID uniqueId) {
         if (getOnlinePlayer(uniqueId) != null) {
             // Don't delete online player's data
@@ -179,6 +286,11 @@ static boolean delete(UUID uniqueId) {
         boolean success = deleteStoredPlayerData(uniqueId);
         success = success && deleteWhitelistEntry(uniqueId);
         success = success && deleteBanlistEntry(uniqueId);
+        if (success) {
+            userCache.invalidate(uniqueId);
+            invalidateUserData(uniqueId);
+            ProfileCatalogue.remove(uniqueId);
+        }
         return success;
     }
 
@@ -199,24 +311,49 @@ private static User getOnlinePlayer(UUID uniqueId) {
         return null;
     }
 
-    private static User getFromStoredData(org.spongepowered.api.profile.GameProfile profile) {
+    private static User getFromStoredData(org.spongepowered.api.profile.GameProfile profile, @Nullable NBTTagCompound userData) {
         // Always cache user to avoid constant lookups in storage when file does not exist
         final User user = create((GameProfile) profile);
-        // Note: Uses the overworld's player data
-        final File dataFile = getPlayerDataFile(profile.getUniqueId());
-        if (dataFile == null) {
-            return null;
+        if (userData == null) {
+            // Note: Uses the overworld's player data
+            final File dataFile = getPlayerDataFile(profile.getUniqueId());
+            if (dataFile == null) {
+                return null;
+            }
+            userData = readUserData(profile.getUniqueId(), dataFile);
         }
 
-        try {
-            ((SpongeUser) user).readFromNbt(CompressedStreamTools.readCompressed(new FileInputStream(dataFile)));
-        } catch (IOException e) {
-            SpongeImpl.getLogger().warn("Corrupt user file {}", dataFile, e);
+        if (userData != null) {
+            // The user may modify what it reads, keep the cached copy intact
+            ((SpongeUser) user).readFromNbt(userData.copy());
         }
 
         return user;
     }
 
+    @Nullable
+    private static NBTTagCompound readUserData(UUID uniqueId, File dataFile) {
+        NBTTagCompound userData = userDataCache.getIfPresent(uniqueId);
+        if (userData != null) {
+            return userData;
+        }
+        final int stampIndex = getStampIndex(uniqueId);
+        final int stamp = userDataStamps.get(stampIndex);
+        try (FileInputStream in = new FileInputStream(dataFile)) {
+            userData = CompressedStreamTools.readCompressed(in);
+        } catch (IOException | RuntimeException e) {
+            // Malformed NBT is reported as a ReportedException
+            SpongeImpl.getLogger().warn("Corrupt user file {}", dataFile, e);
+            return null;
+        }
+        userDataCache.put(uniqueId, userData);
+        if (userDataStamps.get(stampIndex) != stamp) {
+            // The file was written while it was read
+            userDataCache.invalidate(uniqueId);
+        }
+        return userData;
+    }
+
     private static User getFromWhitelist(UUID uniqueId) {
         GameProfile profile = null;
         UserListWhitelist whiteList = SpongeImpl.getServer().getPlayerList().getWhitelistedPlayers();
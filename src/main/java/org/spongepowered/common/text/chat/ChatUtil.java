@@ -24,23 +24,39 @@
  */
 package org.spongepowered.common.text.chat;
 
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.play.server.SPacketChat;
 import net.minecraft.util.text.ITextComponent;
 import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.message.MessageChannelEvent;
 import org.spongepowered.api.event.message.MessageEvent;
 import org.spongepowered.api.event.message.MessageEvent.MessageFormatter;
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.channel.ChatTypeMessageReceiver;
 import org.spongepowered.api.text.channel.MessageChannel;
+import org.spongepowered.api.text.channel.MessageReceiver;
+import org.spongepowered.api.text.chat.ChatType;
 import org.spongepowered.api.text.chat.ChatTypes;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.network.PacketBroadcaster;
 import org.spongepowered.common.text.SpongeTexts;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 public final class ChatUtil {
 
+    private static final Map<Class<?>, Boolean> overridesSend = new ConcurrentHashMap<>();
+
     private ChatUtil() {
     }
 
@@ -55,7 +71,80 @@ public static void sendMessage(ITextComponent component, MessageChannel channel,
             event = SpongeEventFactory.createMessageChannelEvent(cause, channel, Optional.of(channel), formatter, false);
         }
         if (!SpongeImpl.postEvent(event) && !event.isMessageCancelled() && event.getChannel().isPresent()) {
-            event.getChannel().get().send(source, event.getMessage(), isChat ? ChatTypes.CHAT : ChatTypes.SYSTEM);
+            send(event.getChannel().get(), source, event.getMessage(), isChat ? ChatTypes.CHAT : ChatTypes.SYSTEM);
+        }
+    }
+
+    /**
+     * Sends a message through a channel like {@link MessageChannel#send(Object, Text, ChatType)},
+     * serializing the message once for all players it is sent to unchanged.
+     * Channels overriding {@code send} are left to send the message
+     * themselves.
+     *
+     * @param channel The channel
+     * @param sender The sender of the message
+     * @param original The message before it is transformed for each member
+     * @param type The type of the message
+     */
+    public static void send(MessageChannel channel, @Nullable Object sender, Text original, ChatType type) {
+        if (overridesSend.computeIfAbsent(channel.getClass(), ChatUtil::overridesSend)) {
+            channel.send(sender, original, type);
+            return;
+        }
+        final Map<Text, List<EntityPlayerMP>> players = new LinkedHashMap<>();
+        for (MessageReceiver member : channel.getMembers()) {
+            final Optional<Text> message = channel.transformMessage(sender, member, original, type);
+            if (!message.isPresent()) {
+                continue;
+            }
+            if (member instanceof EntityPlayerMP) {
+                players.computeIfAbsent(message.get(), k -> new ArrayList<>()).add((EntityPlayerMP) member);
+            } else if (member instanceof ChatTypeMessageReceiver) {
+                ((ChatTypeMessageReceiver) member).sendMessage(type, message.get());
+            } else {
+                member.sendMessage(message.get());
+            }
+        }
+        for (Map.Entry<Text, List<EntityPlayerMP>> entry : players.entrySet()) {
+            PacketBroadcaster.broadcast(createPacket(type, entry.getKey()), entry.getValue());
+        }
+    }
+
+    /**
+     * Sends a message to all given players, serializing it once.
+     *
+     * @param players The players
+     * @param type The type of the message
+     * @param message The message
+     */
+    public static void sendMessage(Iterable<? extends Player> players, ChatType type, Text message) {
+        final List<EntityPlayerMP> targets = new ArrayList<>();
+        for (Player player : players) {
+            if (player instanceof EntityPlayerMP) {
+                targets.add((EntityPlayerMP) player);
+            } else {
+                player.sendMessage(type, message);
+            }
+        }
+        if (!targets.isEmpty()) {
+            PacketBroadcaster.broadcast(createPacket(type, message), targets);
+        }
+    }
+
+    public static SPacketChat createPacket(ChatType type, Text message) {
+        ITextComponent component = SpongeTexts.toComponent(message);
+        if (type == ChatTypes.ACTION_BAR) {
+            component = SpongeTexts.fixActionBarFormatting(component);
+        }
+        return new SPacketChat(component, ((SpongeChatType) type).getByteId());
+    }
+
+    private static boolean overridesSend(Class<?> channelClass) {
+        try {
+            return channelClass.getMethod("send", Object.class, Text.class).getDeclaringClass() != MessageChannel.class
+                    || channelClass.getMethod("send", Object.class, Text.class, ChatType.class).getDeclaringClass() != MessageChannel.class;
+        } catch (NoSuchMethodException e) {
+            return true;
         }
     }
 
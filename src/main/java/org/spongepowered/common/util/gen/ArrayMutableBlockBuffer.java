@@ -25,7 +25,6 @@
 package org.spongepowered.common.util.gen;
 
 import com.flowpowered.math.vector.Vector3i;
-import net.minecraft.util.math.MathHelper;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.event.cause.Cause;
@@ -55,21 +54,31 @@ public class ArrayMutableBlockBuffer extends AbstractBlockBuffer implements Muta
     @SuppressWarnings("ConstantConditions")
     private static final BlockState AIR = BlockTypes.AIR.getDefaultState();
 
+    private final BlockBufferStorage storage;
     private BlockPalette palette;
     private BackingData data;
 
     public ArrayMutableBlockBuffer(Vector3i start, Vector3i size) {
-        this(size.getX() * size.getY() * size.getZ() > SMALL_AREA_THRESHOLD ?
-                new BimapPalette() : GlobalPalette.instance, start, size);
+        this(start, size, BlockBufferStorage.HEAP);
     }
 
     public ArrayMutableBlockBuffer(BlockPalette palette, Vector3i start, Vector3i size) {
+        this(palette, start, size, BlockBufferStorage.HEAP);
+    }
+
+    public ArrayMutableBlockBuffer(Vector3i start, Vector3i size, BlockBufferStorage storage) {
+        this(size.getX() * size.getY() * size.getZ() > SMALL_AREA_THRESHOLD ?
+                new BimapPalette() : GlobalPalette.instance, start, size, storage);
+    }
+
+    public ArrayMutableBlockBuffer(BlockPalette palette, Vector3i start, Vector3i size, BlockBufferStorage storage) {
         super(start, size);
         this.palette = palette;
+        this.storage = storage;
         int airId = palette.getOrAssign(AIR);
 
         int dataSize = area();
-        this.data = new PackedBackingData(dataSize, palette.getHighestId());
+        this.data = storage.create(dataSize, palette.getHighestId());
 
         // all blocks default to air
         if (airId != 0) {
@@ -82,6 +91,7 @@ public ArrayMutableBlockBuffer(BlockPalette palette, Vector3i start, Vector3i si
     public ArrayMutableBlockBuffer(BlockPalette palette, Vector3i start, Vector3i size, char[] blocks) {
         super(start, size);
         this.palette = palette;
+        this.storage = BlockBufferStorage.HEAP;
         this.data = new CharBackingData(blocks);
     }
 
@@ -94,8 +104,22 @@ public ArrayMutableBlockBuffer(BlockPalette palette, Vector3i start, Vector3i si
      * @param data The backing data
      */
     ArrayMutableBlockBuffer(BlockPalette palette, BackingData blocks, Vector3i start, Vector3i size) {
+        this(palette, blocks, start, size, BlockBufferStorage.HEAP);
+    }
+
+    /**
+     * Does not clone!
+     *
+     * @param palette The palette
+     * @param start The start block position
+     * @param size The block size
+     * @param data The backing data
+     * @param storage The storage used when the backing data has to grow
+     */
+    ArrayMutableBlockBuffer(BlockPalette palette, BackingData blocks, Vector3i start, Vector3i size, BlockBufferStorage storage) {
         super(start, size);
         this.palette = palette;
+        this.storage = storage;
         this.data = blocks;
     }
 
@@ -119,14 +143,14 @@ public boolean setBlock(int x, int y, int z, BlockState block, Cause cause) {
                 id = newpalette.getOrAssign(block);
                 highId = newpalette.getHighestId();
 
-                newdata = new PackedBackingData(dataSize, highId);
+                newdata = this.storage.create(dataSize, highId);
                 for (int i = 0; i < dataSize; i++) {
                     newdata.set(i, newpalette.getOrAssign(this.palette.get(this.data.get(i)).orElse(AIR)));
                 }
                 this.palette = newpalette;
             } else {
 
-                newdata = new PackedBackingData(dataSize, highId);
+                newdata = this.storage.create(dataSize, highId);
                 for (int i = 0; i < dataSize; i++) {
                     newdata.set(i, this.data.get(i));
                 }
@@ -143,6 +167,20 @@ public BlockState getBlock(int x, int y, int z) {
         return this.palette.get(this.data.get(getIndex(x, y, z))).orElse(AIR);
     }
 
+    /**
+     * Gets the raw id stored at the given position, without resolving it
+     * through the palette.
+     *
+     * @param x The x position
+     * @param y The y position
+     * @param z The z position
+     * @return The palette id
+     */
+    public int getBlockId(int x, int y, int z) {
+        checkRange(x, y, z);
+        return this.data.get(getIndex(x, y, z));
+    }
+
     @Override
     public MutableBlockVolume getBlockView(Vector3i newMin, Vector3i newMax) {
         checkRange(newMin.getX(), newMin.getY(), newMin.getZ());
@@ -169,7 +207,7 @@ public UnmodifiableBlockVolume getUnmodifiableBlockView() {
     public MutableBlockVolume getBlockCopy(StorageType type) {
         switch (type) {
             case STANDARD:
-                return new ArrayMutableBlockBuffer(this.palette, this.data.copyOf(), this.start, this.size);
+                return new ArrayMutableBlockBuffer(this.palette, this.data.copyOf(), this.start, this.size, this.storage);
             case THREAD_SAFE:
             default:
                 throw new UnsupportedOperationException(type.name());
@@ -266,7 +304,8 @@ public PackedBackingData(int size, int highestValue) {
             this.bits = bits;
 
             this.maxValue = (1 << bits) - 1;
-            this.longArray = new long[MathHelper.roundUp(size * bits, Long.SIZE) / Long.SIZE];
+            // long math, an int overflows past ~134M entries at 16 bits
+            this.longArray = new long[(int) (((long) size * bits + Long.SIZE - 1) / Long.SIZE)];
         }
 
         private PackedBackingData(int size, int bits, long[] array) {
@@ -278,9 +317,9 @@ private PackedBackingData(int size, int bits, long[] array) {
 
         @Override
         public void set(int index, int value) {
-            int bitIndex = index * this.bits;
-            int longIndex = bitIndex / Long.SIZE;
-            int bitOffset = bitIndex % Long.SIZE;
+            long bitIndex = (long) index * this.bits;
+            int longIndex = (int) (bitIndex / Long.SIZE);
+            int bitOffset = (int) (bitIndex % Long.SIZE);
 
             this.longArray[longIndex] = this.longArray[longIndex] & ~(this.maxValue << bitOffset) | (long) value << bitOffset;
 
@@ -295,10 +334,10 @@ public void set(int index, int value) {
 
         @Override
         public int get(int index) {
-            int bitIndex = index * this.bits;
-            int longIndex = bitIndex / Long.SIZE;
-            int rightLongIndex = (bitIndex + this.bits - 1) / 64;
-            int bitOffset = bitIndex % 64;
+            long bitIndex = (long) index * this.bits;
+            int longIndex = (int) (bitIndex / Long.SIZE);
+            int rightLongIndex = (int) ((bitIndex + this.bits - 1) / 64);
+            int bitOffset = (int) (bitIndex % 64);
 
             if (bitOffset + this.bits > Long.SIZE) {
                 // The entry is split between two longs
@@ -0,0 +1,100 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer.BackingData;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer.PackedBackingData;
+
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+
+/**
+ * Where an {@link ArrayMutableBlockBuffer} keeps its block ids. The buffer
+ * keeps the same storage when it grows to fit a larger palette, and so do
+ * its copies.
+ */
+public enum BlockBufferStorage {
+
+    /**
+     * Packed into a long array on the java heap.
+     */
+    HEAP {
+        @Override
+        BackingData create(int size, int highestValue) {
+            return new PackedBackingData(size, highestValue);
+        }
+    },
+
+    /**
+     * Packed into direct buffers, which are allocated as they are written
+     * to.
+     */
+    DIRECT {
+        @Override
+        BackingData create(int size, int highestValue) {
+            return new OffHeapBackingData(size, highestValue, false);
+        }
+    },
+
+    /**
+     * Packed into a memory-mapped temporary file, paged in by the operating
+     * system as it is accessed.
+     */
+    MAPPED {
+        @Override
+        BackingData create(int size, int highestValue) {
+            return new OffHeapBackingData(size, highestValue, true);
+        }
+    };
+
+    // The storage is looked up for every buffer, only warn about a bad name once
+    @Nullable private static volatile String unknownName;
+
+    abstract BackingData create(int size, int highestValue);
+
+    /**
+     * Gets the storage with the given name, ignoring case. Unknown names
+     * fall back to {@link #HEAP} with a warning.
+     *
+     * @param name The name
+     * @return The storage
+     */
+    public static BlockBufferStorage fromName(String name) {
+        for (BlockBufferStorage storage : values()) {
+            if (storage.name().equals(name.toUpperCase(Locale.ENGLISH))) {
+                return storage;
+            }
+        }
+        if (!name.equals(unknownName)) {
+            unknownName = name;
+            SpongeImpl.getLogger().warn("Unknown off-heap-block-buffer-storage '{}', expected 'direct' or 'mapped'. Block buffers are kept on the "
+                    + "java heap instead.", name);
+        }
+        return HEAP;
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.world.schematic.BlockPalette;
+
+/**
+ * A packed array of raw palette ids laid out the same way as an
+ * {@link ArrayMutableBlockBuffer}, for bulk decoders that know the ids of a
+ * volume before they know the palette those ids refer to.
+ *
+ * <p>The backing data is sized once for the highest id and handed over to
+ * the block buffer without copying.</p>
+ */
+public final class BlockIdBuffer {
+
+    private final Vector3i size;
+    private final ArrayMutableBlockBuffer.PackedBackingData data;
+    private final int yLine;
+    private final int yzSlice;
+
+    public BlockIdBuffer(Vector3i size, int highestId) {
+        this.size = size;
+        this.yLine = size.getY();
+        this.yzSlice = this.yLine * size.getZ();
+        this.data = new ArrayMutableBlockBuffer.PackedBackingData(size.getX() * this.yzSlice, highestId);
+    }
+
+    public Vector3i getSize() {
+        return this.size;
+    }
+
+    /**
+     * Gets the highest id this buffer is able to hold.
+     *
+     * @return The highest id
+     */
+    public int getMaxId() {
+        return this.data.getMax();
+    }
+
+    /**
+     * Sets the id at the given position, relative to the origin of this
+     * buffer. Neither the position nor the id are checked.
+     *
+     * @param x The relative x position
+     * @param y The relative y position
+     * @param z The relative z position
+     * @param id The id, at most {@link #getMaxId()}
+     */
+    public void set(int x, int y, int z, int id) {
+        this.data.set(x * this.yzSlice + z * this.yLine + y, id);
+    }
+
+    public int get(int x, int y, int z) {
+        return this.data.get(x * this.yzSlice + z * this.yLine + y);
+    }
+
+    /**
+     * Creates a block buffer backed by the ids of this buffer. Does not
+     * clone, this buffer should not be modified afterwards.
+     *
+     * @param palette The palette the ids refer to
+     * @param start The start block position
+     * @return The block buffer
+     */
+    public ArrayMutableBlockBuffer toBlockBuffer(BlockPalette palette, Vector3i start) {
+        return new ArrayMutableBlockBuffer(palette, this.data, start, this.size);
+    }
+
+}
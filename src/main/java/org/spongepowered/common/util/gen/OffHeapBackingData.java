@@ -0,0 +1,173 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer.BackingData;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link BackingData} that packs its ids the same way as
+ * {@link ArrayMutableBlockBuffer.PackedBackingData}, but outside of the java
+ * heap so very large volumes do not weigh on the garbage collector.
+ *
+ * <p>The longs are split into segments. Direct segments are only allocated
+ * once something other than {@code 0} is written to them. Mapped segments
+ * are backed by a sparse temporary file, which the operating system pages
+ * in as the segments are accessed.</p>
+ */
+final class OffHeapBackingData implements BackingData {
+
+    /** Number of longs in a full segment, 128 MiB worth */
+    private static final int SEGMENT_SHIFT = 24;
+    private static final int SEGMENT_LONGS = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_LONGS - 1;
+
+    private final boolean mapped;
+    private final LongBuffer[] segments;
+    private final long longCount;
+    private final int bits;
+    private final long maxValue;
+    private final int arraySize;
+
+    OffHeapBackingData(int size, int highestValue, boolean mapped) {
+        this.arraySize = size;
+        int bits;
+        for (bits = 0; 1 << bits <= highestValue; bits++);
+        this.bits = bits;
+        this.maxValue = (1 << bits) - 1;
+        this.mapped = mapped;
+
+        this.longCount = ((long) size * bits + Long.SIZE - 1) / Long.SIZE;
+        this.segments = new LongBuffer[(int) ((this.longCount + SEGMENT_LONGS - 1) >>> SEGMENT_SHIFT)];
+        if (mapped) {
+            mapSegments();
+        }
+    }
+
+    private void mapSegments() {
+        try {
+            Path file = Files.createTempFile("sponge-blocks", ".dat");
+            // The mappings stay valid once the channel is closed, the file
+            // is only removed from the file system
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE)) {
+                for (int i = 0; i < this.segments.length; i++) {
+                    long position = (long) i * SEGMENT_LONGS * Long.BYTES;
+                    this.segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, segmentLongs(i) * Long.BYTES)
+                            .order(ByteOrder.nativeOrder())
+                            .asLongBuffer();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map a block buffer to a temporary file", e);
+        }
+    }
+
+    private int segmentLongs(int segment) {
+        return (int) Math.min(SEGMENT_LONGS, this.longCount - ((long) segment << SEGMENT_SHIFT));
+    }
+
+    private long getLong(int longIndex) {
+        LongBuffer segment = this.segments[longIndex >>> SEGMENT_SHIFT];
+        return segment == null ? 0 : segment.get(longIndex & SEGMENT_MASK);
+    }
+
+    private void setLong(int longIndex, long value) {
+        int segmentIndex = longIndex >>> SEGMENT_SHIFT;
+        LongBuffer segment = this.segments[segmentIndex];
+        if (segment == null) {
+            if (value == 0) {
+                return;
+            }
+            segment = ByteBuffer.allocateDirect(segmentLongs(segmentIndex) * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+            this.segments[segmentIndex] = segment;
+        }
+        segment.put(longIndex & SEGMENT_MASK, value);
+    }
+
+    @Override
+    public void set(int index, int value) {
+        long bitIndex = (long) index * this.bits;
+        int longIndex = (int) (bitIndex / Long.SIZE);
+        int bitOffset = (int) (bitIndex % Long.SIZE);
+
+        setLong(longIndex, getLong(longIndex) & ~(this.maxValue << bitOffset) | (long) value << bitOffset);
+
+        if (bitOffset + this.bits > Long.SIZE) {
+            // The entry is split between two longs
+            int bitsInLeft = Long.SIZE - bitOffset;
+            int bitsInRight = this.bits - bitsInLeft;
+            longIndex++;
+            setLong(longIndex, getLong(longIndex) >>> bitsInRight << bitsInRight | (long) value >> bitsInLeft);
+        }
+    }
+
+    @Override
+    public int get(int index) {
+        long bitIndex = (long) index * this.bits;
+        int longIndex = (int) (bitIndex / Long.SIZE);
+        int bitOffset = (int) (bitIndex % Long.SIZE);
+
+        if (bitOffset + this.bits > Long.SIZE) {
+            // The entry is split between two longs
+            int bitsInLeft = Long.SIZE - bitOffset;
+            return (int) ((getLong(longIndex) >>> bitOffset | getLong(longIndex + 1) << bitsInLeft) & this.maxValue);
+        }
+        return (int) (getLong(longIndex) >>> bitOffset & this.maxValue);
+    }
+
+    @Override
+    public OffHeapBackingData copyOf() {
+        OffHeapBackingData copy = new OffHeapBackingData(this.arraySize, (int) this.maxValue, this.mapped);
+        for (int i = 0; i < this.segments.length; i++) {
+            LongBuffer segment = this.segments[i];
+            if (segment == null) {
+                continue;
+            }
+            if (copy.segments[i] == null) {
+                copy.segments[i] = ByteBuffer.allocateDirect(segmentLongs(i) * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+            }
+            LongBuffer source = segment.duplicate();
+            source.clear();
+            copy.segments[i].put(source);
+            copy.segments[i].clear();
+        }
+        return copy;
+    }
+
+    @Override
+    public int getMax() {
+        return (int) this.maxValue;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.NextTickListEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * The set of pending block updates of a world, which also indexes its
+ * entries by position and by chunk so that they can be looked up without
+ * scanning every pending update.
+ */
+public class IndexedTickListEntrySet extends HashSet<NextTickListEntry> {
+
+    private static final long serialVersionUID = -3405611294712618432L;
+
+    private final Long2ObjectMap<List<NextTickListEntry>> byPosition = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<LongSet> byChunk = new Long2ObjectOpenHashMap<>();
+
+    @Override
+    public boolean add(NextTickListEntry entry) {
+        if (!super.add(entry)) {
+            return false;
+        }
+        final long pos = entry.position.toLong();
+        List<NextTickListEntry> entries = this.byPosition.get(pos);
+        if (entries == null) {
+            entries = new ArrayList<>(1);
+            this.byPosition.put(pos, entries);
+            final long chunk = ChunkPos.asLong(entry.position.getX() >> 4, entry.position.getZ() >> 4);
+            LongSet positions = this.byChunk.get(chunk);
+            if (positions == null) {
+                positions = new LongOpenHashSet();
+                this.byChunk.put(chunk, positions);
+            }
+            positions.add(pos);
+        }
+        entries.add(entry);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!super.remove(o)) {
+            return false;
+        }
+        unindex((NextTickListEntry) o);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.byPosition.clear();
+        this.byChunk.clear();
+    }
+
+    @Override
+    public Iterator<NextTickListEntry> iterator() {
+        final Iterator<NextTickListEntry> iterator = super.iterator();
+        return new Iterator<NextTickListEntry>() {
+
+            @Nullable private NextTickListEntry last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public NextTickListEntry next() {
+                return this.last = iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                unindex(this.last);
+            }
+        };
+    }
+
+    private void unindex(NextTickListEntry entry) {
+        final long pos = entry.position.toLong();
+        final List<NextTickListEntry> entries = this.byPosition.get(pos);
+        if (entries == null) {
+            return;
+        }
+        entries.remove(entry);
+        if (entries.isEmpty()) {
+            this.byPosition.remove(pos);
+            final long chunk = ChunkPos.asLong(entry.position.getX() >> 4, entry.position.getZ() >> 4);
+            final LongSet positions = this.byChunk.get(chunk);
+            if (positions != null) {
+                positions.remove(pos);
+                if (positions.isEmpty()) {
+                    this.byChunk.remove(chunk);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the pending updates at the given position.
+     *
+     * @param pos The position
+     * @return The pending updates, unmodifiable
+     */
+    public List<NextTickListEntry> getEntries(BlockPos pos) {
+        final List<NextTickListEntry> entries = this.byPosition.get(pos.toLong());
+        return entries == null ? Collections.emptyList() : Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Adds the pending updates within the given chunk to a list.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @param list The list to add to
+     */
+    public void collectEntries(int chunkX, int chunkZ, List<NextTickListEntry> list) {
+        final LongSet positions = this.byChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+        if (positions == null) {
+            return;
+        }
+        for (LongIterator iterator = positions.iterator(); iterator.hasNext(); ) {
+            list.addAll(this.byPosition.get(iterator.nextLong()));
+        }
+    }
+
+    /**
+     * Gets the amount of chunks that have pending updates.
+     *
+     * @return The amount of chunks
+     */
+    public int getChunkCount() {
+        return this.byChunk.size();
+    }
+
+}
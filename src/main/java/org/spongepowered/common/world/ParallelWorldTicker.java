@@ -0,0 +1,280 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import co.aikar.timings.SpongeTimings;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.crash.CrashReport;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.play.server.SPacketTimeUpdate;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.ReportedException;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.gen.ThreadIntCache;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import javax.annotation.Nullable;
+
+/**
+ * Ticks worlds in parallel when the {@code parallel-world-ticking}
+ * optimization is enabled.
+ *
+ * <p>The whole body of the world loop of the server runs on one
+ * {@link WorkerThread} per world: the time update, Forge's pre and post world
+ * tick events, the world tick, the entity updates, the chunk unloading and the
+ * entity tracker. These threads are treated as the server thread and each has
+ * its own cause tracker, but they must only modify the world they are
+ * ticking. Anything that moves entities between worlds is handed off and runs
+ * on the server thread once all worlds finished ticking.</p>
+ */
+public final class ParallelWorldTicker {
+
+    private static final List<ForkJoinTask<Long>> pendingTicks = Lists.newArrayList();
+    private static final List<WorldServer> pendingWorlds = Lists.newArrayList();
+    private static final Queue<Runnable> handOffs = new ConcurrentLinkedQueue<>();
+    private static final Set<String> reportedAccesses = Sets.newConcurrentHashSet();
+    // The duration of the last 100 ticks of each dimension
+    private static final Int2ObjectMap<long[]> tickTimes = new Int2ObjectOpenHashMap<>();
+    private static int pendingTickCounter;
+    @Nullable private static ForkJoinPool pool;
+
+    private ParallelWorldTicker() {
+    }
+
+    /**
+     * Gets whether worlds are ticked in parallel.
+     *
+     * @return True if worlds are ticked in parallel
+     */
+    public static boolean isEnabled() {
+        return SpongeImpl.getGlobalConfig().getConfig().getOptimizations().useParallelWorldTicking();
+    }
+
+    /**
+     * Gets whether the current thread is a world tick thread.
+     *
+     * @return True if the current thread is a world tick thread
+     */
+    public static boolean isWorldTickThread() {
+        return Thread.currentThread() instanceof WorkerThread;
+    }
+
+    /**
+     * Gets whether the given world may not be modified by the current thread,
+     * which is the case when a world tick thread isn't ticking it.
+     *
+     * @param world The world
+     * @return True if the world belongs to another thread
+     */
+    public static boolean isForeignWorld(net.minecraft.world.World world) {
+        final Thread thread = Thread.currentThread();
+        return thread instanceof WorkerThread && ((WorkerThread) thread).world != world;
+    }
+
+    /**
+     * Reports access to a world which doesn't belong to the current world
+     * tick thread, each kind of access is only reported once.
+     *
+     * @param world The accessed world
+     * @param access The kind of access
+     */
+    public static void checkWorldAccess(net.minecraft.world.World world, String access) {
+        final Thread thread = Thread.currentThread();
+        if (!(thread instanceof WorkerThread)) {
+            return;
+        }
+        final WorldServer ticking = ((WorkerThread) thread).world;
+        if (ticking != world && reportedAccesses.add(access + ':' + getName(ticking) + ':' + getName(world))) {
+            SpongeImpl.getLogger().warn("Detected {} in world {} while ticking world {} in parallel! This is not thread-safe, "
+                    + "disable parallel-world-ticking if this causes problems.", access, getName(world), getName(ticking), new Throwable());
+        }
+    }
+
+    /**
+     * Hands a cross world operation off to the server thread, it runs after
+     * all worlds finished ticking. The operation hasn't happened when this
+     * returns, so callers which report a result must report it as not (yet)
+     * performed, for example by returning false or null.
+     *
+     * @param task The operation
+     */
+    public static void handOff(Runnable task) {
+        handOffs.add(task);
+    }
+
+    /**
+     * Starts to tick the worlds of the server on the world tick threads, in
+     * place of the world loop of the server.
+     *
+     * @param server The server
+     * @param tickCounter The current tick of the server
+     */
+    public static void submitTicks(MinecraftServer server, int tickCounter) {
+        if (pool == null) {
+            final int threads = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getParallelWorldTickingThreads();
+            pool = new ForkJoinPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), WorkerThread::new, null, false);
+        }
+        pendingTickCounter = tickCounter;
+        final WorldServer[] worlds = server.worlds;
+        for (int i = 0; i < worlds.length; i++) {
+            final WorldServer world = worlds[i];
+            if (i == 0 || server.getAllowNether()) {
+                pendingWorlds.add(world);
+                pendingTicks.add(pool.submit(() -> tick(world, tickCounter)));
+            }
+        }
+    }
+
+    /**
+     * Gets the durations of the last 100 parallel ticks of a dimension.
+     *
+     * @param dimensionId The dimension id
+     * @return The tick durations in nanoseconds, or null if the dimension
+     *     wasn't ticked in parallel
+     */
+    @Nullable
+    public static long[] getTickTimes(int dimensionId) {
+        return tickTimes.get(dimensionId);
+    }
+
+    /**
+     * Waits until all submitted worlds finished ticking, then runs the
+     * operations handed off while they ticked.
+     */
+    public static void awaitTicks() {
+        if (pendingTicks.isEmpty() && handOffs.isEmpty()) {
+            return;
+        }
+        try {
+            for (ForkJoinTask<Long> task : pendingTicks) {
+                task.quietlyJoin();
+            }
+            for (int i = 0; i < pendingTicks.size(); i++) {
+                final ForkJoinTask<Long> task = pendingTicks.get(i);
+                if (task.isCompletedAbnormally()) {
+                    final Throwable cause = task.getException();
+                    throw cause instanceof ReportedException ? (ReportedException) cause : new RuntimeException(cause);
+                }
+                final IMixinWorldServer world = (IMixinWorldServer) pendingWorlds.get(i);
+                SpongeTimings.recordTime(world.getTimingsHandler().parallelTick, task.getRawResult());
+                long[] times = tickTimes.get(world.getDimensionId().intValue());
+                if (times == null) {
+                    times = new long[100];
+                    tickTimes.put(world.getDimensionId().intValue(), times);
+                }
+                times[pendingTickCounter % 100] = task.getRawResult();
+            }
+        } finally {
+            pendingTicks.clear();
+            pendingWorlds.clear();
+        }
+        Runnable task;
+        while ((task = handOffs.poll()) != null) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                SpongeImpl.getLogger().error("Could not run an operation handed off by a world tick thread", e);
+            }
+        }
+    }
+
+    private static long tick(WorldServer world, int tickCounter) {
+        final WorkerThread thread = (WorkerThread) Thread.currentThread();
+        final long start = System.nanoTime();
+        thread.world = world;
+        try {
+            if (tickCounter % 20 == 0) {
+                final SPacketTimeUpdate packet = new SPacketTimeUpdate(world.getTotalWorldTime(), world.getWorldTime(),
+                        world.getGameRules().getBoolean("doDaylightCycle"));
+                for (EntityPlayer player : world.playerEntities) {
+                    ((EntityPlayerMP) player).connection.sendPacket(packet);
+                }
+            }
+            SpongeImplHooks.onPreWorldTick(world);
+            try {
+                world.tick();
+            } catch (Throwable throwable) {
+                final CrashReport report = CrashReport.makeCrashReport(throwable, "Exception ticking world");
+                world.addWorldInfoToCrashReport(report);
+                throw new ReportedException(report);
+            }
+            try {
+                world.updateEntities();
+            } catch (Throwable throwable) {
+                final CrashReport report = CrashReport.makeCrashReport(throwable, "Exception ticking world entities");
+                world.addWorldInfoToCrashReport(report);
+                throw new ReportedException(report);
+            }
+            SpongeImplHooks.onPostWorldTick(world);
+            if (((IMixinWorldServer) world).getChunkGCTickInterval() > 0) {
+                world.getChunkProvider().tick();
+            }
+            world.getEntityTracker().tick();
+        } finally {
+            thread.world = null;
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static String getName(@Nullable WorldServer world) {
+        return world == null ? "none" : world.getWorldInfo().getWorldName();
+    }
+
+    /**
+     * A thread which ticks one world at a time. Chunks generated while
+     * ticking use the int cache of this thread, since the shared one may be
+     * reset by another world generating chunks at the same time.
+     */
+    public static final class WorkerThread extends ForkJoinWorkerThread implements ThreadIntCache.Owner {
+
+        @Nullable WorldServer world;
+        private final ThreadIntCache intCache = new ThreadIntCache();
+
+        WorkerThread(ForkJoinPool pool) {
+            super(pool);
+            setName("Sponge - World Tick Thread #" + getPoolIndex());
+            setDaemon(true);
+        }
+
+        @Override
+        public ThreadIntCache getIntCache() {
+            return this.intCache;
+        }
+    }
+}
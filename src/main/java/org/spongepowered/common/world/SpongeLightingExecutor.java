@@ -0,0 +1,213 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Striped;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.EnumSkyBlock;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import javax.annotation.Nullable;
+
+/**
+ * Runs the asynchronous light updates of a world on one or more threads.
+ *
+ * <p>Updates are partitioned by region, all updates within a region of
+ * 8x8 chunks run on the same thread. A light update may modify the chunk
+ * it was queued for and all surrounding chunks, so with more than one
+ * thread every update locks these chunks before it runs.</p>
+ */
+public final class SpongeLightingExecutor extends AbstractExecutorService {
+
+    private static final int REGION_SHIFT = 3;
+    private static final ThreadLocal<int[]> LIGHT_UPDATE_BLOCK_LIST = ThreadLocal.withInitial(() -> new int[32768]);
+
+    private final ExecutorService[] workers;
+    @Nullable private final Striped<Lock> chunkLocks;
+    private final Set<Long> pendingSkyUpdates = Sets.newConcurrentHashSet();
+    private final Set<Long> pendingBlockUpdates = Sets.newConcurrentHashSet();
+    private final AtomicInteger backlog = new AtomicInteger();
+
+    public SpongeLightingExecutor(int threads) {
+        threads = Math.max(1, threads);
+        this.workers = new ExecutorService[threads];
+        for (int i = 0; i < threads; i++) {
+            final String name = threads == 1 ? "Sponge - Async Light Thread" : "Sponge - Async Light Thread #" + i;
+            this.workers[i] = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat(name).build());
+        }
+        this.chunkLocks = threads == 1 ? null : Striped.lock(threads * 256);
+    }
+
+    /**
+     * Gets the light update queue of the current light thread, replacing the
+     * queue shared by the whole world.
+     *
+     * @return The light update queue
+     */
+    public static int[] getLightUpdateBlockList() {
+        return LIGHT_UPDATE_BLOCK_LIST.get();
+    }
+
+    /**
+     * Marks a light update of the given position as pending.
+     *
+     * @param lightType The light type
+     * @param pos The position
+     * @return False if an update of the position is already pending
+     */
+    public boolean markPending(EnumSkyBlock lightType, BlockPos pos) {
+        return getPendingUpdates(lightType).add(pos.toLong());
+    }
+
+    /**
+     * Clears the pending light update of the given position, must be called
+     * before the light is updated.
+     *
+     * @param lightType The light type
+     * @param pos The position
+     */
+    public void clearPending(EnumSkyBlock lightType, BlockPos pos) {
+        getPendingUpdates(lightType).remove(pos.toLong());
+    }
+
+    private Set<Long> getPendingUpdates(EnumSkyBlock lightType) {
+        return lightType == EnumSkyBlock.SKY ? this.pendingSkyUpdates : this.pendingBlockUpdates;
+    }
+
+    /**
+     * Gets the amount of queued tasks which haven't started yet.
+     *
+     * @return The backlog
+     */
+    public int getBacklog() {
+        return this.backlog.get();
+    }
+
+    /**
+     * Executes a task which accesses the given chunk and its neighbors.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @param task The task
+     */
+    public void execute(int chunkX, int chunkZ, Runnable task) {
+        final int worker = Math.floorMod((chunkX >> REGION_SHIFT) * 31 + (chunkZ >> REGION_SHIFT), this.workers.length);
+        this.backlog.incrementAndGet();
+        this.workers[worker].execute(() -> {
+            this.backlog.decrementAndGet();
+            if (this.chunkLocks == null) {
+                task.run();
+                return;
+            }
+            final List<Long> chunks = Lists.newArrayListWithCapacity(9);
+            for (int x = chunkX - 1; x <= chunkX + 1; x++) {
+                for (int z = chunkZ - 1; z <= chunkZ + 1; z++) {
+                    chunks.add(ChunkPos.asLong(x, z));
+                }
+            }
+            // Locks are returned in a consistent order, so this can't dead lock
+            final Iterable<Lock> locks = this.chunkLocks.bulkGet(chunks);
+            for (Lock lock : locks) {
+                lock.lock();
+            }
+            try {
+                task.run();
+            } finally {
+                for (Lock lock : locks) {
+                    lock.unlock();
+                }
+            }
+        });
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        this.backlog.incrementAndGet();
+        this.workers[0].execute(() -> {
+            this.backlog.decrementAndGet();
+            command.run();
+        });
+    }
+
+    @Override
+    public void shutdown() {
+        for (ExecutorService worker : this.workers) {
+            worker.shutdown();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> tasks = Lists.newArrayList();
+        for (ExecutorService worker : this.workers) {
+            tasks.addAll(worker.shutdownNow());
+        }
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        for (ExecutorService worker : this.workers) {
+            if (!worker.isShutdown()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        for (ExecutorService worker : this.workers) {
+            if (!worker.isTerminated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ExecutorService worker : this.workers) {
+            if (!worker.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,324 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * Stores the owner and notifier of the tracked blocks in a chunk. The blocks
+ * are split into sections of 16x16x16 blocks like the block storage of the
+ * chunk, every section is an open addressed table of the positions within the
+ * section and the indexes of the owner and notifier unique ids.
+ *
+ * <p>Positions are relative to the chunk, so x and z must be between 0 and
+ * 15, the y coordinate is the block y coordinate.</p>
+ */
+public final class TrackedBlockStore {
+
+    /**
+     * The index used when the owner or notifier isn't known.
+     */
+    public static final int NONE = -1;
+
+    private static final int SECTION_COUNT = 16;
+    // The amount of ints used by one block in the packed array
+    private static final int PACKED_SIZE = 3;
+
+    private final Section[] sections = new Section[SECTION_COUNT];
+    // Sections above the build height, which can only be used by mods
+    @Nullable private Int2ObjectMap<Section> extraSections;
+    private int size;
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public boolean contains(int x, int y, int z) {
+        final Section section = getSection(y, false);
+        return section != null && section.find(index(x, y, z)) >= 0;
+    }
+
+    public int getOwner(int x, int y, int z) {
+        final Section section = getSection(y, false);
+        if (section == null) {
+            return NONE;
+        }
+        final int slot = section.find(index(x, y, z));
+        return slot < 0 ? NONE : section.owners[slot];
+    }
+
+    public int getNotifier(int x, int y, int z) {
+        final Section section = getSection(y, false);
+        if (section == null) {
+            return NONE;
+        }
+        final int slot = section.find(index(x, y, z));
+        return slot < 0 ? NONE : section.notifiers[slot];
+    }
+
+    public void setOwner(int x, int y, int z, int owner) {
+        final Section section = getSection(y, true);
+        final int slot = slot(section, index(x, y, z));
+        section.owners[slot] = owner;
+    }
+
+    public void setNotifier(int x, int y, int z, int notifier) {
+        final Section section = getSection(y, true);
+        final int slot = slot(section, index(x, y, z));
+        section.notifiers[slot] = notifier;
+    }
+
+    public void set(int x, int y, int z, int owner, int notifier) {
+        final Section section = getSection(y, true);
+        final int slot = slot(section, index(x, y, z));
+        section.owners[slot] = owner;
+        section.notifiers[slot] = notifier;
+    }
+
+    public boolean remove(int x, int y, int z) {
+        final Section section = getSection(y, false);
+        if (section != null && section.remove(index(x, y, z))) {
+            this.size--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Packs the tracked blocks into an array, every block uses three ints:
+     * the position as packed by {@link #packPosition}, the owner and the
+     * notifier.
+     *
+     * @return The packed blocks
+     */
+    public int[] toPackedArray() {
+        final int[] packed = new int[this.size * PACKED_SIZE];
+        int offset = 0;
+        for (int sectionY = 0; sectionY < SECTION_COUNT; sectionY++) {
+            offset = pack(this.sections[sectionY], sectionY, packed, offset);
+        }
+        if (this.extraSections != null) {
+            for (Int2ObjectMap.Entry<Section> entry : this.extraSections.int2ObjectEntrySet()) {
+                offset = pack(entry.getValue(), entry.getIntKey(), packed, offset);
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Reads the tracked blocks packed by {@link #toPackedArray}, blocks
+     * without an owner and notifier are dropped.
+     *
+     * @param packed The packed blocks
+     * @return The store
+     */
+    public static TrackedBlockStore fromPackedArray(int[] packed) {
+        final TrackedBlockStore store = new TrackedBlockStore();
+        for (int i = 0; i + PACKED_SIZE <= packed.length; i += PACKED_SIZE) {
+            final int owner = packed[i + 1];
+            final int notifier = packed[i + 2];
+            if (owner != NONE || notifier != NONE) {
+                final int position = packed[i];
+                store.set(position & 0xF, position >> 8, (position >> 4) & 0xF, owner, notifier);
+            }
+        }
+        return store;
+    }
+
+    /**
+     * Packs a position relative to the chunk into an int, the y coordinate
+     * uses the upper 24 bits and keeps its sign.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @return The packed position
+     */
+    public static int packPosition(int x, int y, int z) {
+        return y << 8 | (z & 0xF) << 4 | x & 0xF;
+    }
+
+    private static int pack(@Nullable Section section, int sectionY, int[] packed, int offset) {
+        if (section == null) {
+            return offset;
+        }
+        for (int slot = 0; slot < section.keys.length; slot++) {
+            final int key = section.keys[slot];
+            if (key != 0) {
+                final int index = key - 1;
+                packed[offset++] = packPosition(index & 0xF, sectionY << 4 | index >> 8, (index >> 4) & 0xF);
+                packed[offset++] = section.owners[slot];
+                packed[offset++] = section.notifiers[slot];
+            }
+        }
+        return offset;
+    }
+
+    private int slot(Section section, int index) {
+        final int slot = section.find(index);
+        if (slot >= 0) {
+            return slot;
+        }
+        this.size++;
+        return section.add(index);
+    }
+
+    @Nullable
+    private Section getSection(int y, boolean create) {
+        final int sectionY = y >> 4;
+        if (sectionY >= 0 && sectionY < SECTION_COUNT) {
+            Section section = this.sections[sectionY];
+            if (section == null && create) {
+                section = this.sections[sectionY] = new Section();
+            }
+            return section;
+        }
+        if (this.extraSections == null) {
+            if (!create) {
+                return null;
+            }
+            this.extraSections = new Int2ObjectOpenHashMap<>();
+        }
+        Section section = this.extraSections.get(sectionY);
+        if (section == null && create) {
+            section = new Section();
+            this.extraSections.put(sectionY, section);
+        }
+        return section;
+    }
+
+    private static int index(int x, int y, int z) {
+        return (y & 0xF) << 8 | (z & 0xF) << 4 | x & 0xF;
+    }
+
+    /**
+     * An open addressed table with linear probing. The keys are the indexes
+     * of the blocks in the section plus one, so zero marks a free slot.
+     */
+    private static final class Section {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        short[] keys = new short[INITIAL_CAPACITY];
+        int[] owners = new int[INITIAL_CAPACITY];
+        int[] notifiers = new int[INITIAL_CAPACITY];
+        private int size;
+
+        private static int hash(int index) {
+            // Spread the bits, as nearby blocks only differ in the lower bits of the index
+            final int hash = index * 0x9E3779B9;
+            return hash ^ hash >>> 16;
+        }
+
+        int find(int index) {
+            final int mask = this.keys.length - 1;
+            final short key = (short) (index + 1);
+            int slot = hash(index) & mask;
+            short current;
+            while ((current = this.keys[slot]) != 0) {
+                if (current == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        int add(int index) {
+            // Keep the table at most half full
+            if ((this.size + 1) * 2 > this.keys.length) {
+                rehash(this.keys.length * 2);
+            }
+            final int mask = this.keys.length - 1;
+            int slot = hash(index) & mask;
+            while (this.keys[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            this.keys[slot] = (short) (index + 1);
+            this.owners[slot] = NONE;
+            this.notifiers[slot] = NONE;
+            this.size++;
+            return slot;
+        }
+
+        boolean remove(int index) {
+            int slot = find(index);
+            if (slot < 0) {
+                return false;
+            }
+            this.size--;
+            // Shift the following entries back, so lookups don't stop at the freed slot
+            final int mask = this.keys.length - 1;
+            int last;
+            while (true) {
+                slot = ((last = slot) + 1) & mask;
+                short current;
+                while (true) {
+                    if ((current = this.keys[slot]) == 0) {
+                        this.keys[last] = 0;
+                        return true;
+                    }
+                    final int ideal = hash(current - 1) & mask;
+                    if (last <= slot ? last >= ideal || ideal > slot : last >= ideal && ideal > slot) {
+                        break;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[last] = current;
+                this.owners[last] = this.owners[slot];
+                this.notifiers[last] = this.notifiers[slot];
+            }
+        }
+
+        private void rehash(int capacity) {
+            final short[] oldKeys = this.keys;
+            final int[] oldOwners = this.owners;
+            final int[] oldNotifiers = this.notifiers;
+            this.keys = new short[capacity];
+            this.owners = new int[capacity];
+            this.notifiers = new int[capacity];
+            final int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                final short key = oldKeys[i];
+                if (key != 0) {
+                    int slot = hash(key - 1) & mask;
+                    while (this.keys[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    this.keys[slot] = key;
+                    this.owners[slot] = oldOwners[i];
+                    this.notifiers[slot] = oldNotifiers[i];
+                }
+            }
+        }
+    }
+}
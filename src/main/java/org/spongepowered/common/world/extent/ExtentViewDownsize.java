@@ -91,6 +91,15 @@ public ExtentViewDownsize(Extent extent, Vector3i blockMin, Vector3i blockMax) {
         this.biomeSize = this.biomeMax.sub(this.biomeMin).add(Vector3i.ONE);
     }
 
+    /**
+     * Gets the extent this is a view of.
+     *
+     * @return The viewed extent
+     */
+    public Extent getExtent() {
+        return this.extent;
+    }
+
     @Override
     public UUID getUniqueId() {
         return this.extent.getUniqueId();
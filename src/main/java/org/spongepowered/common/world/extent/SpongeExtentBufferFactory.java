@@ -31,7 +31,10 @@
 import org.spongepowered.api.world.extent.MutableBiomeVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.schematic.BlockPaletteTypes;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.OptimizationCategory;
 import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
+import org.spongepowered.common.util.gen.BlockBufferStorage;
 import org.spongepowered.common.util.gen.ByteArrayMutableBiomeBuffer;
 import org.spongepowered.common.world.schematic.SpongeArchetypeVolume;
 
@@ -54,7 +57,7 @@ public MutableBiomeVolume createThreadSafeBiomeBuffer(Vector3i size) {
 
     @Override
     public MutableBlockVolume createBlockBuffer(Vector3i size) {
-        return new ArrayMutableBlockBuffer(Vector3i.ZERO, size);
+        return new ArrayMutableBlockBuffer(Vector3i.ZERO, size, getStorage(size));
     }
 
     @Override
@@ -64,8 +67,17 @@ public MutableBlockVolume createThreadSafeBlockBuffer(Vector3i size) {
 
     @Override
     public ArchetypeVolume createArchetypeVolume(Vector3i size, Vector3i origin) {
-        MutableBlockVolume backing = new ArrayMutableBlockBuffer(origin.mul(-1), size);
+        MutableBlockVolume backing = new ArrayMutableBlockBuffer(origin.mul(-1), size, getStorage(size));
         return new SpongeArchetypeVolume(backing, ImmutableMap.of());
     }
 
+    private static BlockBufferStorage getStorage(Vector3i size) {
+        final OptimizationCategory optimizations = SpongeImpl.getGlobalConfig().getConfig().getOptimizations();
+        final int threshold = optimizations.getOffHeapBlockBufferThreshold();
+        if (threshold <= 0 || (long) size.getX() * size.getY() * size.getZ() < threshold) {
+            return BlockBufferStorage.HEAP;
+        }
+        return BlockBufferStorage.fromName(optimizations.getOffHeapBlockBufferStorage());
+    }
+
 }
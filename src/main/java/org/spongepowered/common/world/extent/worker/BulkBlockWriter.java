@@ -0,0 +1,379 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent.worker;
+
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.Transaction;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.tracking.TrackingUtil;
+import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMapEntry;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.BlockChange;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes a batch of block states straight into the {@link ExtendedBlockStorage}
+ * sections of a {@link WorldServer}, bypassing the per-block capture, physics
+ * and packet handling of {@link WorldServer#setBlockState}.
+ *
+ * <p>Changes are reported like captured block changes are: one aggregated
+ * {@link ChangeBlockEvent.Break}, {@link ChangeBlockEvent.Place} and
+ * {@link ChangeBlockEvent.Modify} each, followed by a
+ * {@link ChangeBlockEvent.Post} holding every transaction. Transactions are
+ * only created once a listener asks for them. Lighting is
+ * recalculated and the chunk resent to players once per touched chunk when
+ * the batch is {@link #finish() finished}. Neighbours are not notified of the
+ * changes.</p>
+ */
+final class BulkBlockWriter {
+
+    private final WorldServer world;
+    private final Cause cause;
+    private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+    private final Long2ObjectMap<ChunkChanges> chunks = new Long2ObjectOpenHashMap<>();
+    @Nullable private ChunkChanges lastChunk;
+
+    // Flat record of every change, in the order it was made
+    private final LongArrayList positions = new LongArrayList();
+    private final List<IBlockState> originals = new ArrayList<>();
+    // Indices of the changes per BlockChange, to split the aggregated events
+    private final IntArrayList[] changeIndices = new IntArrayList[BlockChange.values().length];
+    // The BlockChange ordinal of every change
+    private final ByteArrayList changeTypes = new ByteArrayList();
+    // Tile entities are gone once replaced, so their snapshots are taken eagerly
+    private final Int2ObjectMap<SpongeBlockSnapshot> tileOriginals = new Int2ObjectOpenHashMap<>();
+
+    BulkBlockWriter(WorldServer world, Cause cause) {
+        this.world = world;
+        this.cause = cause;
+        for (int i = 0; i < this.changeIndices.length; i++) {
+            this.changeIndices[i] = new IntArrayList();
+        }
+    }
+
+    void setBlock(int x, int y, int z, BlockState block) {
+        if (y < 0 || y > 255) {
+            return;
+        }
+        final ChunkChanges changes = getChunk(x >> 4, z >> 4);
+        if (changes == null) {
+            return;
+        }
+        this.pos.setPos(x, y, z);
+        final IBlockState newState = (IBlockState) block;
+        final IBlockState oldState = changes.chunk.getBlockState(this.pos);
+        if (oldState == newState) {
+            return;
+        }
+        final int index = this.positions.size();
+        final Block oldBlock = oldState.getBlock();
+        if (SpongeImplHooks.hasBlockTileEntity(oldBlock, oldState) && changes.chunk.getTileEntity(this.pos, Chunk.EnumCreateEntityType.CHECK) != null) {
+            this.tileOriginals.put(index, ((IMixinWorldServer) this.world).createSpongeBlockSnapshot(oldState, oldState, this.pos.toImmutable(), 3));
+        }
+        write(changes, this.pos, oldState, newState);
+        this.positions.add(this.pos.toLong());
+        this.originals.add(oldState);
+        final BlockChange blockChange = getBlockChange(oldBlock, newState.getBlock());
+        this.changeIndices[blockChange.ordinal()].add(index);
+        this.changeTypes.add((byte) blockChange.ordinal());
+    }
+
+    private static BlockChange getBlockChange(Block oldBlock, Block newBlock) {
+        // Mirrors how captured block changes are classified
+        if (newBlock == Blocks.AIR) {
+            return BlockChange.BREAK;
+        } else if (newBlock != oldBlock && !TrackingUtil.forceModify(oldBlock, newBlock)) {
+            return BlockChange.PLACE;
+        }
+        return BlockChange.MODIFY;
+    }
+
+    /**
+     * Posts the aggregated events, rolls back whatever listeners cancelled or
+     * invalidated and then relights and resends every touched chunk.
+     */
+    void finish() {
+        if (!this.positions.isEmpty() && ShouldFire.CHANGE_BLOCK_EVENT) {
+            final TransactionList transactions = new TransactionList();
+            boolean cancelled = false;
+            for (BlockChange blockChange : BlockChange.values()) {
+                final IntArrayList indices = this.changeIndices[blockChange.ordinal()];
+                if (indices.isEmpty()) {
+                    continue;
+                }
+                // The events only see views of the shared list, so transactions are still only created on demand
+                final ChangeBlockEvent event = createEvent(blockChange, new IndexedTransactionList(transactions, indices));
+                if (event == null) {
+                    continue;
+                }
+                SpongeImpl.postEvent(event);
+                if (event.isCancelled()) {
+                    // Don't restore the transactions just yet, since we're just marking them as invalid for now
+                    transactions.cancel(blockChange);
+                }
+            }
+            if (ShouldFire.CHANGE_BLOCK_EVENT_POST) {
+                final ChangeBlockEvent.Post event = SpongeEventFactory.createChangeBlockEventPost(this.cause, transactions);
+                SpongeImpl.postEvent(event);
+                cancelled = event.isCancelled();
+            }
+            // Restore in reverse order of the changes, only transactions a listener has looked at can have been changed
+            for (int i = this.positions.size() - 1; i >= 0; i--) {
+                final Transaction<BlockSnapshot> transaction = transactions.created.get(i);
+                if (cancelled || transactions.isCancelled(i) || (transaction != null && !transaction.isValid())) {
+                    restore(i);
+                } else if (transaction != null && transaction.getCustom().isPresent()) {
+                    transaction.getCustom().get().restore(true, BlockChangeFlag.NONE);
+                }
+            }
+        }
+        for (ChunkChanges changes : this.chunks.values()) {
+            changes.finish();
+        }
+        this.chunks.clear();
+        this.lastChunk = null;
+    }
+
+    /**
+     * Creates the aggregated event of a kind of change, or null if nobody
+     * listens for it.
+     */
+    @Nullable
+    private ChangeBlockEvent createEvent(BlockChange blockChange, List<Transaction<BlockSnapshot>> transactions) {
+        switch (blockChange) {
+            case BREAK:
+                return ShouldFire.CHANGE_BLOCK_EVENT_BREAK ? SpongeEventFactory.createChangeBlockEventBreak(this.cause, transactions) : null;
+            case PLACE:
+                return ShouldFire.CHANGE_BLOCK_EVENT_PLACE ? SpongeEventFactory.createChangeBlockEventPlace(this.cause, transactions) : null;
+            case MODIFY:
+                return ShouldFire.CHANGE_BLOCK_EVENT_MODIFY ? SpongeEventFactory.createChangeBlockEventModify(this.cause, transactions) : null;
+            default:
+                return null;
+        }
+    }
+
+    @Nullable
+    private ChunkChanges getChunk(int chunkX, int chunkZ) {
+        final ChunkChanges last = this.lastChunk;
+        if (last != null && last.chunk.xPosition == chunkX && last.chunk.zPosition == chunkZ) {
+            return last;
+        }
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        ChunkChanges changes = this.chunks.get(key);
+        if (changes == null) {
+            final Chunk chunk = this.world.getChunkFromChunkCoords(chunkX, chunkZ);
+            if (chunk.isEmpty()) {
+                return null;
+            }
+            changes = new ChunkChanges(chunk);
+            this.chunks.put(key, changes);
+        }
+        this.lastChunk = changes;
+        return changes;
+    }
+
+    private void restore(int index) {
+        final BlockPos pos = BlockPos.fromLong(this.positions.getLong(index));
+        final ChunkChanges changes = getChunk(pos.getX() >> 4, pos.getZ() >> 4);
+        final IBlockState original = this.originals.get(index);
+        write(changes, pos, changes.chunk.getBlockState(pos), original);
+        final SpongeBlockSnapshot tileOriginal = this.tileOriginals.get(index);
+        if (tileOriginal != null) {
+            tileOriginal.restore(true, BlockChangeFlag.NONE);
+        }
+    }
+
+    private void write(ChunkChanges changes, BlockPos pos, IBlockState oldState, IBlockState newState) {
+        final Chunk chunk = changes.chunk;
+        final ExtendedBlockStorage[] sections = chunk.getBlockStorageArray();
+        final int sectionY = pos.getY() >> 4;
+        ExtendedBlockStorage section = sections[sectionY];
+        if (section == Chunk.NULL_BLOCK_STORAGE) {
+            if (newState.getBlock() == Blocks.AIR) {
+                return;
+            }
+            section = new ExtendedBlockStorage(sectionY << 4, this.world.provider.hasSkyLight());
+            sections[sectionY] = section;
+        }
+
+        final Block oldBlock = oldState.getBlock();
+        final Block newBlock = newState.getBlock();
+        if (SpongeImplHooks.hasBlockTileEntity(oldBlock, oldState)) {
+            final TileEntity tile = chunk.getTileEntity(pos, Chunk.EnumCreateEntityType.CHECK);
+            if (tile != null && SpongeImplHooks.shouldRefresh(tile, this.world, pos, oldState, newState)) {
+                this.world.removeTileEntity(pos);
+            }
+        }
+
+        section.set(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15, newState);
+
+        if (SpongeImplHooks.hasBlockTileEntity(newBlock, newState)) {
+            final TileEntity tile = chunk.getTileEntity(pos, Chunk.EnumCreateEntityType.CHECK);
+            if (tile == null) {
+                final TileEntity created = SpongeImplHooks.createTileEntity(newBlock, this.world, newState);
+                if (created != null) {
+                    this.world.setTileEntity(pos.toImmutable(), created);
+                }
+            } else {
+                tile.updateContainingBlockInfo();
+            }
+        }
+
+        if (oldState.getLightValue() != newState.getLightValue()) {
+            changes.lightChanges.add(pos.toLong());
+        }
+    }
+
+    private final class ChunkChanges {
+
+        final Chunk chunk;
+        // Positions whose emitted block light changed
+        final LongArrayList lightChanges = new LongArrayList();
+
+        ChunkChanges(Chunk chunk) {
+            this.chunk = chunk;
+        }
+
+        void finish() {
+            this.chunk.generateSkylightMap();
+            this.chunk.setLightPopulated(false);
+            this.chunk.resetRelightChecks();
+            for (int i = 0; i < this.lightChanges.size(); i++) {
+                BulkBlockWriter.this.world.checkLightFor(EnumSkyBlock.BLOCK, BlockPos.fromLong(this.lightChanges.getLong(i)));
+            }
+            this.chunk.setChunkModified();
+            final PlayerChunkMapEntry entry = BulkBlockWriter.this.world.getPlayerChunkMap().getEntry(this.chunk.xPosition, this.chunk.zPosition);
+            if (entry != null) {
+                ((IMixinPlayerChunkMapEntry) entry).markChunkForResend();
+            }
+        }
+    }
+
+    /**
+     * Creates the transactions of the event on demand, so that a listener
+     * that never inspects them does not pay for a snapshot of every block.
+     */
+    private final class TransactionList extends AbstractList<Transaction<BlockSnapshot>> {
+
+        final Int2ObjectMap<Transaction<BlockSnapshot>> created = new Int2ObjectOpenHashMap<>();
+        // Kinds of changes whose event was cancelled, their transactions are invalid
+        private final boolean[] cancelled = new boolean[BlockChange.values().length];
+
+        void cancel(BlockChange blockChange) {
+            this.cancelled[blockChange.ordinal()] = true;
+            for (Int2ObjectMap.Entry<Transaction<BlockSnapshot>> entry : this.created.int2ObjectEntrySet()) {
+                if (isCancelled(entry.getIntKey())) {
+                    entry.getValue().setValid(false);
+                }
+            }
+        }
+
+        boolean isCancelled(int index) {
+            return this.cancelled[BulkBlockWriter.this.changeTypes.getByte(index)];
+        }
+
+        @Override
+        public Transaction<BlockSnapshot> get(int index) {
+            Transaction<BlockSnapshot> transaction = this.created.get(index);
+            if (transaction == null) {
+                final IMixinWorldServer world = (IMixinWorldServer) BulkBlockWriter.this.world;
+                final BlockPos pos = BlockPos.fromLong(BulkBlockWriter.this.positions.getLong(index));
+                SpongeBlockSnapshot original = BulkBlockWriter.this.tileOriginals.get(index);
+                if (original == null) {
+                    final IBlockState originalState = BulkBlockWriter.this.originals.get(index);
+                    original = world.createSpongeBlockSnapshot(originalState, originalState, pos, 3);
+                }
+                final IBlockState currentState = BulkBlockWriter.this.world.getBlockState(pos);
+                transaction = new Transaction<>(original, world.createSpongeBlockSnapshot(currentState, currentState, pos, 3));
+                if (isCancelled(index)) {
+                    transaction.setValid(false);
+                }
+                this.created.put(index, transaction);
+            }
+            return transaction;
+        }
+
+        @Override
+        public int size() {
+            return BulkBlockWriter.this.positions.size();
+        }
+    }
+
+    /**
+     * A view of the transactions of a single {@link BlockChange}.
+     */
+    private static final class IndexedTransactionList extends AbstractList<Transaction<BlockSnapshot>> {
+
+        private final TransactionList transactions;
+        private final IntArrayList indices;
+
+        IndexedTransactionList(TransactionList transactions, IntArrayList indices) {
+            this.transactions = transactions;
+            this.indices = indices;
+        }
+
+        @Override
+        public Transaction<BlockSnapshot> get(int index) {
+            return this.transactions.get(this.indices.getInt(index));
+        }
+
+        @Override
+        public int size() {
+            return this.indices.size();
+        }
+    }
+
+}
@@ -0,0 +1,290 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent.worker;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableMap;
+import org.spongepowered.api.data.ImmutableDataHolder;
+import org.spongepowered.common.SpongeImpl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+
+import javax.annotation.Nullable;
+
+/**
+ * Splits a volume into sub-cubes that are reduced or visited on the common
+ * {@link ForkJoinPool}. Only volumes that can safely be read from several
+ * threads at once, that is immutable ones, may be processed this way.
+ */
+final class ParallelVolumeTasks {
+
+    /**
+     * The amount of voxels below which a sub-cube is no longer split.
+     */
+    static final int LEAF_SIZE = 4096;
+
+    @FunctionalInterface
+    interface VoxelReducer<T> {
+
+        T reduce(int x, int y, int z, T reduction);
+    }
+
+    @FunctionalInterface
+    interface VoxelVisitor {
+
+        void visit(int x, int y, int z);
+    }
+
+    /**
+     * Gets whether a volume of the given size should be processed in
+     * parallel, according to the configured threshold and the amount of
+     * available cores.
+     *
+     * @param size The size of the volume
+     * @return Whether to run in parallel
+     */
+    static boolean shouldRunInParallel(Vector3i size) {
+        final int threshold = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getParallelVolumeWorkerThreshold();
+        return threshold > 0 && ForkJoinPool.getCommonPoolParallelism() > 1 && (long) size.getX() * size.getY() * size.getZ() >= Math.max(threshold, LEAF_SIZE * 2);
+    }
+
+    /**
+     * Gets whether the given identity can be shared by every sub-cube of a
+     * parallel reduction, that is whether it is known to be immutable. The
+     * reduction API only hands over a single identity instance, so reducers
+     * that accumulate into a mutable identity have to run sequentially.
+     *
+     * @param identity The identity of the reduction
+     * @return Whether the identity is known to be immutable
+     */
+    static boolean isSharedIdentity(@Nullable Object identity) {
+        if (identity == null || identity instanceof Enum) {
+            return true;
+        }
+        final Class<?> type = identity.getClass();
+        if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class || type == Double.class
+                || type == Float.class || type == Boolean.class || type == Character.class || type == String.class
+                || type == BigInteger.class || type == BigDecimal.class || type == Optional.class) {
+            return true;
+        }
+        // All flow-math vectors are immutable
+        return identity instanceof ImmutableCollection || identity instanceof ImmutableMap || identity instanceof ImmutableDataHolder
+                || type.getName().startsWith("com.flowpowered.math.vector.");
+    }
+
+    /**
+     * Reduces the given volume in parallel. The volume is only split along
+     * the order it is iterated in, z then y then x, so the partial results
+     * are merged in encounter order and the merge function only needs to be
+     * associative. Every sub-cube starts from the same identity, which must
+     * therefore be a true identity of the merge function and must not be
+     * mutated by the reducer, see {@link #isSharedIdentity}.
+     *
+     * @param min The minimum corner of the volume
+     * @param max The maximum corner of the volume
+     * @param reducer The reducer for single voxels
+     * @param merge The function to merge partial results
+     * @param identity The identity of the merge function
+     * @param <T> The type of the reduction
+     * @return The reduction
+     */
+    static <T> T reduce(Vector3i min, Vector3i max, VoxelReducer<T> reducer, BiFunction<T, T, T> merge, T identity) {
+        return ForkJoinPool.commonPool().invoke(new ReduceTask<>(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ(),
+                reducer, merge, identity));
+    }
+
+    static void iterate(Vector3i min, Vector3i max, VoxelVisitor visitor) {
+        ForkJoinPool.commonPool().invoke(new IterateTask(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ(), visitor));
+    }
+
+    /**
+     * Gets the axis along which a cube should be split in half, or -1 if it
+     * is small enough to be processed directly.
+     */
+    static int splitAxis(int xSize, int ySize, int zSize) {
+        if ((long) xSize * ySize * zSize <= LEAF_SIZE) {
+            return -1;
+        }
+        if (xSize >= ySize && xSize >= zSize) {
+            return 0;
+        }
+        return ySize >= zSize ? 1 : 2;
+    }
+
+    /**
+     * Gets the axis along which a cube that is reduced should be split in
+     * half, or -1 if it is small enough to be processed directly. Unlike
+     * {@link #splitAxis}, this keeps each half a contiguous range of the
+     * iteration order.
+     */
+    static int reduceSplitAxis(int xSize, int ySize, int zSize) {
+        if ((long) xSize * ySize * zSize <= LEAF_SIZE) {
+            return -1;
+        }
+        if (zSize > 1) {
+            return 2;
+        }
+        return ySize > 1 ? 1 : 0;
+    }
+
+    private ParallelVolumeTasks() {
+    }
+
+    private static final class ReduceTask<T> extends RecursiveTask<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int xMin;
+        private final int yMin;
+        private final int zMin;
+        private final int xMax;
+        private final int yMax;
+        private final int zMax;
+        private final VoxelReducer<T> reducer;
+        private final BiFunction<T, T, T> merge;
+        private final T identity;
+
+        ReduceTask(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax, VoxelReducer<T> reducer, BiFunction<T, T, T> merge, T identity) {
+            this.xMin = xMin;
+            this.yMin = yMin;
+            this.zMin = zMin;
+            this.xMax = xMax;
+            this.yMax = yMax;
+            this.zMax = zMax;
+            this.reducer = reducer;
+            this.merge = merge;
+            this.identity = identity;
+        }
+
+        @Override
+        protected T compute() {
+            final ReduceTask<T> first;
+            final ReduceTask<T> second;
+            switch (reduceSplitAxis(this.xMax - this.xMin + 1, this.yMax - this.yMin + 1, this.zMax - this.zMin + 1)) {
+                case 0: {
+                    final int mid = (this.xMin + this.xMax) >> 1;
+                    first = split(this.xMin, this.yMin, this.zMin, mid, this.yMax, this.zMax);
+                    second = split(mid + 1, this.yMin, this.zMin, this.xMax, this.yMax, this.zMax);
+                    break;
+                }
+                case 1: {
+                    final int mid = (this.yMin + this.yMax) >> 1;
+                    first = split(this.xMin, this.yMin, this.zMin, this.xMax, mid, this.zMax);
+                    second = split(this.xMin, mid + 1, this.zMin, this.xMax, this.yMax, this.zMax);
+                    break;
+                }
+                case 2: {
+                    final int mid = (this.zMin + this.zMax) >> 1;
+                    first = split(this.xMin, this.yMin, this.zMin, this.xMax, this.yMax, mid);
+                    second = split(this.xMin, this.yMin, mid + 1, this.xMax, this.yMax, this.zMax);
+                    break;
+                }
+                default: {
+                    T reduction = this.identity;
+                    for (int z = this.zMin; z <= this.zMax; z++) {
+                        for (int y = this.yMin; y <= this.yMax; y++) {
+                            for (int x = this.xMin; x <= this.xMax; x++) {
+                                reduction = this.reducer.reduce(x, y, z, reduction);
+                            }
+                        }
+                    }
+                    return reduction;
+                }
+            }
+            second.fork();
+            final T firstResult = first.compute();
+            // The first half precedes the second in iteration order, so the merge function needn't be commutative
+            return this.merge.apply(firstResult, second.join());
+        }
+
+        private ReduceTask<T> split(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax) {
+            return new ReduceTask<>(xMin, yMin, zMin, xMax, yMax, zMax, this.reducer, this.merge, this.identity);
+        }
+    }
+
+    private static final class IterateTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int xMin;
+        private final int yMin;
+        private final int zMin;
+        private final int xMax;
+        private final int yMax;
+        private final int zMax;
+        private final VoxelVisitor visitor;
+
+        IterateTask(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax, VoxelVisitor visitor) {
+            this.xMin = xMin;
+            this.yMin = yMin;
+            this.zMin = zMin;
+            this.xMax = xMax;
+            this.yMax = yMax;
+            this.zMax = zMax;
+            this.visitor = visitor;
+        }
+
+        @Override
+        protected void compute() {
+            switch (splitAxis(this.xMax - this.xMin + 1, this.yMax - this.yMin + 1, this.zMax - this.zMin + 1)) {
+                case 0: {
+                    final int mid = (this.xMin + this.xMax) >> 1;
+                    invokeAll(new IterateTask(this.xMin, this.yMin, this.zMin, mid, this.yMax, this.zMax, this.visitor),
+                            new IterateTask(mid + 1, this.yMin, this.zMin, this.xMax, this.yMax, this.zMax, this.visitor));
+                    break;
+                }
+                case 1: {
+                    final int mid = (this.yMin + this.yMax) >> 1;
+                    invokeAll(new IterateTask(this.xMin, this.yMin, this.zMin, this.xMax, mid, this.zMax, this.visitor),
+                            new IterateTask(this.xMin, mid + 1, this.zMin, this.xMax, this.yMax, this.zMax, this.visitor));
+                    break;
+                }
+                case 2: {
+                    final int mid = (this.zMin + this.zMax) >> 1;
+                    invokeAll(new IterateTask(this.xMin, this.yMin, this.zMin, this.xMax, this.yMax, mid, this.visitor),
+                            new IterateTask(this.xMin, this.yMin, mid + 1, this.xMax, this.yMax, this.zMax, this.visitor));
+                    break;
+                }
+                default: {
+                    for (int z = this.zMin; z <= this.zMax; z++) {
+                        for (int y = this.yMin; y <= this.yMax; y++) {
+                            for (int x = this.xMin; x <= this.xMax; x++) {
+                                this.visitor.visit(x, y, z);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+}
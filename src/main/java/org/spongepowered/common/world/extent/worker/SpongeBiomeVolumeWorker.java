@@ -29,6 +29,7 @@
 import com.flowpowered.math.vector.Vector3i;
 import org.spongepowered.api.world.biome.BiomeType;
 import org.spongepowered.api.world.extent.BiomeVolume;
+import org.spongepowered.api.world.extent.ImmutableBiomeVolume;
 import org.spongepowered.api.world.extent.MutableBiomeVolume;
 import org.spongepowered.api.world.extent.UnmodifiableBiomeVolume;
 import org.spongepowered.api.world.extent.worker.BiomeVolumeWorker;
@@ -115,6 +116,10 @@ public void iterate(BiomeVolumeVisitor<V> visitor) {
         final int xMax = this.volume.getBiomeMax().getX();
         final int yMax = this.volume.getBiomeMax().getY();
         final int zMax = this.volume.getBiomeMax().getZ();
+        if (this.volume instanceof ImmutableBiomeVolume && ParallelVolumeTasks.shouldRunInParallel(this.volume.getBiomeSize())) {
+            ParallelVolumeTasks.iterate(this.volume.getBiomeMin(), this.volume.getBiomeMax(), (x, y, z) -> visitor.visit(this.volume, x, y, z));
+            return;
+        }
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
@@ -133,6 +138,11 @@ public <T> T reduce(BiomeVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         final int xMax = unmodifiableArea.getBiomeMax().getX();
         final int yMax = unmodifiableArea.getBiomeMax().getY();
         final int zMax = unmodifiableArea.getBiomeMax().getZ();
+        if (this.volume instanceof ImmutableBiomeVolume && ParallelVolumeTasks.shouldRunInParallel(unmodifiableArea.getBiomeSize())
+                && ParallelVolumeTasks.isSharedIdentity(identity)) {
+            return ParallelVolumeTasks.reduce(unmodifiableArea.getBiomeMin(), unmodifiableArea.getBiomeMax(),
+                    (x, y, z, reduction) -> reducer.reduce(unmodifiableArea, x, y, z, reduction), merge, identity);
+        }
         T reduction = identity;
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
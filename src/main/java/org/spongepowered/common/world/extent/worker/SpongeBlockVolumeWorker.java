@@ -27,11 +27,15 @@
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.world.WorldServer;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.NamedCause;
+import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.Extent;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
 import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
@@ -44,9 +48,12 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.extent.ExtentViewDownsize;
 
 import java.util.function.BiFunction;
 
+import javax.annotation.Nullable;
+
 /**
  *
  */
@@ -85,12 +92,24 @@ public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
                 .addCaptures()
                 .complete());
         }
-        for (int z = zMin; z <= zMax; z++) {
-            for (int y = yMin; y <= yMax; y++) {
-                for (int x = xMin; x <= xMax; x++) {
-                    final BlockState block = mapper.map(unmodifiableVolume, x, y, z);
+        final BulkBlockWriter writer = createBulkWriter(destination);
+        if (writer != null) {
+            for (int z = zMin; z <= zMax; z++) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        writer.setBlock(x + xOffset, y + yOffset, z + zOffset, mapper.map(unmodifiableVolume, x, y, z));
+                    }
+                }
+            }
+            writer.finish();
+        } else {
+            for (int z = zMin; z <= zMax; z++) {
+                for (int y = yMin; y <= yMax; y++) {
+                    for (int x = xMin; x <= xMax; x++) {
+                        final BlockState block = mapper.map(unmodifiableVolume, x, y, z);
 
-                    destination.setBlock(x + xOffset, y + yOffset, z + zOffset, block, this.cause);
+                        destination.setBlock(x + xOffset, y + yOffset, z + zOffset, block, this.cause);
+                    }
                 }
             }
         }
@@ -117,23 +136,29 @@ public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolu
         final int yMax = firstUnmodifiableVolume.getBlockMax().getY();
         final int zMax = firstUnmodifiableVolume.getBlockMax().getZ();
         final UnmodifiableBlockVolume secondUnmodifiableVolume = second.getUnmodifiableBlockView();
-        // TODO integrate with the cause tracker to handle the block sets in
-        // a single go, requiring only one event
         if (CauseTracker.ENABLED) {
             CauseTracker.getInstance().switchToPhase(PluginPhase.State.BLOCK_WORKER, PhaseContext.start()
                 .add(NamedCause.source(this))
                 .addCaptures()
                 .complete());
         }
+        final BulkBlockWriter writer = createBulkWriter(destination);
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
                     final BlockState block = merger.merge(firstUnmodifiableVolume, x, y, z,
                         secondUnmodifiableVolume, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond);
-                    destination.setBlock(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, block, this.cause);
+                    if (writer != null) {
+                        writer.setBlock(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, block);
+                    } else {
+                        destination.setBlock(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, block, this.cause);
+                    }
                 }
             }
         }
+        if (writer != null) {
+            writer.finish();
+        }
         if (CauseTracker.ENABLED) {
             CauseTracker.getInstance().completePhase(PluginPhase.State.BLOCK_WORKER);
         }
@@ -147,6 +172,10 @@ public void iterate(BlockVolumeVisitor<V> visitor) {
         final int xMax = this.volume.getBlockMax().getX();
         final int yMax = this.volume.getBlockMax().getY();
         final int zMax = this.volume.getBlockMax().getZ();
+        if (this.volume instanceof ImmutableBlockVolume && ParallelVolumeTasks.shouldRunInParallel(this.volume.getBlockSize())) {
+            ParallelVolumeTasks.iterate(this.volume.getBlockMin(), this.volume.getBlockMax(), (x, y, z) -> visitor.visit(this.volume, x, y, z));
+            return;
+        }
         if (CauseTracker.ENABLED) {
             CauseTracker.getInstance().switchToPhase(PluginPhase.State.BLOCK_WORKER, PhaseContext.start()
                 .add(NamedCause.source(this))
@@ -174,6 +203,11 @@ public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         final int xMax = unmodifiableVolume.getBlockMax().getX();
         final int yMax = unmodifiableVolume.getBlockMax().getY();
         final int zMax = unmodifiableVolume.getBlockMax().getZ();
+        if (this.volume instanceof ImmutableBlockVolume && ParallelVolumeTasks.shouldRunInParallel(unmodifiableVolume.getBlockSize())
+                && ParallelVolumeTasks.isSharedIdentity(identity)) {
+            return ParallelVolumeTasks.reduce(unmodifiableVolume.getBlockMin(), unmodifiableVolume.getBlockMax(),
+                    (x, y, z, reduction) -> reducer.reduce(unmodifiableVolume, x, y, z, reduction), merge, identity);
+        }
         T reduction = identity;
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
@@ -185,6 +219,31 @@ public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         return reduction;
     }
 
+    /**
+     * Gets a writer that sets the blocks of the destination in bulk, if the
+     * destination is backed by a server world.
+     *
+     * @param destination The destination volume
+     * @return The bulk writer, or null if blocks have to be set one by one
+     */
+    @Nullable
+    private BulkBlockWriter createBulkWriter(MutableBlockVolume destination) {
+        Extent extent = destination instanceof Extent ? (Extent) destination : null;
+        while (extent instanceof ExtentViewDownsize) {
+            extent = ((ExtentViewDownsize) extent).getExtent();
+        }
+        final WorldServer world;
+        if (extent instanceof WorldServer) {
+            world = (WorldServer) extent;
+        } else if (extent instanceof net.minecraft.world.chunk.Chunk && ((net.minecraft.world.chunk.Chunk) extent).getWorld() instanceof WorldServer) {
+            world = (WorldServer) ((net.minecraft.world.chunk.Chunk) extent).getWorld();
+        } else {
+            return null;
+        }
+        checkArgument(this.cause.root() instanceof PluginContainer, "PluginContainer must be at the ROOT of a cause!");
+        return new BulkBlockWriter(world, this.cause);
+    }
+
     private Vector3i align(BlockVolume other) {
         final Vector3i thisSize = this.volume.getBlockSize();
         final Vector3i otherSize = other.getBlockSize();
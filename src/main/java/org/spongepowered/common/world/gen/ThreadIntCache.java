@@ -0,0 +1,90 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gen;
+
+import com.google.common.collect.Lists;
+
+import java.util.List;
+
+/**
+ * A copy of the int cache of the biome layers, for a single thread. The
+ * vanilla cache is shared by all threads and resetting it from one thread
+ * frees arrays which are still used by another.
+ */
+public final class ThreadIntCache {
+
+    /**
+     * A thread which generates biomes with its own {@link ThreadIntCache}.
+     */
+    public interface Owner {
+
+        ThreadIntCache getIntCache();
+    }
+
+    private int intCacheSize = 256;
+    private final List<int[]> freeSmallArrays = Lists.newArrayList();
+    private final List<int[]> inUseSmallArrays = Lists.newArrayList();
+    private final List<int[]> freeLargeArrays = Lists.newArrayList();
+    private final List<int[]> inUseLargeArrays = Lists.newArrayList();
+
+    /**
+     * Mirrors {@code IntCache.getIntCache} for the current thread.
+     *
+     * @param size The minimum size of the array
+     * @return An array which isn't in use
+     */
+    public int[] getIntCache(int size) {
+        final int[] array;
+        if (size <= 256) {
+            array = this.freeSmallArrays.isEmpty() ? new int[256] : this.freeSmallArrays.remove(this.freeSmallArrays.size() - 1);
+            this.inUseSmallArrays.add(array);
+        } else {
+            if (size > this.intCacheSize) {
+                this.intCacheSize = size;
+                this.freeLargeArrays.clear();
+                this.inUseLargeArrays.clear();
+            }
+            array = this.freeLargeArrays.isEmpty() ? new int[this.intCacheSize] : this.freeLargeArrays.remove(this.freeLargeArrays.size() - 1);
+            this.inUseLargeArrays.add(array);
+        }
+        return array;
+    }
+
+    /**
+     * Mirrors {@code IntCache.resetIntCache} for the current thread.
+     */
+    public void resetIntCache() {
+        if (!this.freeLargeArrays.isEmpty()) {
+            this.freeLargeArrays.remove(this.freeLargeArrays.size() - 1);
+        }
+        if (!this.freeSmallArrays.isEmpty()) {
+            this.freeSmallArrays.remove(this.freeSmallArrays.size() - 1);
+        }
+        this.freeLargeArrays.addAll(this.inUseLargeArrays);
+        this.freeSmallArrays.addAll(this.inUseSmallArrays);
+        this.inUseLargeArrays.clear();
+        this.inUseSmallArrays.clear();
+    }
+}
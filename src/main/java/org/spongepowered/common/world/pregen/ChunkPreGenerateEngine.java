@@ -0,0 +1,112 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.pregen;
+
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.gen.SpongeChunkGenerator;
+import org.spongepowered.common.world.gen.TerrainGenerationThread;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Generates the terrain of chunks on a pool of {@link TerrainGenerationThread}s,
+ * every thread uses its own copy of the chunk generator of the world. The
+ * chunks still have to be added to the world and populated on the server
+ * thread.
+ */
+final class ChunkPreGenerateEngine {
+
+    private final ExecutorService executor;
+    private final BlockingQueue<SpongeChunkGenerator> generators;
+    private final int threads;
+
+    /**
+     * Creates an engine for the given world.
+     *
+     * @param world The world
+     * @param threads The amount of threads
+     * @return The engine, or null if the generator of the world can't
+     *     generate terrain off the server thread
+     */
+    @Nullable
+    static ChunkPreGenerateEngine create(WorldServer world, int threads) {
+        final BlockingQueue<SpongeChunkGenerator> generators = new ArrayBlockingQueue<>(threads);
+        for (int i = 0; i < threads; i++) {
+            final SpongeChunkGenerator generator = ((IMixinWorldServer) world).createTerrainGenerator();
+            if (generator == null) {
+                return null;
+            }
+            generators.add(generator);
+        }
+        return new ChunkPreGenerateEngine(generators, threads);
+    }
+
+    private ChunkPreGenerateEngine(BlockingQueue<SpongeChunkGenerator> generators, int threads) {
+        final AtomicInteger threadId = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new TerrainGenerationThread(runnable, "Sponge - Chunk Pre-Generation Thread #" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.generators = generators;
+        this.threads = threads;
+    }
+
+    int getThreads() {
+        return this.threads;
+    }
+
+    /**
+     * Generates the terrain of the chunk at the given position.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The future of the chunk, which isn't added to the world
+     */
+    CompletableFuture<Chunk> generate(int x, int z) {
+        return CompletableFuture.supplyAsync(() -> {
+            // There are as many generators as threads, so this never waits
+            final SpongeChunkGenerator generator = this.generators.poll();
+            try {
+                return generator.provideChunk(x, z);
+            } finally {
+                this.generators.add(generator);
+            }
+        }, this.executor);
+    }
+
+    void shutdown() {
+        this.executor.shutdownNow();
+    }
+}
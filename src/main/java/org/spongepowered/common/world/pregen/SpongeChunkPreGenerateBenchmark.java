@@ -0,0 +1,97 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.pregen;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import net.minecraft.world.WorldServer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+
+/**
+ * Measures how fast the terrain of a world can be generated by the chunk
+ * pre-generation threads. The chunks are thrown away instead of being
+ * populated and saved, so the world isn't changed.
+ */
+public final class SpongeChunkPreGenerateBenchmark {
+
+    private final int chunkCount;
+    private final Duration duration;
+
+    private SpongeChunkPreGenerateBenchmark(int chunkCount, Duration duration) {
+        this.chunkCount = chunkCount;
+        this.duration = duration;
+    }
+
+    /**
+     * Generates the terrain of a square of chunks.
+     *
+     * @param world The world
+     * @param centerX The chunk x coordinate of the center
+     * @param centerZ The chunk z coordinate of the center
+     * @param chunkRadius The radius of the square in chunks
+     * @param threads The amount of threads
+     * @return The future of the result, or null if the generator of the world
+     *     can't generate terrain off the main thread
+     */
+    @Nullable
+    public static CompletableFuture<SpongeChunkPreGenerateBenchmark> start(WorldServer world, int centerX, int centerZ, int chunkRadius,
+            int threads) {
+        checkArgument(chunkRadius >= 0, "chunkRadius must not be negative");
+        checkArgument(threads > 0, "threads must be greater than zero");
+        final ChunkPreGenerateEngine engine = ChunkPreGenerateEngine.create(world, threads);
+        if (engine == null) {
+            return null;
+        }
+        final long startTime = System.nanoTime();
+        final List<CompletableFuture<Void>> jobs = new ArrayList<>();
+        for (int x = centerX - chunkRadius; x <= centerX + chunkRadius; x++) {
+            for (int z = centerZ - chunkRadius; z <= centerZ + chunkRadius; z++) {
+                // Don't keep the chunks around
+                jobs.add(engine.generate(x, z).thenAccept(chunk -> {}));
+            }
+        }
+        return CompletableFuture.allOf(jobs.toArray(new CompletableFuture<?>[jobs.size()]))
+                .thenApply(v -> new SpongeChunkPreGenerateBenchmark(jobs.size(), Duration.ofNanos(System.nanoTime() - startTime)))
+                .whenComplete((benchmark, throwable) -> engine.shutdown());
+    }
+
+    public int getChunkCount() {
+        return this.chunkCount;
+    }
+
+    public Duration getDuration() {
+        return this.duration;
+    }
+
+    public double getChunksPerSecond() {
+        return this.chunkCount / (this.duration.toNanos() / 1e9);
+    }
+}
@@ -28,26 +28,85 @@
 import org.spongepowered.api.event.world.ChunkPreGenerationEvent;
 import org.spongepowered.api.world.ChunkPreGenerate;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class SpongeChunkPreGenerateListener implements EventListener<ChunkPreGenerationEvent> {
 
+    // The weight of the latest step in the moving averages
+    private static final double SMOOTHING = 0.1;
+
     private final List<Consumer<ChunkPreGenerationEvent>> listeners;
     private final UUID task;
 
+    private long lastStepTime;
+    private double chunksPerSecond;
+    private double processedChunksPerSecond;
+
     SpongeChunkPreGenerateListener(UUID task, List<Consumer<ChunkPreGenerationEvent>> listeners) {
         this.task = task;
         this.listeners = listeners;
     }
 
+    /**
+     * Gets the moving average of the amount of chunks that are generated per
+     * second.
+     *
+     * @return The chunks per second
+     */
+    public double getChunksPerSecond() {
+        return this.chunksPerSecond;
+    }
+
+    /**
+     * Gets the estimated time until the task is complete, based on the moving
+     * average of the generated and skipped chunks per second.
+     *
+     * @param preGenerate The task
+     * @return The estimated time, if enough steps were done to estimate it
+     */
+    public Optional<Duration> getEstimatedTimeRemaining(ChunkPreGenerate preGenerate) {
+        if (this.processedChunksPerSecond <= 0) {
+            return Optional.empty();
+        }
+        final int remaining = preGenerate.getTargetTotalChunks() - preGenerate.getTotalGeneratedChunks() - preGenerate.getTotalSkippedChunks();
+        return Optional.of(Duration.ofSeconds((long) Math.ceil(Math.max(remaining, 0) / this.processedChunksPerSecond)));
+    }
+
     @Override
     public void handle(ChunkPreGenerationEvent event) throws Exception {
         ChunkPreGenerate preGenerate = event.getChunkPreGenerate();
         if (preGenerate instanceof SpongeChunkPreGenerateTask &&
                 ((SpongeChunkPreGenerateTask) preGenerate).getSpongeTask().getUniqueId().equals(task)) {
+            if (event instanceof ChunkPreGenerationEvent.Post) {
+                updateRates((ChunkPreGenerationEvent.Post) event);
+            }
             this.listeners.forEach(x -> x.accept(event));
         }
     }
+
+    private void updateRates(ChunkPreGenerationEvent.Post event) {
+        final long now = System.nanoTime();
+        if (this.lastStepTime != 0) {
+            // Steps run every few ticks, so the rates use the time between
+            // the steps rather than the time taken by the step
+            final double seconds = (now - this.lastStepTime) / (double) TimeUnit.SECONDS.toNanos(1);
+            if (seconds > 0) {
+                final double chunksPerSecond = event.getChunksGeneratedThisStep() / seconds;
+                final double processedChunksPerSecond = (event.getChunksGeneratedThisStep() + event.getChunksSkippedThisStep()) / seconds;
+                if (this.processedChunksPerSecond == 0) {
+                    this.chunksPerSecond = chunksPerSecond;
+                    this.processedChunksPerSecond = processedChunksPerSecond;
+                } else {
+                    this.chunksPerSecond += (chunksPerSecond - this.chunksPerSecond) * SMOOTHING;
+                    this.processedChunksPerSecond += (processedChunksPerSecond - this.processedChunksPerSecond) * SMOOTHING;
+                }
+            }
+        }
+        this.lastStepTime = now;
+    }
 }
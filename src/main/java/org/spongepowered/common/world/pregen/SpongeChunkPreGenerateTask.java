@@ -30,10 +30,14 @@
 import com.flowpowered.math.GenericMath;
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
-import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.NamedCause;
@@ -44,14 +48,21 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.WorldBorder;
 import org.spongepowered.api.world.storage.WorldProperties;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -61,6 +72,8 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
 
     private static final int DEFAULT_TICK_INTERVAL = 4;
     private static final float DEFAULT_TICK_PERCENT = 0.8f;
+    // The amount of terrain generation jobs which may be in flight per thread
+    private static final int JOBS_PER_THREAD = 16;
 
     private static final Vector3i[] OFFSETS = {
             Vector3i.UNIT_Z.negate().mul(2),
@@ -83,14 +96,17 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
     private final int tickInterval;
     private final Object plugin;
 
-    // If null, no listeners have been assigned, so they don't need to be registered or unregistered.
-    @Nullable private final EventListener<ChunkPreGenerationEvent> eventListener;
+    private final SpongeChunkPreGenerateListener eventListener;
 
-    private Vector3i currentPosition;
-    private int currentGenCount;
-    private int currentLayer;
-    private int currentIndex;
-    private int nextJump;
+    private final Spiral spiral;
+    // The position the spiral stopped at because its terrain wasn't generated yet
+    @Nullable private Vector3i pendingPosition;
+
+    // If null, terrain is generated on the main thread when the chunks are loaded.
+    @Nullable private final ChunkPreGenerateEngine engine;
+    @Nullable private final Spiral lookahead;
+    private final Long2ObjectMap<CompletableFuture<Chunk>> terrainJobs = new Long2ObjectOpenHashMap<>();
+    private final Deque<Chunk> generatedChunks = new ArrayDeque<>();
 
     private int chunksSkipped = 0;
     private int chunksGenerated = 0;
@@ -130,14 +146,22 @@ private SpongeChunkPreGenerateTask(Object plugin,
         this.tickInterval = tickInterval;
         final Optional<Vector3i> currentPosition = SpongeChunkLayout.instance.toChunk(center.toInt());
         if (currentPosition.isPresent()) {
-            this.currentPosition = currentPosition.get();
+            this.spiral = new Spiral(currentPosition.get(), this.chunkRadius);
         } else {
             throw new IllegalArgumentException("Center is not a valid chunk coordinate");
         }
-        this.currentGenCount = 4;
-        this.currentLayer = 0;
-        this.currentIndex = 0;
-        this.nextJump = 0;
+
+        final int threads = SpongeImpl.getGlobalConfig().getConfig().getOptimizations().getChunkPreGenerationThreads();
+        this.engine = threads > 0 ? ChunkPreGenerateEngine.create((WorldServer) world, threads) : null;
+        if (this.engine != null) {
+            this.lookahead = new Spiral(currentPosition.get(), this.chunkRadius);
+        } else {
+            if (threads > 0) {
+                SpongeImpl.getLogger().info("The generator of world {} can't generate terrain off the main thread, "
+                        + "chunks are pre-generated on the main thread.", world.getName());
+            }
+            this.lookahead = null;
+        }
 
         this.totalChunksToGenerate = (int) Math.pow(this.chunkRadius * 2 + 1, 2);
 
@@ -147,12 +171,9 @@ private SpongeChunkPreGenerateTask(Object plugin,
                 .execute(this)
                 .submit(plugin);
 
-        if (!eventListeners.isEmpty()) {
-            this.eventListener = new SpongeChunkPreGenerateListener(this.spongeTask.getUniqueId(), eventListeners);
-            Sponge.getEventManager().registerListener(plugin, ChunkPreGenerationEvent.class, this.eventListener);
-        } else {
-            this.eventListener = null;
-        }
+        // Always registered, as it keeps track of the throughput
+        this.eventListener = new SpongeChunkPreGenerateListener(this.spongeTask.getUniqueId(), eventListeners);
+        Sponge.getEventManager().registerListener(plugin, ChunkPreGenerationEvent.class, this.eventListener);
     }
 
     Task getSpongeTask() {
@@ -179,6 +200,25 @@ public int getTargetTotalChunks() {
         return this.totalChunksToGenerate;
     }
 
+    /**
+     * Gets the moving average of the amount of chunks that are generated per
+     * second.
+     *
+     * @return The chunks per second
+     */
+    public double getChunksPerSecond() {
+        return this.eventListener.getChunksPerSecond();
+    }
+
+    /**
+     * Gets the estimated time until this task is complete.
+     *
+     * @return The estimated time, if enough steps were done to estimate it
+     */
+    public Optional<Duration> getEstimatedTimeRemaining() {
+        return this.eventListener.getEstimatedTimeRemaining(this);
+    }
+
     @Override
     public Duration getTotalTime() {
         return Duration.of((isCancelled() ? this.generationEndTime : System.currentTimeMillis()) - this.generationStartTime, ChronoUnit.MILLIS);
@@ -202,11 +242,10 @@ public boolean isCancelled() {
     @Override
     public void cancel() {
         if (!isCancelled) {
-            if (this.eventListener != null) {
-                Sponge.getEventManager().unregisterListeners(this.eventListener);
-            }
+            Sponge.getEventManager().unregisterListeners(this.eventListener);
             this.spongeTask.cancel();
             isCancelled = true;
+            shutdownEngine();
         }
     }
 
@@ -237,31 +276,53 @@ public void accept(Task task) {
         }
 
         // Count how many chunks are generated during the tick
+        if (this.engine != null) {
+            submitTerrainJobs();
+        }
+
         int count = 0;
         int skipped = 0;
         do {
-            final Vector3i position = nextChunkPosition();
+            final Vector3i position = this.pendingPosition != null ? this.pendingPosition : this.spiral.next();
             final Vector3i pos1 = position.sub(Vector3i.UNIT_X);
             final Vector3i pos2 = position.sub(Vector3i.UNIT_Z);
             final Vector3i pos3 = pos2.sub(Vector3i.UNIT_X);
 
+            // Chunks are populated in spiral order, so wait for the terrain of the next chunks
+            if (this.engine != null && !(isTerrainGenerated(position) && isTerrainGenerated(pos1) && isTerrainGenerated(pos2)
+                    && isTerrainGenerated(pos3))) {
+                this.pendingPosition = position;
+                break;
+            }
+            this.pendingPosition = null;
+
             // We can only skip generation if all chunks are loaded.
             if (!areAllChunksLoaded(position, pos1, pos2, pos3)) {
 
                 // At least one chunk isn't generated, so to populate, we need to load them all.
+                if (this.engine != null) {
+                    addGeneratedChunk(position);
+                    addGeneratedChunk(pos1);
+                    addGeneratedChunk(pos2);
+                    addGeneratedChunk(pos3);
+                }
                 this.world.loadChunk(position, true);
                 this.world.loadChunk(pos1, true);
                 this.world.loadChunk(pos2, true);
                 this.world.loadChunk(pos3, true);
 
-                count += this.currentGenCount;
+                count += this.spiral.getGenCount();
             } else {
 
                 // Skipped them, log this.
-                skipped += this.currentGenCount;
+                skipped += this.spiral.getGenCount();
             }
         } while (hasNextChunkPosition() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - stepStartTime));
 
+        if (this.engine != null) {
+            unloadGeneratedChunks(false);
+        }
+
         this.chunksGenerated += count;
         this.chunksSkipped += skipped;
 
@@ -292,6 +353,97 @@ public void accept(Task task) {
             this.isCancelled = true;
             unregisterListener();
             task.cancel();
+            shutdownEngine();
+        }
+    }
+
+    private void submitTerrainJobs() {
+        final int maxJobs = this.engine.getThreads() * JOBS_PER_THREAD;
+        while (this.terrainJobs.size() < maxJobs && this.lookahead.hasNext()) {
+            final Vector3i position = this.lookahead.next();
+            submitTerrainJob(position);
+            submitTerrainJob(position.sub(Vector3i.UNIT_X));
+            submitTerrainJob(position.sub(Vector3i.UNIT_Z));
+            submitTerrainJob(position.sub(1, 0, 1));
+        }
+    }
+
+    private void submitTerrainJob(Vector3i position) {
+        final long key = ChunkPos.asLong(position.getX(), position.getZ());
+        if (this.terrainJobs.containsKey(key) || this.doesChunkExistCheck.test(position)) {
+            return;
+        }
+        final WorldServer world = (WorldServer) this.world;
+        if (((IMixinChunkProviderServer) world.getChunkProvider()).getLoadedChunkWithoutMarkingActive(position.getX(), position.getZ()) != null) {
+            return;
+        }
+        this.terrainJobs.put(key, this.engine.generate(position.getX(), position.getZ()));
+    }
+
+    private boolean isTerrainGenerated(Vector3i position) {
+        final CompletableFuture<Chunk> job = this.terrainJobs.get(ChunkPos.asLong(position.getX(), position.getZ()));
+        return job == null || job.isDone();
+    }
+
+    private void addGeneratedChunk(Vector3i position) {
+        final CompletableFuture<Chunk> job = this.terrainJobs.remove(ChunkPos.asLong(position.getX(), position.getZ()));
+        // The chunk may have been generated and saved by the server in the meantime
+        if (job == null || this.doesChunkExistCheck.test(position)) {
+            return;
+        }
+        final Chunk chunk;
+        try {
+            chunk = job.join();
+        } catch (CompletionException e) {
+            SpongeImpl.getLogger().error("Failed to generate the terrain of chunk {} in world {}, generating it on the main thread.",
+                    position, this.world.getName(), e.getCause());
+            return;
+        }
+        final WorldServer world = (WorldServer) this.world;
+        if (((IMixinChunkProviderServer) world.getChunkProvider()).addGeneratedChunk(chunk) == chunk) {
+            this.generatedChunks.add(chunk);
+        }
+    }
+
+    /**
+     * Queues the chunks which were added by this task to be unloaded, so they
+     * are written to the region files in batches by the chunk provider rather
+     * than waiting for the chunk GC.
+     *
+     * @param all Whether all chunks should be unloaded, otherwise only the
+     *     chunks which can't be changed by populating their neighbours are
+     */
+    private void unloadGeneratedChunks(boolean all) {
+        final WorldServer world = (WorldServer) this.world;
+        final Iterator<Chunk> iterator = this.generatedChunks.iterator();
+        while (iterator.hasNext()) {
+            final Chunk chunk = iterator.next();
+            if (chunk.unloadQueued) {
+                iterator.remove();
+                continue;
+            }
+            // Populating the chunks in negative direction decorates this chunk
+            if (!all && !(chunk.isTerrainPopulated() && isPopulated(world, chunk.xPosition - 1, chunk.zPosition)
+                    && isPopulated(world, chunk.xPosition, chunk.zPosition - 1) && isPopulated(world, chunk.xPosition - 1, chunk.zPosition - 1))) {
+                continue;
+            }
+            iterator.remove();
+            if (!world.getPlayerChunkMap().contains(chunk.xPosition, chunk.zPosition)) {
+                world.getChunkProvider().queueUnload(chunk);
+            }
+        }
+    }
+
+    private static boolean isPopulated(WorldServer world, int x, int z) {
+        final Chunk chunk = ((IMixinChunkProviderServer) world.getChunkProvider()).getLoadedChunkWithoutMarkingActive(x, z);
+        return chunk != null && chunk.isTerrainPopulated();
+    }
+
+    private void shutdownEngine() {
+        if (this.engine != null) {
+            this.engine.shutdown();
+            this.terrainJobs.clear();
+            unloadGeneratedChunks(true);
         }
     }
 
@@ -301,9 +453,7 @@ private boolean areAllChunksLoaded(Vector3i chunk1, Vector3i chunk2, Vector3i ch
     }
 
     private void unregisterListener() {
-        if (this.eventListener != null) {
-            Sponge.getEventManager().unregisterListeners(this.eventListener);
-        }
+        Sponge.getEventManager().unregisterListeners(this.eventListener);
     }
 
     private void cancelTask(Task task) {
@@ -320,32 +470,11 @@ private void cancelTask(Task task) {
 
         this.isCancelled = true;
         unregisterListener();
+        shutdownEngine();
     }
 
     private boolean hasNextChunkPosition() {
-        return this.currentLayer <= this.chunkRadius;
-    }
-
-    private Vector3i nextChunkPosition() {
-        final Vector3i nextPosition = this.currentPosition;
-        final int currentLayerIndex;
-        if (this.currentIndex >= this.nextJump) {
-            // Reached end of layer, jump to the next so we can keep spiralling
-            this.currentPosition = this.currentPosition.sub(Vector3i.UNIT_X).sub(Vector3i.UNIT_Z);
-            this.currentLayer++;
-            // Each the jump increment increases by 4 at each new layer
-            this.nextJump += this.currentLayer * 4;
-            currentLayerIndex = 1;
-        } else {
-            // Get the current index since the last jump
-            currentLayerIndex = this.currentIndex - (this.nextJump - this.currentLayer * 4);
-            // Move to next position in layer, by following a square
-            this.currentPosition = this.currentPosition.add(OFFSETS[currentLayerIndex / this.currentLayer]);
-        }
-        // If we're at the corner it's 3, else 2 for an edge
-        this.currentGenCount = currentLayerIndex % this.currentLayer == 0 ? 3 : 2;
-        this.currentIndex++;
-        return nextPosition;
+        return this.pendingPosition != null || this.spiral.hasNext();
     }
 
     private boolean checkChunkCount(int count) {
@@ -356,6 +485,55 @@ private boolean checkTickTime(long tickTime) {
         return this.tickPercent <= 0 || tickTime < this.tickTimeLimit;
     }
 
+    /**
+     * Walks the chunk positions of the task in a square spiral, every
+     * position is the corner of a square of 2x2 chunks.
+     */
+    static final class Spiral {
+
+        private final int chunkRadius;
+        private Vector3i currentPosition;
+        private int currentGenCount = 4;
+        private int currentLayer = 0;
+        private int currentIndex = 0;
+        private int nextJump = 0;
+
+        Spiral(Vector3i center, int chunkRadius) {
+            this.currentPosition = center;
+            this.chunkRadius = chunkRadius;
+        }
+
+        boolean hasNext() {
+            return this.currentLayer <= this.chunkRadius;
+        }
+
+        int getGenCount() {
+            return this.currentGenCount;
+        }
+
+        Vector3i next() {
+            final Vector3i nextPosition = this.currentPosition;
+            final int currentLayerIndex;
+            if (this.currentIndex >= this.nextJump) {
+                // Reached end of layer, jump to the next so we can keep spiralling
+                this.currentPosition = this.currentPosition.sub(Vector3i.UNIT_X).sub(Vector3i.UNIT_Z);
+                this.currentLayer++;
+                // Each the jump increment increases by 4 at each new layer
+                this.nextJump += this.currentLayer * 4;
+                currentLayerIndex = 1;
+            } else {
+                // Get the current index since the last jump
+                currentLayerIndex = this.currentIndex - (this.nextJump - this.currentLayer * 4);
+                // Move to next position in layer, by following a square
+                this.currentPosition = this.currentPosition.add(OFFSETS[currentLayerIndex / this.currentLayer]);
+            }
+            // If we're at the corner it's 3, else 2 for an edge
+            this.currentGenCount = currentLayerIndex % this.currentLayer == 0 ? 3 : 2;
+            this.currentIndex++;
+            return nextPosition;
+        }
+    }
+
     public static class Builder implements ChunkPreGenerate.Builder {
 
         private static final String TIME_FORMAT = "s's 'S'ms'";
@@ -393,11 +571,15 @@ public ChunkPreGenerate.Builder logger(@Nullable Logger logger) {
                 this.addListener(event -> {
                     if (event instanceof ChunkPreGenerationEvent.Post) {
                         ChunkPreGenerationEvent.Post post = (ChunkPreGenerationEvent.Post) event;
-                        logger.info("Generated {} chunks in {}, {}% complete", post.getChunksGeneratedThisStep(),
+                        final SpongeChunkPreGenerateTask task = (SpongeChunkPreGenerateTask) post.getChunkPreGenerate();
+                        logger.info("Generated {} chunks in {}, {}% complete, {} chunks/s, {} remaining", post.getChunksGeneratedThisStep(),
                             DurationFormatUtils.formatDuration(post.getTimeTakenForStep().toMillis(), TIME_FORMAT, false),
                             GenericMath.floor(
-                                (post.getChunkPreGenerate().getTotalGeneratedChunks() + post.getChunkPreGenerate().getTotalSkippedChunks())
-                                    / post.getChunkPreGenerate().getTargetTotalChunks() * 100)
+                                (task.getTotalGeneratedChunks() + task.getTotalSkippedChunks()) / (float) task.getTargetTotalChunks() * 100),
+                            GenericMath.floor(task.getChunksPerSecond()),
+                            task.getEstimatedTimeRemaining()
+                                .map(eta -> DurationFormatUtils.formatDurationWords(eta.toMillis(), true, true))
+                                .orElse("unknown time")
                         );
                     } else if (event instanceof ChunkPreGenerationEvent.Complete) {
                         logger.info("Done! Generated a total of {} chunks in {}", event.getChunkPreGenerate().getTargetTotalChunks(),
@@ -0,0 +1,165 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
+import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.spongepowered.api.data.DataContainer;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A read only view of a region file mapped into memory. Unlike
+ * {@link RegionFile} chunks can be read and decompressed by multiple threads
+ * at the same time.
+ *
+ * <p>The mapping bypasses the locking of {@link RegionFile}, so while the
+ * region is open in the {@link RegionFileCache}, where the server may write
+ * to it, chunks are read through the cached region file instead.</p>
+ */
+final class MappedRegionFile {
+
+    private static final int SECTOR_BYTES = 4096;
+    private static final int CHUNK_COUNT = 1024;
+    private static final int VERSION_GZIP = 1;
+    private static final int VERSION_DEFLATE = 2;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+
+    private MappedRegionFile(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Maps the region file at the given path.
+     *
+     * @param path The path of the region file
+     * @return The mapped region file, or null if the file has no header
+     * @throws IOException If the file could not be mapped
+     */
+    @Nullable
+    static MappedRegionFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < 2 * SECTOR_BYTES) {
+                return null;
+            }
+            return new MappedRegionFile(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, Integer.MAX_VALUE)));
+        }
+    }
+
+    /**
+     * Gets the index of the next chunk stored in this region file, starting
+     * at the given index.
+     *
+     * @param index The index to start at
+     * @return The index of the next chunk, or -1 if there is none
+     */
+    int getNextChunk(int index) {
+        for (; index < CHUNK_COUNT; index++) {
+            if (this.buffer.getInt(index << 2) != 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads and decompresses the chunk at the index, may be called by any
+     * thread.
+     *
+     * @param index The index of the chunk, {@code x + z * 32}
+     * @return The chunk data, or null if the chunk doesn't exist or is invalid
+     * @throws IOException If the chunk data could not be read
+     */
+    @Nullable
+    DataContainer readChunk(int index) throws IOException {
+        RegionFile regionFile;
+        synchronized (RegionFileCache.class) {
+            regionFile = RegionFileCache.REGIONS_BY_FILE.get(this.path.toFile());
+        }
+        if (regionFile == null) {
+            try {
+                return readMappedChunk(index);
+            } catch (IOException | RuntimeException e) {
+                // The region was opened and written to while it was read, the
+                // mapping may be torn or stale
+                regionFile = WorldStorageUtil.getRegionFile(this.path);
+            }
+        }
+        return WorldStorageUtil.readDataFromRegion(regionFile.getChunkDataInputStream(index & 31, index >>> 5));
+    }
+
+    @Nullable
+    private DataContainer readMappedChunk(int index) throws IOException {
+        final int offset = this.buffer.getInt(index << 2);
+        if (offset == 0) {
+            return null;
+        }
+        final int position = (offset >>> 8) * SECTOR_BYTES;
+        final int sectors = offset & 0xFF;
+        if (position < 2 * SECTOR_BYTES || position + 5 > this.buffer.capacity()) {
+            throw new IOException("Chunk " + index + " lies outside of the mapped region file " + this.path);
+        }
+        final int length = this.buffer.getInt(position);
+        if (length <= 1 || length > sectors * SECTOR_BYTES || position + 4 + length > this.buffer.capacity()) {
+            throw new IOException("Chunk " + index + " has an invalid length in the mapped region file " + this.path);
+        }
+        final int version = this.buffer.get(position + 4);
+
+        final ByteBuffer data = this.buffer.duplicate();
+        data.position(position + 5);
+        data.limit(position + 4 + length);
+        final InputStream in = new ByteBufInputStream(Unpooled.wrappedBuffer(data));
+        final InputStream decompressed;
+        if (version == VERSION_GZIP) {
+            decompressed = new GZIPInputStream(in);
+        } else if (version == VERSION_DEFLATE) {
+            decompressed = new InflaterInputStream(in);
+        } else {
+            return null;
+        }
+        try (DataInputStream stream = new DataInputStream(new BufferedInputStream(decompressed))) {
+            return WorldStorageUtil.readDataFromRegion(stream);
+        }
+    }
+
+}
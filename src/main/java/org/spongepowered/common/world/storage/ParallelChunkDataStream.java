@@ -0,0 +1,183 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.world.storage.ChunkDataStream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ChunkDataStream} which memory maps region files and reads and
+ * decompresses chunks on a worker pool. Chunks are returned in the same
+ * order as the {@link SpongeChunkDataStream}, at most {@code readahead}
+ * chunks are read ahead of the consumer.
+ */
+public class ParallelChunkDataStream implements ChunkDataStream {
+
+    private final Path worldDir;
+    private final Executor executor;
+    private final int readahead;
+    private final Deque<CompletableFuture<DataContainer>> pending = new ArrayDeque<>();
+    @Nullable private List<Path> regionFiles;
+    private int regionFileIndex;
+    @Nullable private MappedRegionFile regionFile;
+    private int chunkIndex;
+
+    public ParallelChunkDataStream(Path worldDir, Executor executor, int readahead) {
+        this.worldDir = worldDir;
+        this.executor = executor;
+        this.readahead = readahead;
+    }
+
+    /**
+     * Advances to the next chunk of the current or a following region file.
+     *
+     * @return Whether a chunk is available
+     */
+    private boolean advance() {
+        if (this.regionFiles == null) {
+            this.regionFiles = Lists.newArrayList(WorldStorageUtil.listRegionFiles(this.worldDir));
+        }
+        while (true) {
+            if (this.regionFile != null) {
+                this.chunkIndex = this.regionFile.getNextChunk(this.chunkIndex);
+                if (this.chunkIndex != -1) {
+                    return true;
+                }
+                this.regionFile = null;
+            }
+            if (this.regionFileIndex >= this.regionFiles.size()) {
+                return false;
+            }
+            try {
+                this.regionFile = MappedRegionFile.open(this.regionFiles.get(this.regionFileIndex++));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.chunkIndex = 0;
+        }
+    }
+
+    private void fill() {
+        while (this.pending.size() < this.readahead && advance()) {
+            final MappedRegionFile regionFile = this.regionFile;
+            final int index = this.chunkIndex++;
+            this.pending.add(readChunk(regionFile, index, this.executor));
+        }
+    }
+
+    /**
+     * Reads and decompresses a chunk of a mapped region file on the given
+     * executor.
+     *
+     * @param regionFile The region file
+     * @param index The index of the chunk, {@code x + z * 32}
+     * @param executor The executor to read on
+     * @return The chunk data, or null if the chunk doesn't exist or is invalid
+     */
+    static CompletableFuture<DataContainer> readChunk(MappedRegionFile regionFile, int index, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return regionFile.readChunk(index);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executor);
+    }
+
+    @Override
+    public DataContainer next() {
+        fill();
+        final CompletableFuture<DataContainer> future = this.pending.poll();
+        if (future == null) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw Throwables.propagate(e.getCause());
+        } finally {
+            fill();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.pending.isEmpty() || advance();
+    }
+
+    @Override
+    public int available() {
+        int count = this.pending.size();
+        if (this.regionFile != null) {
+            for (int index = this.regionFile.getNextChunk(this.chunkIndex); index != -1; index = this.regionFile.getNextChunk(index + 1)) {
+                count++;
+            }
+        }
+        if (this.regionFiles == null) {
+            this.regionFiles = Lists.newArrayList(WorldStorageUtil.listRegionFiles(this.worldDir));
+        }
+        for (int i = this.regionFileIndex; i < this.regionFiles.size(); i++) {
+            try {
+                final MappedRegionFile regionFile = MappedRegionFile.open(this.regionFiles.get(i));
+                if (regionFile != null) {
+                    for (int index = regionFile.getNextChunk(0); index != -1; index = regionFile.getNextChunk(index + 1)) {
+                        count++;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void reset() {
+        for (CompletableFuture<DataContainer> future : this.pending) {
+            future.cancel(false);
+        }
+        this.pending.clear();
+        this.regionFiles = null;
+        this.regionFileIndex = 0;
+        this.regionFile = null;
+        this.chunkIndex = 0;
+    }
+
+}
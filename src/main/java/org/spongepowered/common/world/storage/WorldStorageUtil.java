@@ -26,6 +26,9 @@
 
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.WorldServer;
@@ -33,7 +36,9 @@
 import net.minecraft.world.chunk.storage.RegionFile;
 import net.minecraft.world.chunk.storage.RegionFileCache;
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.world.storage.ChunkDataStream;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.GlobalWorldCategory;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
@@ -44,12 +49,49 @@
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.Nullable;
 
 public class WorldStorageUtil {
 
+    @Nullable private static ExecutorService regionReaderPool;
+
+    /**
+     * Gets the pool of threads reading region files in parallel.
+     *
+     * @return The pool, or null if parallel reading is disabled
+     */
+    @Nullable
+    private static synchronized ExecutorService getRegionReaderPool() {
+        if (regionReaderPool == null) {
+            final int threads = SpongeImpl.getGlobalConfig().getConfig().getWorld().getChunkDataStreamThreads();
+            if (threads <= 0) {
+                return null;
+            }
+            regionReaderPool = Executors.newFixedThreadPool(threads,
+                    new ThreadFactoryBuilder().setNameFormat("Sponge - Region Reader #%d").setDaemon(true).build());
+        }
+        return regionReaderPool;
+    }
+
+    public static ChunkDataStream getGeneratedChunks(Path worldDir) {
+        final ExecutorService pool = getRegionReaderPool();
+        if (pool == null) {
+            return new SpongeChunkDataStream(worldDir);
+        }
+        final GlobalWorldCategory category = SpongeImpl.getGlobalConfig().getConfig().getWorld();
+        return new ParallelChunkDataStream(worldDir, pool, category.getChunkDataStreamReadahead());
+    }
+
     public static CompletableFuture<Boolean> doesChunkExist(WorldServer world, IChunkLoader chunkLoader, Vector3i chunkCoords) {
         int x = chunkCoords.getX();
         int z = chunkCoords.getZ();
@@ -60,16 +102,55 @@ public static CompletableFuture<Boolean> doesChunkExist(WorldServer world, IChun
     }
 
     public static CompletableFuture<Optional<DataContainer>> getChunkData(WorldServer world, IChunkLoader chunkLoader, Vector3i chunkCoords) {
-        int x = chunkCoords.getX();
-        int y = chunkCoords.getY();
-        int z = chunkCoords.getZ();
-        if (!(chunkLoader instanceof IMixinAnvilChunkLoader) || !SpongeChunkLayout.instance.isValidChunk(x, y, z)) {
-            return CompletableFuture.completedFuture(Optional.empty());
+        return getChunkData(chunkLoader, Collections.singleton(chunkCoords)).thenApply(chunks -> chunks.get(chunkCoords));
+    }
+
+    /**
+     * Reads the data of many chunks at once. Every region file is mapped only
+     * once and, if enabled, the chunks are read and decompressed in parallel
+     * like those of a {@link ParallelChunkDataStream}.
+     *
+     * @param chunkLoader The chunk loader of the world
+     * @param chunkCoords The coordinates of the chunks
+     * @return The data of every requested chunk
+     */
+    public static CompletableFuture<Map<Vector3i, Optional<DataContainer>>> getChunkData(IChunkLoader chunkLoader,
+            Collection<Vector3i> chunkCoords) {
+        final Map<Vector3i, Optional<DataContainer>> result = Maps.newConcurrentMap();
+        for (Vector3i coords : chunkCoords) {
+            result.put(coords, Optional.empty());
         }
-        File worldDir = ((IMixinAnvilChunkLoader) chunkLoader).getWorldDir().toFile();
+        if (!(chunkLoader instanceof IMixinAnvilChunkLoader)) {
+            return CompletableFuture.completedFuture(result);
+        }
+        final Path regionDir = ((IMixinAnvilChunkLoader) chunkLoader).getWorldDir().resolve("region");
+        final Map<Path, List<Vector3i>> chunksByRegion = Maps.newHashMap();
+        for (Vector3i coords : chunkCoords) {
+            if (SpongeChunkLayout.instance.isValidChunk(coords.getX(), coords.getY(), coords.getZ())) {
+                final Path regionFile = regionDir.resolve("r." + (coords.getX() >> 5) + "." + (coords.getZ() >> 5) + ".mca");
+                chunksByRegion.computeIfAbsent(regionFile, key -> Lists.newArrayList()).add(coords);
+            }
+        }
+        final ExecutorService pool = getRegionReaderPool();
+        final Executor executor = pool == null ? MoreExecutors.directExecutor() : pool;
         return SpongeImpl.getScheduler().submitAsyncTask(() -> {
-            DataInputStream stream = RegionFileCache.getChunkInputStream(worldDir, x, z);
-            return Optional.ofNullable(readDataFromRegion(stream));
+            final List<CompletableFuture<Void>> futures = Lists.newArrayList();
+            for (Map.Entry<Path, List<Vector3i>> entry : chunksByRegion.entrySet()) {
+                if (!Files.exists(entry.getKey())) {
+                    continue;
+                }
+                final MappedRegionFile regionFile = MappedRegionFile.open(entry.getKey());
+                if (regionFile == null) {
+                    continue;
+                }
+                for (Vector3i coords : entry.getValue()) {
+                    final int index = (coords.getX() & 31) + (coords.getZ() & 31) * 32;
+                    futures.add(ParallelChunkDataStream.readChunk(regionFile, index, executor)
+                            .thenAccept(data -> result.put(coords, Optional.ofNullable(data))));
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).join();
+            return result;
         });
     }
 
@@ -103,16 +184,19 @@ public static Iterable<Path> listRegionFiles(Path worldDir) {
     // file name instead of x,z
     public static RegionFile getRegionFile(Path regionFilePath) {
         File file = regionFilePath.toFile();
-        RegionFile regionFile = RegionFileCache.REGIONS_BY_FILE.get(file);
-        if (regionFile != null) {
+        // Region files are read by worker threads, guard the cache like RegionFileCache does
+        synchronized (RegionFileCache.class) {
+            RegionFile regionFile = RegionFileCache.REGIONS_BY_FILE.get(file);
+            if (regionFile != null) {
+                return regionFile;
+            }
+            if (RegionFileCache.REGIONS_BY_FILE.size() >= 256) {
+                RegionFileCache.clearRegionFileReferences();
+            }
+            regionFile = new RegionFile(file);
+            RegionFileCache.REGIONS_BY_FILE.put(file, regionFile);
             return regionFile;
         }
-        if (RegionFileCache.REGIONS_BY_FILE.size() >= 256) {
-            RegionFileCache.clearRegionFileReferences();
-        }
-        regionFile = new RegionFile(file);
-        RegionFileCache.REGIONS_BY_FILE.put(file, regionFile);
-        return regionFile;
     }
 
 }
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.util.gen.BlockIdBuffer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public class SchematicBlockDataTest {
+
+    private static final int WIDTH = 7;
+    private static final int HEIGHT = 5;
+    private static final int LENGTH = 3;
+    private static final int HIGHEST_ID = 300;
+
+    private static int id(int x, int y, int z) {
+        return (x * 31 + y * 17 + z * 7) % (HIGHEST_ID + 1);
+    }
+
+    private static byte[] encode() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SchematicBlockData.encode(SchematicBlockDataTest::id, WIDTH, HEIGHT, LENGTH, out);
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final byte[] data = encode();
+        Assert.assertEquals(data.length, SchematicBlockData.encodedLength(SchematicBlockDataTest::id, WIDTH, HEIGHT, LENGTH));
+
+        final BlockIdBuffer ids = SchematicBlockData.decode(data, WIDTH, HEIGHT, LENGTH, HIGHEST_ID);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int z = 0; z < LENGTH; z++) {
+                for (int x = 0; x < WIDTH; x++) {
+                    Assert.assertEquals(id(x, y, z), ids.get(x, y, z));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testVarIntsSplitAcrossChunks() throws IOException {
+        final byte[] data = encode();
+        final SchematicBlockData.Decoder decoder = new SchematicBlockData.Decoder(WIDTH, HEIGHT, LENGTH, HIGHEST_ID);
+        for (int i = 0; i < data.length; i++) {
+            decoder.decode(data, i, 1);
+        }
+        final BlockIdBuffer ids = decoder.finish();
+        Assert.assertEquals(id(WIDTH - 1, HEIGHT - 1, LENGTH - 1), ids.get(WIDTH - 1, HEIGHT - 1, LENGTH - 1));
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testTruncatedData() throws IOException {
+        final byte[] data = encode();
+        final SchematicBlockData.Decoder decoder = new SchematicBlockData.Decoder(WIDTH, HEIGHT, LENGTH, HIGHEST_ID);
+        decoder.decode(data, 0, data.length - 1);
+        decoder.finish();
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testEmptyDimensionsWithData() throws IOException {
+        SchematicBlockData.decode(encode(), 0, HEIGHT, LENGTH, HIGHEST_ID);
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testEmptyDimensionsWithStreamedData() throws IOException {
+        final byte[] data = encode();
+        new SchematicBlockData.Decoder(WIDTH, HEIGHT, 0, HIGHEST_ID).decode(data, 0, data.length);
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testIdOutsidePalette() throws IOException {
+        SchematicBlockData.decode(encode(), WIDTH, HEIGHT, LENGTH, 15);
+    }
+
+}
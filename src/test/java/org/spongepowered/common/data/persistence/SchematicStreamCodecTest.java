@@ -0,0 +1,116 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.Maps;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.api.data.persistence.DataFormats;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.world.schematic.Schematic;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
+import org.spongepowered.common.world.schematic.BimapPalette;
+import org.spongepowered.common.world.schematic.SpongeSchematic;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class SchematicStreamCodecTest {
+
+    private static final Vector3i MIN = new Vector3i(-3, 10, 5);
+    private static final Vector3i SIZE = new Vector3i(9, 4, 6);
+    private static final DataQuery NAME = DataQuery.of("Name");
+
+    private Schematic schematic;
+
+    @Before
+    public void init() {
+        final BlockState[] states = {BlockTypes.STONE.getDefaultState(), BlockTypes.DIRT.getDefaultState(), BlockTypes.GLASS.getDefaultState(),
+                BlockTypes.GOLD_BLOCK.getDefaultState()};
+        final ArrayMutableBlockBuffer volume = new ArrayMutableBlockBuffer(new BimapPalette(), MIN, SIZE);
+        final Cause cause = Cause.source(this).build();
+        final Vector3i max = MIN.add(SIZE).sub(Vector3i.ONE);
+        for (int y = MIN.getY(); y <= max.getY(); y++) {
+            for (int z = MIN.getZ(); z <= max.getZ(); z++) {
+                for (int x = MIN.getX(); x <= max.getX(); x++) {
+                    // Leave some air in between
+                    if ((x + y + z) % 5 != 0) {
+                        volume.setBlock(x, y, z, states[Math.floorMod(x * 7 + y * 3 + z, states.length)], cause);
+                    }
+                }
+            }
+        }
+        this.schematic = new SpongeSchematic(volume, Maps.newHashMap(), new MemoryDataContainer().set(NAME, "test"));
+    }
+
+    @Test
+    public void testCodecToTranslator() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SchematicStreamCodec.write(this.schematic, out);
+        final Schematic read = SchematicTranslator.get().translate(DataFormats.NBT.readFrom(new ByteArrayInputStream(out.toByteArray())));
+        assertSameSchematic(this.schematic, read);
+    }
+
+    @Test
+    public void testTranslatorToCodec() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataFormats.NBT.writeTo(out, SchematicTranslator.get().translate(this.schematic));
+        final Schematic read = SchematicStreamCodec.read(new ByteArrayInputStream(out.toByteArray()));
+        assertSameSchematic(this.schematic, read);
+    }
+
+    @Test
+    public void testCodecRoundTrip() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SchematicStreamCodec.write(this.schematic, out);
+        final Schematic read = SchematicStreamCodec.read(new ByteArrayInputStream(out.toByteArray()));
+        assertSameSchematic(this.schematic, read);
+    }
+
+    private static void assertSameSchematic(Schematic expected, Schematic actual) {
+        Assert.assertEquals(expected.getBlockSize(), actual.getBlockSize());
+        Assert.assertEquals(expected.getMetadata().getString(NAME), actual.getMetadata().getString(NAME));
+        final Vector3i offset = actual.getBlockMin().sub(expected.getBlockMin());
+        for (int y = 0; y < SIZE.getY(); y++) {
+            for (int z = 0; z < SIZE.getZ(); z++) {
+                for (int x = 0; x < SIZE.getX(); x++) {
+                    final Vector3i position = expected.getBlockMin().add(x, y, z);
+                    Assert.assertEquals(expected.getBlock(position), actual.getBlock(position.add(offset)));
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.util;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.function.Predicate;
+
+public class ProcessorResolutionCacheTest {
+
+    private static final class Processor {
+
+        final boolean classBound;
+        final Predicate<Object> supports;
+        int checks;
+
+        Processor(boolean classBound, Predicate<Object> supports) {
+            this.classBound = classBound;
+            this.supports = supports;
+        }
+
+        boolean supports(Object holder) {
+            this.checks++;
+            return this.supports.test(holder);
+        }
+    }
+
+    @Test
+    public void testClassBoundProcessorsResolvedOnce() {
+        final Processor strings = new Processor(true, holder -> holder instanceof String);
+        final Processor integers = new Processor(true, holder -> holder instanceof Integer);
+        final Processor state = new Processor(false, holder -> holder.toString().isEmpty());
+        final ProcessorResolutionCache<Processor> cache = new ProcessorResolutionCache<>(ImmutableList.of(strings, integers, state),
+                processor -> processor.classBound, Processor::supports);
+
+        final ProcessorResolutionCache.Resolution<Processor> resolution = cache.resolve("a");
+        Assert.assertSame(resolution, cache.resolve("b"));
+        Assert.assertEquals(2, resolution.size());
+        Assert.assertSame(strings, resolution.get(0));
+        Assert.assertTrue(resolution.isKnownSupported(0));
+        Assert.assertSame(state, resolution.get(1));
+        Assert.assertFalse(resolution.isKnownSupported(1));
+        Assert.assertEquals(1, strings.checks);
+        Assert.assertEquals(1, integers.checks);
+        Assert.assertEquals(0, state.checks);
+
+        final ProcessorResolutionCache.Resolution<Processor> other = cache.resolve(1);
+        Assert.assertEquals(2, other.size());
+        Assert.assertSame(integers, other.get(0));
+    }
+
+    @Test
+    public void testNullHolderKeepsAllCandidates() {
+        final Processor processor = new Processor(true, holder -> true);
+        final ProcessorResolutionCache<Processor> cache = new ProcessorResolutionCache<>(ImmutableList.of(processor),
+                candidate -> candidate.classBound, Processor::supports);
+        final ProcessorResolutionCache.Resolution<Processor> resolution = cache.resolve(null);
+        Assert.assertEquals(1, resolution.size());
+        Assert.assertFalse(resolution.isKnownSupported(0));
+        Assert.assertEquals(0, processor.checks);
+    }
+
+}
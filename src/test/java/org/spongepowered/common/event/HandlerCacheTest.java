@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.entity.DestructEntityEvent;
+import org.spongepowered.api.event.entity.SpawnEntityEvent;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.common.InjectedTest;
+
+import java.util.Optional;
+
+public class HandlerCacheTest extends InjectedTest {
+
+    private SpongeEventManager eventManager;
+    private Object plugin;
+
+    @Before
+    public void init() throws Exception {
+        PluginManager manager = Mockito.mock(PluginManager.class);
+        this.eventManager = new SpongeEventManager(this.logger, manager);
+
+        this.plugin = new Object();
+        Mockito.when(manager.fromInstance(this.plugin)).thenReturn(Optional.of(Mockito.mock(PluginContainer.class)));
+    }
+
+    @Test
+    public void testSubtypeInvalidation() {
+        Assert.assertFalse(this.eventManager.hasAnyListeners(SpawnEntityEvent.ChunkLoad.class));
+        Assert.assertFalse(this.eventManager.hasAnyListeners(DestructEntityEvent.class));
+
+        SpawnListener listener = new SpawnListener();
+        this.eventManager.registerListeners(this.plugin, listener);
+        Assert.assertTrue("Baked handlers of a subtype were not invalidated!",
+                this.eventManager.hasAnyListeners(SpawnEntityEvent.ChunkLoad.class));
+        Assert.assertFalse(this.eventManager.hasAnyListeners(DestructEntityEvent.class));
+
+        this.eventManager.unregisterListeners(listener);
+        Assert.assertFalse("Baked handlers of a subtype were not invalidated!",
+                this.eventManager.hasAnyListeners(SpawnEntityEvent.ChunkLoad.class));
+    }
+
+    @Test
+    public void testUnrelatedRegistration() {
+        SpawnListener listener = new SpawnListener();
+        this.eventManager.registerListeners(this.plugin, listener);
+        RegisteredListener.Cache cache = this.eventManager.getHandlerCache(SpawnEntityEvent.class);
+
+        this.eventManager.registerListeners(this.plugin, new DestructListener());
+        Assert.assertSame("Baked handlers of an unrelated event were invalidated!", cache,
+                this.eventManager.getHandlerCache(SpawnEntityEvent.class));
+
+        this.eventManager.registerListeners(this.plugin, new SpawnListener());
+        Assert.assertEquals(2, this.eventManager.getHandlerCache(SpawnEntityEvent.class).getListeners().size());
+    }
+
+    private static class SpawnListener {
+
+        @Listener
+        public void onSpawn(SpawnEntityEvent event) {}
+    }
+
+    private static class DestructListener {
+
+        @Listener
+        public void onDestruct(DestructEntityEvent event) {}
+    }
+
+}
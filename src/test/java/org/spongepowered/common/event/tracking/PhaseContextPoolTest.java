@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.event.cause.NamedCause;
+
+import java.util.List;
+
+public class PhaseContextPoolTest {
+
+    @Test
+    public void testReleasedContextIsReused() {
+        final PhaseContext context = PhaseContext.start()
+                .add(NamedCause.source(this))
+                .addCaptures()
+                .player()
+                .complete();
+        final List<BlockSnapshot> blocks = context.getCapturedBlocks();
+        blocks.add(Mockito.mock(BlockSnapshot.class));
+        context.release();
+
+        final PhaseContext reused = PhaseContext.start();
+        Assert.assertSame(context, reused);
+        Assert.assertFalse(reused.isComplete());
+        Assert.assertFalse(reused.getSource(Object.class).isPresent());
+        // Captures can be started again and begin empty, the old list is untouched
+        reused.addCaptures().player().complete();
+        Assert.assertTrue(reused.getCapturedBlocks().isEmpty());
+        Assert.assertNotSame(blocks, reused.getCapturedBlocks());
+        Assert.assertEquals(1, blocks.size());
+        Assert.assertFalse(reused.getCapturedPlayer().isPresent());
+        reused.release();
+    }
+
+    @Test
+    public void testContextIsReleasedOnce() {
+        final PhaseContext context = PhaseContext.start().complete();
+        context.release();
+        context.release();
+
+        Assert.assertSame(context, PhaseContext.start());
+        Assert.assertNotSame(context, PhaseContext.start());
+    }
+
+}
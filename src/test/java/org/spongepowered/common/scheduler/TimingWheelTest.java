@@ -0,0 +1,145 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class TimingWheelTest {
+
+    private static ScheduledTask createTask() {
+        return new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, task -> {}, "test", 0, true, 0, true,
+                Mockito.mock(PluginContainer.class));
+    }
+
+    @Test
+    public void testTickExpiry() {
+        final TimingWheel wheel = new TimingWheel(1, 0L);
+        final Random random = new Random(0L);
+        final Map<ScheduledTask, Long> deadlines = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            final ScheduledTask task = createTask();
+            // Spread the deadlines over all levels of the wheel and the overflow
+            final long deadline = 1 + (random.nextLong() >>> (24 + random.nextInt(40)));
+            deadlines.put(task, deadline);
+            wheel.schedule(task, deadline);
+        }
+
+        long now = 0L;
+        while (!deadlines.isEmpty()) {
+            final long next = wheel.getNextTimestamp();
+            Assert.assertTrue("The next timestamp is not in the future!", next > now);
+            now = next;
+            final long tick = now;
+            wheel.advance(now, task -> {
+                final Long deadline = deadlines.remove(task);
+                Assert.assertNotNull("A task was expired twice!", deadline);
+                Assert.assertTrue("A task was expired too early!", deadline <= tick);
+            });
+            for (Long deadline : deadlines.values()) {
+                Assert.assertTrue("A task was not expired!", deadline > now);
+            }
+        }
+        Assert.assertEquals(Long.MAX_VALUE, wheel.getNextTimestamp());
+    }
+
+    @Test
+    public void testResolution() {
+        final long now = -123456789L;
+        final TimingWheel wheel = new TimingWheel(1000, now);
+        final ScheduledTask task = createTask();
+        wheel.schedule(task, now + 2500);
+
+        final List<ScheduledTask> expired = new ArrayList<>();
+        wheel.advance(now + 2499, expired::add);
+        Assert.assertTrue("A task was expired before its timestamp!", expired.isEmpty());
+        wheel.advance(now + 3500, expired::add);
+        Assert.assertEquals(1, expired.size());
+    }
+
+    @Test
+    public void testRescheduleDuringAdvance() {
+        final TimingWheel wheel = new TimingWheel(1, 0L);
+        final ScheduledTask task = createTask();
+        wheel.schedule(task, 1L);
+
+        final List<ScheduledTask> expired = new ArrayList<>();
+        wheel.advance(1L, expired::add);
+        wheel.advance(1L, t -> Assert.fail("A task was expired without advancing!"));
+        wheel.schedule(task, 0L);
+        wheel.advance(1L, t -> {
+            expired.add(t);
+            wheel.schedule(t, 1L);
+        });
+        Assert.assertEquals(2, expired.size());
+        wheel.advance(1L, expired::add);
+        Assert.assertEquals(3, expired.size());
+    }
+
+    @Test
+    public void testRemove() {
+        final TimingWheel wheel = new TimingWheel(1, 0L);
+        final ScheduledTask near = createTask();
+        final ScheduledTask far = createTask();
+        final ScheduledTask overflow = createTask();
+        wheel.schedule(near, 10L);
+        wheel.schedule(far, 100000L);
+        wheel.schedule(overflow, Long.MAX_VALUE);
+        wheel.remove(near);
+        wheel.remove(far);
+        wheel.remove(overflow);
+        // Removing twice must not corrupt the bookkeeping of the wheel
+        wheel.remove(near);
+
+        Assert.assertEquals(Long.MAX_VALUE, wheel.getNextTimestamp());
+        wheel.advance(Long.MAX_VALUE, t -> Assert.fail("A removed task was expired!"));
+    }
+
+    @Test
+    public void testUnlinkCancelledTickDelayedTask() {
+        final TimingWheel tickWheel = new TimingWheel(1, 0L);
+        final TimingWheel timeWheel = new TimingWheel(1000, 0L);
+        // Delayed in ticks without an interval, the interval type claims wall time
+        final ScheduledTask task = new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, t -> {}, "test", 20, true, 0, false,
+                Mockito.mock(PluginContainer.class));
+        tickWheel.schedule(task, 20L);
+        task.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        // Removing it from the wheel its cancelled state points to must not affect it
+        timeWheel.remove(task);
+        TimingWheel.unlink(task);
+
+        Assert.assertEquals(Long.MAX_VALUE, tickWheel.getNextTimestamp());
+        tickWheel.advance(Long.MAX_VALUE, t -> Assert.fail("A cancelled task was expired!"));
+    }
+
+}
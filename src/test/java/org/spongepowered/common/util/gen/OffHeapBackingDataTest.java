@@ -0,0 +1,91 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer.BackingData;
+
+import java.util.Random;
+
+public class OffHeapBackingDataTest {
+
+    private static final int SIZE = 100000;
+
+    private static void assertSameAsHeap(BlockBufferStorage storage, int highestValue) {
+        final BackingData heap = BlockBufferStorage.HEAP.create(SIZE, highestValue);
+        final BackingData offHeap = storage.create(SIZE, highestValue);
+        Assert.assertEquals(heap.getMax(), offHeap.getMax());
+
+        // Sequential writes
+        for (int i = 0; i < SIZE; i += 3) {
+            heap.set(i, i % (highestValue + 1));
+            offHeap.set(i, i % (highestValue + 1));
+        }
+        // Random writes, which overwrite some of the sequential ones
+        final Random random = new Random(highestValue);
+        for (int i = 0; i < SIZE; i++) {
+            final int index = random.nextInt(SIZE);
+            final int value = random.nextInt(highestValue + 1);
+            heap.set(index, value);
+            offHeap.set(index, value);
+        }
+        final BackingData copy = offHeap.copyOf();
+        for (int i = 0; i < SIZE; i++) {
+            Assert.assertEquals(heap.get(i), offHeap.get(i));
+            Assert.assertEquals(heap.get(i), copy.get(i));
+        }
+    }
+
+    @Test
+    public void testDirectMatchesHeap() {
+        assertSameAsHeap(BlockBufferStorage.DIRECT, 1);
+        assertSameAsHeap(BlockBufferStorage.DIRECT, 300);
+        assertSameAsHeap(BlockBufferStorage.DIRECT, 65535);
+    }
+
+    @Test
+    public void testMappedMatchesHeap() {
+        assertSameAsHeap(BlockBufferStorage.MAPPED, 5);
+        assertSameAsHeap(BlockBufferStorage.MAPPED, 4095);
+    }
+
+    @Test
+    public void testUnwrittenDataIsZero() {
+        final BackingData data = BlockBufferStorage.DIRECT.create(SIZE, 15);
+        data.set(SIZE - 1, 0);
+        for (int i = 0; i < SIZE; i++) {
+            Assert.assertEquals(0, data.get(i));
+        }
+    }
+
+    @Test
+    public void testStorageFromName() {
+        Assert.assertEquals(BlockBufferStorage.MAPPED, BlockBufferStorage.fromName("mapped"));
+        Assert.assertEquals(BlockBufferStorage.DIRECT, BlockBufferStorage.fromName("Direct"));
+        Assert.assertEquals(BlockBufferStorage.HEAP, BlockBufferStorage.fromName("unknown"));
+    }
+
+}
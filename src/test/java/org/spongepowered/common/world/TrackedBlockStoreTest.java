@@ -0,0 +1,111 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+public class TrackedBlockStoreTest {
+
+    @Test
+    public void testSetAndGet() {
+        final TrackedBlockStore store = new TrackedBlockStore();
+        assertEquals(TrackedBlockStore.NONE, store.getOwner(1, 64, 2));
+        store.setOwner(1, 64, 2, 5);
+        assertEquals(5, store.getOwner(1, 64, 2));
+        assertEquals(TrackedBlockStore.NONE, store.getNotifier(1, 64, 2));
+        store.setNotifier(1, 64, 2, 7);
+        assertEquals(7, store.getNotifier(1, 64, 2));
+        assertEquals(1, store.size());
+
+        // Positions outside of the build height
+        store.set(15, 300, 15, 1, 2);
+        store.set(0, -5, 0, 3, 4);
+        assertEquals(1, store.getOwner(15, 300, 15));
+        assertEquals(4, store.getNotifier(0, -5, 0));
+        assertEquals(3, store.size());
+
+        assertTrue(store.remove(1, 64, 2));
+        assertFalse(store.contains(1, 64, 2));
+        assertFalse(store.remove(1, 64, 2));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    public void testHeavilyBuiltChunk() {
+        // Every block of the lower half of the chunk is tracked
+        final TrackedBlockStore store = new TrackedBlockStore();
+        for (int y = 0; y < 128; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    store.set(x, y, z, y, x + z);
+                }
+            }
+        }
+        assertEquals(128 * 256, store.size());
+
+        // Remove a random half, which shifts the probed entries of the tables
+        final Random random = new Random(0);
+        final boolean[] removed = new boolean[128 * 256];
+        for (int i = 0; i < removed.length; i++) {
+            if (random.nextBoolean()) {
+                removed[i] = true;
+                assertTrue(store.remove(i & 0xF, i >> 8, (i >> 4) & 0xF));
+            }
+        }
+
+        final TrackedBlockStore copy = TrackedBlockStore.fromPackedArray(store.toPackedArray());
+        assertEquals(store.size(), copy.size());
+        for (int i = 0; i < removed.length; i++) {
+            final int x = i & 0xF;
+            final int y = i >> 8;
+            final int z = (i >> 4) & 0xF;
+            assertEquals(!removed[i], copy.contains(x, y, z));
+            if (!removed[i]) {
+                assertEquals(y, copy.getOwner(x, y, z));
+                assertEquals(x + z, copy.getNotifier(x, y, z));
+            }
+        }
+    }
+
+    @Test
+    public void testPackedArrayDropsUntrackedBlocks() {
+        final TrackedBlockStore store = new TrackedBlockStore();
+        store.set(3, 10, 4, TrackedBlockStore.NONE, TrackedBlockStore.NONE);
+        store.set(3, 11, 4, 0, TrackedBlockStore.NONE);
+        store.set(2, -70, 9, TrackedBlockStore.NONE, 8);
+
+        final TrackedBlockStore copy = TrackedBlockStore.fromPackedArray(store.toPackedArray());
+        assertEquals(2, copy.size());
+        assertFalse(copy.contains(3, 10, 4));
+        assertEquals(0, copy.getOwner(3, 11, 4));
+        assertEquals(8, copy.getNotifier(2, -70, 9));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent.worker;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ParallelVolumeTasksTest {
+
+    private static final Vector3i MIN = new Vector3i(-37, 3, 11);
+    private static final Vector3i MAX = new Vector3i(60, 70, 140);
+
+    @Test
+    public void testReduceMatchesSequential() {
+        long expected = 0;
+        for (int z = MIN.getZ(); z <= MAX.getZ(); z++) {
+            for (int y = MIN.getY(); y <= MAX.getY(); y++) {
+                for (int x = MIN.getX(); x <= MAX.getX(); x++) {
+                    expected += hash(x, y, z);
+                }
+            }
+        }
+        final long actual = ParallelVolumeTasks.reduce(MIN, MAX, (x, y, z, sum) -> sum + hash(x, y, z), Long::sum, 0L);
+        Assert.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testReduceKeepsEncounterOrder() {
+        // Polynomial hash of the voxel sequence, its merge is associative but not commutative
+        long expected = 0;
+        for (int z = MIN.getZ(); z <= MAX.getZ(); z++) {
+            for (int y = MIN.getY(); y <= MAX.getY(); y++) {
+                for (int x = MIN.getX(); x <= MAX.getX(); x++) {
+                    expected = expected * 31 + hash(x, y, z);
+                }
+            }
+        }
+        final long[] actual = ParallelVolumeTasks.reduce(MIN, MAX,
+                (x, y, z, state) -> new long[] {state[0] * 31 + hash(x, y, z), state[1] * 31},
+                (first, second) -> new long[] {first[0] * second[1] + second[0], first[1] * second[1]}, new long[] {0, 1});
+        Assert.assertEquals(expected, actual[0]);
+    }
+
+    @Test
+    public void testIterateVisitsEachVoxelOnce() {
+        final Vector3i size = MAX.sub(MIN).add(Vector3i.ONE);
+        final AtomicIntegerArray visits = new AtomicIntegerArray(size.getX() * size.getY() * size.getZ());
+        ParallelVolumeTasks.iterate(MIN, MAX, (x, y, z) ->
+                visits.incrementAndGet(((z - MIN.getZ()) * size.getY() + (y - MIN.getY())) * size.getX() + (x - MIN.getX())));
+        for (int i = 0; i < visits.length(); i++) {
+            Assert.assertEquals(1, visits.get(i));
+        }
+    }
+
+    @Test
+    public void testSplitAxis() {
+        Assert.assertEquals(-1, ParallelVolumeTasks.splitAxis(16, 16, 16));
+        Assert.assertEquals(0, ParallelVolumeTasks.splitAxis(64, 16, 16));
+        Assert.assertEquals(1, ParallelVolumeTasks.splitAxis(16, 256, 16));
+        Assert.assertEquals(2, ParallelVolumeTasks.splitAxis(16, 16, 17));
+    }
+
+    @Test
+    public void testReduceSplitAxis() {
+        Assert.assertEquals(-1, ParallelVolumeTasks.reduceSplitAxis(16, 16, 16));
+        Assert.assertEquals(2, ParallelVolumeTasks.reduceSplitAxis(64, 16, 16));
+        Assert.assertEquals(1, ParallelVolumeTasks.reduceSplitAxis(16, 512, 1));
+        Assert.assertEquals(0, ParallelVolumeTasks.reduceSplitAxis(8192, 1, 1));
+    }
+
+    @Test
+    public void testSharedIdentity() {
+        Assert.assertTrue(ParallelVolumeTasks.isSharedIdentity(null));
+        Assert.assertTrue(ParallelVolumeTasks.isSharedIdentity(0L));
+        Assert.assertTrue(ParallelVolumeTasks.isSharedIdentity(Vector3i.ZERO));
+        Assert.assertFalse(ParallelVolumeTasks.isSharedIdentity(new long[] {0, 1}));
+        Assert.assertFalse(ParallelVolumeTasks.isSharedIdentity(new ArrayList<>()));
+        Assert.assertFalse(ParallelVolumeTasks.isSharedIdentity(new AtomicLong()));
+    }
+
+    private static long hash(int x, int y, int z) {
+        return (x * 31L + y) * 31L + z;
+    }
+
+}